@@ -0,0 +1,135 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nager 공휴일 응답 디코딩 - 본문 전체를 합쳐 배열/리스트로 읽기 vs 토큰 스트림으로 원소 단위 디코딩
+ * 50개국 1년치 응답을 8KB 단위 버퍼로 나눠 네트워크 수신처럼 흘려보낸다.
+ * 원소 단위 디코딩은 원소마다 TokenBuffer를 거치므로 응답이 작은 Nager API에서는 할당과 시간이 모두 더 크다.
+ * perCountry는 국가별 응답 50개, combined는 같은 내용을 하나의 배열로 합친 응답이다.
+ * 할당량은 -PjmhProfilers=gc 로 실행해 gc.alloc.rate.norm 으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NagerDecodeBenchmark {
+
+    private static final int COUNTRY_COUNT = 50;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final ResolvableType ARRAY_TYPE = ResolvableType.forClass(HolidayDto[].class);
+    private static final ResolvableType LIST_TYPE = ResolvableType.forClassWithGenerics(List.class, HolidayDto.class);
+    private static final ResolvableType ELEMENT_TYPE = ResolvableType.forClass(HolidayDto.class);
+
+    private static final String[] NAMES = {
+            "New Year's Day", "Independence Day", "Labour Day", "Christmas Day", "Easter Monday", "Good Friday",
+            "National Day", "Victory Day", "Constitution Day", "Children's Day", "Memorial Day", "Ascension Day",
+            "Whit Monday", "Assumption Day", "All Saints' Day", "Boxing Day", "Thanksgiving Day", "Republic Day"
+    };
+
+    @Param({"perCountry", "combined"})
+    public String shape;
+
+    private List<byte[]> payloads;
+    private Jackson2JsonDecoder decoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        decoder = new Jackson2JsonDecoder(objectMapper);
+        decoder.setMaxInMemorySize(1024 * 1024);
+
+        Random random = new Random(42);
+        List<List<HolidayDto>> countries = new ArrayList<>();
+        for (int i = 0; i < COUNTRY_COUNT; i++) {
+            countries.add(holidays(random, "C" + (char) ('A' + i / 26) + (char) ('A' + i % 26)));
+        }
+
+        payloads = new ArrayList<>();
+        if ("combined".equals(shape)) {
+            payloads.add(objectMapper.writeValueAsBytes(countries.stream().flatMap(List::stream).toList()));
+        } else {
+            for (List<HolidayDto> country : countries) {
+                payloads.add(objectMapper.writeValueAsBytes(country));
+            }
+        }
+    }
+
+    @Benchmark
+    public int bufferedArray() {
+        int count = 0;
+        for (byte[] payload : payloads) {
+            HolidayDto[] array = (HolidayDto[]) decoder.decodeToMono(chunks(payload), ARRAY_TYPE, null, null).block();
+            List<HolidayDto> holidays = Arrays.asList(array);
+            count += holidays.size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int bufferedList() {
+        int count = 0;
+        for (byte[] payload : payloads) {
+            List<HolidayDto> holidays = (List<HolidayDto>) decoder.decodeToMono(chunks(payload), LIST_TYPE, null, null).block();
+            count += holidays.size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int streaming() {
+        int count = 0;
+        for (byte[] payload : payloads) {
+            List<HolidayDto> holidays = decoder.decode(chunks(payload), ELEMENT_TYPE, null, null)
+                    .cast(HolidayDto.class)
+                    .collectList()
+                    .block();
+            count += holidays.size();
+        }
+        return count;
+    }
+
+    private Flux<DataBuffer> chunks(byte[] payload) {
+        return Flux.range(0, (payload.length + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                .map(i -> {
+                    int from = i * CHUNK_SIZE;
+                    byte[] chunk = Arrays.copyOfRange(payload, from, Math.min(from + CHUNK_SIZE, payload.length));
+                    return DefaultDataBufferFactory.sharedInstance.wrap(chunk);
+                });
+    }
+
+    private List<HolidayDto> holidays(Random random, String countryCode) {
+        int count = 12 + random.nextInt(14);
+        List<HolidayDto> holidays = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean regional = random.nextInt(5) == 0;
+            holidays.add(HolidayDto.builder()
+                    .date(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)))
+                    .localName(NAMES[random.nextInt(NAMES.length)] + " (local)")
+                    .name(NAMES[random.nextInt(NAMES.length)])
+                    .countryCode(countryCode)
+                    .fixed(random.nextBoolean())
+                    .global(!regional)
+                    .counties(regional ? List.of(countryCode + "-01", countryCode + "-02", countryCode + "-07") : null)
+                    .launchYear(random.nextInt(4) == 0 ? 1950 + random.nextInt(60) : null)
+                    .types(random.nextInt(6) == 0 ? List.of("Public", "Bank") : List.of("Public"))
+                    .build());
+        }
+        return holidays;
+    }
+}
@@ -0,0 +1,98 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 내장 H2 - 애플리케이션과 같은 Flyway 마이그레이션으로 스키마를 만든다
+ * 스프링 컨텍스트 없이 JdbcTemplate과 (필요하면) EntityManager만 구성한다.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String[] NAMES = {
+            "New Year's Day", "Independence Day", "Labour Day", "Christmas Day", "Easter Monday", "Good Friday",
+            "National Day", "Victory Day", "Constitution Day", "Children's Day", "Memorial Day", "Ascension Day"
+    };
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private EntityManagerFactory entityManagerFactory;
+
+    public BenchmarkDatabase() {
+        DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        driverManagerDataSource.setDriverClassName("org.h2.Driver");
+        this.dataSource = driverManagerDataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public EntityManager createEntityManager() {
+        if (entityManagerFactory == null) {
+            LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setPackagesToScan(Holiday.class.getPackageName());
+            factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+            factoryBean.afterPropertiesSet();
+            entityManagerFactory = factoryBean.getObject();
+        }
+        return entityManagerFactory.createEntityManager();
+    }
+
+    public void truncate() {
+        jdbcTemplate.execute("DELETE FROM holiday");
+    }
+
+    /**
+     * 200개국 2000년부터 날짜가 겹치지 않는 공휴일 count 개
+     */
+    public static List<Holiday> holidays(int count, long seed) {
+        Random random = new Random(seed);
+        List<Holiday> holidays = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int country = i % 200;
+            boolean regional = random.nextInt(5) == 0;
+            holidays.add(Holiday.builder()
+                    .countryCode("" + (char) ('A' + country / 26) + (char) ('A' + country % 26))
+                    .countryName("Country " + country)
+                    .date(LocalDate.of(2000, 1, 1).plusDays(i / 200))
+                    .localName(NAMES[random.nextInt(NAMES.length)] + " (local)")
+                    .name(NAMES[random.nextInt(NAMES.length)])
+                    .fixed(random.nextBoolean())
+                    .global(!regional)
+                    .launchYear(random.nextInt(4) == 0 ? 2020 + random.nextInt(6) : null)
+                    .types("Public")
+                    .counties(regional ? "XX-01,XX-02" : null)
+                    .build());
+        }
+        return holidays;
+    }
+
+    @Override
+    public void close() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+}
@@ -0,0 +1,48 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 배치 INSERT - 내장 H2에 1천/1만/10만 행 저장
+ * 매 측정 전에 테이블을 비우므로 한 번 실행하는 시간(SingleShotTime)을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HolidayBulkInsertBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private HolidayBulkRepository holidayBulkRepository;
+    private List<Holiday> holidays;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        holidayBulkRepository = new HolidayBulkRepository(database.jdbcTemplate());
+        holidays = BenchmarkDatabase.holidays(rows, 42);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        database.truncate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public int bulkInsert() {
+        return holidayBulkRepository.bulkInsert(holidays);
+    }
+}
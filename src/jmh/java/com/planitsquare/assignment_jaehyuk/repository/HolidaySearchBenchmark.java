@@ -0,0 +1,86 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.search.HolidayTextIndex;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고급 검색(QueryDSL) - 10만 행 내장 H2에서 조건 조합별 첫 페이지 조회 (목록 + 필요 시 COUNT)
+ * 이름/국가명 조건은 값 사전에서 찾은 값 목록 IN 조건(일치 값이 많으면 LIKE '%x%'), 날짜 범위는 (date, id) 인덱스를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HolidaySearchBenchmark {
+
+    private static final int ROW_COUNT = 100_000;
+
+    @Param({"none", "countryName", "dateRange", "localName", "name", "global", "launchYear", "all"})
+    public String predicates;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private HolidayRepositoryImpl holidayRepository;
+    private HolidaySearchCondition condition;
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        new HolidayBulkRepository(database.jdbcTemplate()).bulkInsert(BenchmarkDatabase.holidays(ROW_COUNT, 42));
+
+        entityManager = database.createEntityManager();
+        holidayRepository = new HolidayRepositoryImpl(new JPAQueryFactory(entityManager),
+                new HolidayTextIndex(new HolidayRowRepository(database.jdbcTemplate()), true, 500, 50));
+        condition = condition(predicates);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Page<HolidayResponse> search() {
+        Page<HolidayResponse> page = holidayRepository.searchHolidayListWithSearchCondition(condition, pageable);
+        // 조회한 엔티티가 없어도 영속성 컨텍스트를 매번 비워 측정 사이에 상태가 남지 않게 한다
+        entityManager.clear();
+        return page;
+    }
+
+    private static HolidaySearchCondition condition(String predicates) {
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        boolean all = "all".equals(predicates);
+
+        if (all || "countryName".equals(predicates)) {
+            condition.setCountryName("Country 1");
+        }
+        if (all || "dateRange".equals(predicates)) {
+            condition.setStartDate(LocalDate.of(2000, 3, 1));
+            condition.setEndDate(LocalDate.of(2000, 3, 31));
+        }
+        if (all || "localName".equals(predicates)) {
+            condition.setLocalName("Day (local)");
+        }
+        if (all || "name".equals(predicates)) {
+            condition.setName("Christmas");
+        }
+        if (all || "global".equals(predicates)) {
+            condition.setGlobal(false);
+        }
+        if (all || "launchYear".equals(predicates)) {
+            condition.setLaunchYear(2024);
+        }
+        return condition;
+    }
+}
@@ -0,0 +1,68 @@
+package com.planitsquare.assignment_jaehyuk.scheduler;
+
+import com.planitsquare.assignment_jaehyuk.util.VirtualThreadUtils;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 국가/연도 동기화 실행 방식 비교 - Reactor boundedElastic vs 가상 스레드
+ * 각 작업은 외부 API 호출과 DB 저장을 흉내 내는 50ms 블로킹이며, 두 방식 모두 동시 실행 한도는 작업 수와 같다.
+ * 공용 boundedElastic 은 스레드가 CPU 수 × 10 개로 제한되므로, 작업 수만큼 스레드를 둔 전용 스케줄러를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SyncExecutionBenchmark {
+
+    private static final long BLOCKING_MILLIS = 50;
+
+    @Param({"30", "120", "500"})
+    public int countryYears;
+
+    private List<Integer> tasks;
+    private Scheduler elastic;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = IntStream.range(0, countryYears).boxed().toList();
+        elastic = Schedulers.newBoundedElastic(countryYears, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "bench-elastic");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        elastic.dispose();
+    }
+
+    @Benchmark
+    public Integer boundedElastic() {
+        return Flux.fromIterable(tasks)
+                .flatMap(task -> Mono.fromCallable(() -> blockingCall(task))
+                        .subscribeOn(elastic), countryYears)
+                .reduce(0, Integer::sum)
+                .block();
+    }
+
+    @Benchmark
+    public int virtualThreads() {
+        return VirtualThreadUtils.invokeAll("bench-", tasks, countryYears, SyncExecutionBenchmark::blockingCall)
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    private static int blockingCall(int task) {
+        try {
+            Thread.sleep(BLOCKING_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,145 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.repository.BenchmarkDatabase;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRepositoryImpl;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100만 행 내장 H2 포함 검색 - LIKE '%x%' 전체 스캔 vs 값 사전(trigram) + IN 조건
+ * 두 방식 모두 같은 고급 검색(HolidayRepositoryImpl, 첫 페이지 + COUNT)을 실행하고 포함 조건만 다르다.
+ * 이름/현지명은 실제 데이터처럼 종류가 적은(각 5천 개) 값이 여러 국가/연도에 반복된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TrigramSearchBenchmark {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int DISTINCT_VALUES = 5_000;
+    private static final int INSERT_CHUNK = 50_000;
+
+    private static final String[] WORDS = {
+            "New", "Year", "Day", "Independence", "Labour", "Christmas", "Easter", "Monday", "Good", "Friday",
+            "National", "Harvest", "Moon", "Spring", "Festival", "King", "Queen", "Birthday", "Victory", "Republic",
+            "Constitution", "Memorial", "Liberation", "Children", "Teachers", "Thanksgiving", "Ascension", "Whit",
+            "Assumption", "Saints", "Boxing", "Unity", "Heroes", "Martyrs", "Revolution", "Flag", "Army", "Youth"
+    };
+
+    private static final String[] SYLLABLES = {
+            "설", "날", "추", "석", "광", "복", "절", "개", "천", "한", "글", "성", "탄", "어", "린", "이", "현", "충", "일", "신", "정"
+    };
+
+    @Param({"Harvest Moon", "Day", "광복절", "축제"})
+    public String keyword;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private HolidayRepositoryImpl likeRepository;
+    private HolidayRepositoryImpl indexedRepository;
+    private HolidaySearchCondition condition;
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        insertHolidays(new HolidayBulkRepository(database.jdbcTemplate()));
+
+        entityManager = database.createEntityManager();
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        HolidayRowRepository holidayRowRepository = new HolidayRowRepository(database.jdbcTemplate());
+        likeRepository = new HolidayRepositoryImpl(queryFactory,
+                new HolidayTextIndex(holidayRowRepository, false, 500, 50));
+        indexedRepository = new HolidayRepositoryImpl(queryFactory,
+                new HolidayTextIndex(holidayRowRepository, true, 500, 50));
+
+        condition = new HolidaySearchCondition();
+        if (isKorean()) {
+            condition.setLocalName(keyword);
+        } else {
+            condition.setName(keyword);
+        }
+
+        // 사전 적재는 첫 검색에서 한 번만 일어나므로 측정에서 제외하고, 두 방식의 결과 건수가 같은지 확인
+        long expected = like();
+        if (indexed() != expected) {
+            throw new IllegalStateException("LIKE 와 값 사전 검색 결과가 다름 - keyword: " + keyword);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public long like() {
+        return search(likeRepository);
+    }
+
+    @Benchmark
+    public long indexed() {
+        return search(indexedRepository);
+    }
+
+    private long search(HolidayRepositoryImpl repository) {
+        Page<HolidayResponse> page = repository.searchHolidayListWithSearchCondition(condition, pageable);
+        entityManager.clear();
+        return page.getTotalElements();
+    }
+
+    private static void insertHolidays(HolidayBulkRepository bulkRepository) {
+        Random random = new Random(42);
+        String[] names = new String[DISTINCT_VALUES];
+        String[] localNames = new String[DISTINCT_VALUES];
+        for (int i = 0; i < DISTINCT_VALUES; i++) {
+            names[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            localNames[i] = SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                    + SYLLABLES[random.nextInt(SYLLABLES.length)] + " " + i;
+        }
+
+        List<Holiday> chunk = new ArrayList<>(INSERT_CHUNK);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            int country = i % 200;
+            chunk.add(Holiday.builder()
+                    .countryCode("" + (char) ('A' + country / 26) + (char) ('A' + country % 26))
+                    .countryName("Country " + country)
+                    .date(LocalDate.of(2000, 1, 1).plusDays(i / 200))
+                    .localName(localNames[random.nextInt(DISTINCT_VALUES)])
+                    .name(names[random.nextInt(DISTINCT_VALUES)])
+                    .fixed(random.nextBoolean())
+                    .global(random.nextInt(5) != 0)
+                    .types("Public")
+                    .build());
+
+            if (chunk.size() == INSERT_CHUNK) {
+                bulkRepository.bulkInsert(chunk);
+                chunk.clear();
+            }
+        }
+        bulkRepository.bulkInsert(chunk);
+    }
+
+    private boolean isKorean() {
+        return keyword.codePoints().anyMatch(codePoint ->
+                Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL);
+    }
+}
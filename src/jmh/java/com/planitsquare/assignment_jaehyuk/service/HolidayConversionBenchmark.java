@@ -0,0 +1,89 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.util.StringArrayUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 저장 전 변환 - HolidayDto → Holiday (convertToEntityBulk), types/counties 문자열 변환 (StringArrayUtils)
+ * 50개국 6년치(약 6천 건) 한 번 변환하는 시간이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HolidayConversionBenchmark {
+
+    private static final int COUNTRY_COUNT = 50;
+    private static final int HOLIDAYS_PER_COUNTRY_YEAR = 20;
+
+    private List<HolidayDto> holidayDtos;
+    private Map<String, String> countryNameMap;
+    private List<String> joinedCounties;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        holidayDtos = new ArrayList<>();
+        countryNameMap = new HashMap<>();
+
+        for (int country = 0; country < COUNTRY_COUNT; country++) {
+            String countryCode = "" + (char) ('A' + country / 26) + (char) ('A' + country % 26);
+            countryNameMap.put(countryCode, "Country " + country);
+
+            for (int year = 2020; year <= 2025; year++) {
+                for (int i = 0; i < HOLIDAYS_PER_COUNTRY_YEAR; i++) {
+                    boolean regional = random.nextInt(5) == 0;
+                    holidayDtos.add(HolidayDto.builder()
+                            .countryCode(countryCode)
+                            .date(LocalDate.of(year, 1, 1).plusDays(i * 17L))
+                            .localName("Holiday " + i + " (local)")
+                            .name("Holiday " + i)
+                            .fixed(random.nextBoolean())
+                            .global(!regional)
+                            .counties(regional ? List.of(countryCode + "-01", countryCode + "-02", countryCode + "-07") : null)
+                            .types(random.nextInt(6) == 0 ? List.of("Public", "Bank") : List.of("Public"))
+                            .build());
+                }
+            }
+        }
+
+        joinedCounties = holidayDtos.stream()
+                .map(dto -> StringArrayUtils.joinFromList(dto.getCounties()))
+                .toList();
+    }
+
+    @Benchmark
+    public void convertToEntityBulk(Blackhole blackhole) {
+        LocalDateTime now = LocalDateTime.now();
+        for (HolidayDto dto : holidayDtos) {
+            Holiday holiday = HolidayService.convertToEntityBulk(dto, countryNameMap, now);
+            blackhole.consume(holiday);
+        }
+    }
+
+    @Benchmark
+    public void joinFromList(Blackhole blackhole) {
+        for (HolidayDto dto : holidayDtos) {
+            blackhole.consume(StringArrayUtils.joinFromList(dto.getCounties()));
+            blackhole.consume(StringArrayUtils.joinFromList(dto.getTypes()));
+        }
+    }
+
+    @Benchmark
+    public void splitToList(Blackhole blackhole) {
+        for (String counties : joinedCounties) {
+            blackhole.consume(StringArrayUtils.splitToList(counties));
+        }
+    }
+}
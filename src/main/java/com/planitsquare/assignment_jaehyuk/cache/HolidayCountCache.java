@@ -0,0 +1,86 @@
+package com.planitsquare.assignment_jaehyuk.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.LongSupplier;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 고급 검색 전체 건수 캐시
+ * 정렬/페이지와 무관하게 검색 조건만으로 키를 만들고, 짧은 TTL과 변경 이벤트로 무효화한다.
+ */
+@Slf4j
+@Component
+public class HolidayCountCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "holidayCount";
+
+    private final Cache<Key, Long> cache;
+
+    public HolidayCountCache(@Value("${holiday.cache.count.max-size:10000}") long maxSize,
+                             @Value("${holiday.cache.count.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public long get(HolidaySearchCondition searchCondition, LongSupplier counter) {
+        return cache.get(Key.of(searchCondition), key -> counter.getAsLong());
+    }
+
+    /**
+     * 건수는 여러 국가/연도에 걸쳐 있으므로 변경이 있으면 전체 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        if (event.countryYears().isEmpty()) {
+            return;
+        }
+        cache.invalidateAll();
+        log.debug("공휴일 건수 캐시 무효화 - 대상: {}", event.countryYears());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 건수에 영향을 주는 조건만 포함 - 빈 문자열은 조건 없음과 같다
+     */
+    private record Key(String countryName, LocalDate startDate, LocalDate endDate, String localName, String name,
+                       Boolean global, Boolean fixed, Integer launchYear) {
+
+        static Key of(HolidaySearchCondition condition) {
+            return new Key(
+                    normalize(condition.getCountryName()),
+                    condition.getStartDate(),
+                    condition.getEndDate(),
+                    normalize(condition.getLocalName()),
+                    normalize(condition.getName()),
+                    condition.getGlobal(),
+                    condition.getFixed(),
+                    condition.getLaunchYear()
+            );
+        }
+
+        private static String normalize(String value) {
+            return hasText(value) ? value : null;
+        }
+    }
+}
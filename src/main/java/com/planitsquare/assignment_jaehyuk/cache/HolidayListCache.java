@@ -0,0 +1,100 @@
+package com.planitsquare.assignment_jaehyuk.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent.CountryYear;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 국가/연도 기본 검색 결과 캐시
+ * 공휴일 수 기준으로 크기를 제한하고, 데이터가 변경된 국가/연도의 항목만 무효화한다.
+ */
+@Slf4j
+@Component
+public class HolidayListCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "holidayList";
+
+    private final Cache<Key, Entry> cache;
+
+    // 조회 중 무효화된 결과가 다시 저장되지 않도록 국가/연도 별 세대 번호를 함께 기록
+    private final Map<CountryYear, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public HolidayListCache(@Value("${holiday.cache.list.max-weight:50000}") long maxWeight,
+                            @Value("${holiday.cache.list.expire-after-write:1h}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, Entry entry) -> entry.page().getNumberOfElements() + 1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public Page<HolidayResponse> get(String countryCode, int year, Pageable pageable,
+                                     Supplier<Page<HolidayResponse>> loader) {
+        Key key = Key.of(countryCode, year, pageable);
+        long generation = generationOf(key.countryYear()).get();
+
+        Entry entry = cache.get(key, k -> new Entry(generation, loader.get()));
+        if (entry.generation() == generation) {
+            return entry.page();
+        }
+
+        Entry reloaded = new Entry(generation, loader.get());
+        cache.put(key, reloaded);
+        return reloaded.page();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        event.countryYears().forEach(countryYear -> generationOf(countryYear).incrementAndGet());
+        cache.asMap().keySet().removeIf(key -> event.countryYears().contains(key.countryYear()));
+
+        log.debug("공휴일 목록 캐시 무효화 - 대상: {}", event.countryYears());
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private AtomicLong generationOf(CountryYear countryYear) {
+        return generations.computeIfAbsent(countryYear, k -> new AtomicLong());
+    }
+
+    private record Key(String countryCode, int year, int page, int size, String sort) {
+
+        static Key of(String countryCode, int year, Pageable pageable) {
+            return new Key(countryCode, year,
+                    pageable.isPaged() ? pageable.getPageNumber() : -1,
+                    pageable.isPaged() ? pageable.getPageSize() : -1,
+                    pageable.getSort().toString());
+        }
+
+        CountryYear countryYear() {
+            return new CountryYear(countryCode, year);
+        }
+    }
+
+    private record Entry(long generation, Page<HolidayResponse> page) {}
+}
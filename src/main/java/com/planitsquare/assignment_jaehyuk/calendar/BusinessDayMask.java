@@ -0,0 +1,121 @@
+package com.planitsquare.assignment_jaehyuk.calendar;
+
+import java.time.LocalDate;
+
+/**
+ * 1년치 휴무일 비트맵 (공휴일 + 주말) - 비트가 0인 날이 영업일이다
+ * 날짜 확인은 비트 하나, 구간 영업일 수와 n번째 영업일 찾기는 long 단위 popcount로 처리한다.
+ * 일 번호(day)는 1월 1일 = 0 이다.
+ */
+public final class BusinessDayMask {
+
+    private final int year;
+    private final int length;
+    private final long[] closed;
+
+    BusinessDayMask(int year, int length, long[] closed) {
+        this.year = year;
+        this.length = length;
+        this.closed = closed;
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isBusinessDay(int day) {
+        return (closed[day >>> 6] & (1L << day)) == 0;
+    }
+
+    /**
+     * [from, to] 구간의 영업일 수 - 연도를 벗어난 부분은 잘라낸다
+     */
+    public int countBusinessDays(int from, int to) {
+        from = Math.max(from, 0);
+        to = Math.min(to, length - 1);
+        if (from > to) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int word = from >>> 6; word <= to >>> 6; word++) {
+            long range = -1L;
+            if (word == from >>> 6) {
+                range &= -1L << (from & 63);
+            }
+            if (word == to >>> 6) {
+                range &= -1L >>> (63 - (to & 63));
+            }
+            count += Long.bitCount(~closed[word] & range);
+        }
+        return count;
+    }
+
+    /**
+     * from 다음 날부터 n번째(1부터) 영업일 - 올해 안에 없으면 -1 (from = -1 이면 1월 1일부터)
+     */
+    public int nthBusinessDayAfter(int from, int n) {
+        int start = from + 1;
+        if (start >= length) {
+            return -1;
+        }
+
+        for (int word = start >>> 6; word < closed.length; word++) {
+            long open = ~closed[word];
+            if (word == start >>> 6) {
+                open &= -1L << (start & 63);
+            }
+
+            int count = Long.bitCount(open);
+            if (count < n) {
+                n -= count;
+                continue;
+            }
+            for (int i = 1; i < n; i++) {
+                open &= open - 1;
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(open);
+        }
+        return -1;
+    }
+
+    /**
+     * from 전날부터 거꾸로 n번째(1부터) 영업일 - 올해 안에 없으면 -1 (from = length 이면 12월 31일부터)
+     */
+    public int nthBusinessDayBefore(int from, int n) {
+        int end = Math.min(from, length) - 1;
+        if (end < 0) {
+            return -1;
+        }
+
+        for (int word = end >>> 6; word >= 0; word--) {
+            long open = ~closed[word];
+            if (word == end >>> 6) {
+                open &= -1L >>> (63 - (end & 63));
+            }
+
+            int count = Long.bitCount(open);
+            if (count < n) {
+                n -= count;
+                continue;
+            }
+            for (int i = 1; i < n; i++) {
+                open &= ~Long.highestOneBit(open);
+            }
+            return (word << 6) + 63 - Long.numberOfLeadingZeros(open);
+        }
+        return -1;
+    }
+
+    public LocalDate date(int day) {
+        return LocalDate.ofYearDay(year, day + 1);
+    }
+
+    public static int dayOf(LocalDate date) {
+        return date.getDayOfYear() - 1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.planitsquare.assignment_jaehyuk.calendar;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayCalendarRow;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent.CountryYear;
+import com.planitsquare.assignment_jaehyuk.util.DateUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 국가/연도별 휴일 비트맵 캐시
+ * 처음 조회할 때 holiday 테이블에서 만들고, 공휴일이 변경된 국가/연도만 무효화한다.
+ * 적재 중인 키를 무효화하면 적재가 끝난 뒤 제거되므로 변경 전 데이터가 남지 않는다.
+ */
+@Slf4j
+@Component
+public class HolidayCalendar implements MeterBinder {
+
+    public static final String CACHE_NAME = "holidayCalendar";
+
+    private final HolidayRowRepository holidayRowRepository;
+    private final Cache<CountryYear, HolidayYearBitmap> cache;
+
+    public HolidayCalendar(HolidayRowRepository holidayRowRepository,
+                           @Value("${holiday.business-day.cache.max-size:2000}") long maxSize) {
+        this.holidayRowRepository = holidayRowRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 국가/연도 비트맵 - 공휴일 데이터가 없으면 영업일을 판단할 수 없으므로 예외
+     */
+    public HolidayYearBitmap get(String countryCode, int year) {
+        HolidayYearBitmap bitmap = cache.get(new CountryYear(countryCode, year), this::load);
+        if (bitmap == null) {
+            throw new BusinessException(ErrorCode.HOLIDAY_CALENDAR_NOT_FOUND);
+        }
+        return bitmap;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        if (event.countryYears().isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(event.countryYears());
+        log.debug("휴일 비트맵 무효화 - 대상: {}", event.countryYears());
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 데이터가 없으면 null (캐시하지 않음) - 이후 동기화로 데이터가 생기면 다시 조회한다
+     */
+    private HolidayYearBitmap load(CountryYear countryYear) {
+        DateUtils.DateRange yearRange = DateUtils.getYearRange(countryYear.year());
+        List<HolidayCalendarRow> rows = holidayRowRepository.findCalendarRows(
+                countryYear.countryCode(), yearRange.startDate(), yearRange.endDate());
+
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return HolidayYearBitmap.of(countryYear.year(), rows);
+    }
+}
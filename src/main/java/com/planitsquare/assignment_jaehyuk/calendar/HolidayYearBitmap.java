@@ -0,0 +1,121 @@
+package com.planitsquare.assignment_jaehyuk.calendar;
+
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayCalendarRow;
+import com.planitsquare.assignment_jaehyuk.util.StringArrayUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 국가 한 곳의 1년치 휴일 비트맵 - 1월 1일부터의 일 수(0 ~ 365)를 비트로 저장한다 (long 6개 = 384비트)
+ * 전국 공휴일과 지역(counties) 공휴일을 나눠 두고, 조회할 때 지역과 주말을 합쳐 BusinessDayMask를 만든다.
+ * 쉬는 날로 보는 공휴일은 종류가 없거나 Public/Bank 인 경우뿐이다 (Observance, Optional 등은 영업일).
+ */
+public final class HolidayYearBitmap {
+
+    static final int WORDS = 6;
+
+    private final int year;
+    private final int length;
+    private final long[] nationwide;
+    private final Map<String, long[]> regional;
+
+    private HolidayYearBitmap(int year, long[] nationwide, Map<String, long[]> regional) {
+        this.year = year;
+        this.length = Year.of(year).length();
+        this.nationwide = nationwide;
+        this.regional = regional;
+    }
+
+    public static HolidayYearBitmap of(int year, List<HolidayCalendarRow> rows) {
+        long[] nationwide = new long[WORDS];
+        Map<String, long[]> regional = new HashMap<>();
+
+        for (HolidayCalendarRow row : rows) {
+            if (row.date().getYear() != year || !isDayOff(row.types())) {
+                continue;
+            }
+            int day = row.date().getDayOfYear() - 1;
+
+            if (!Boolean.FALSE.equals(row.global())) {
+                set(nationwide, day);
+                continue;
+            }
+            // 적용 지역이 없는 지역 공휴일은 어느 지역에도 반영하지 않는다
+            for (String county : StringArrayUtils.splitToList(row.counties())) {
+                set(regional.computeIfAbsent(county.trim().toUpperCase(), k -> new long[WORDS]), day);
+            }
+        }
+        return new HolidayYearBitmap(year, nationwide, Map.copyOf(regional));
+    }
+
+    public int year() {
+        return year;
+    }
+
+    /**
+     * 해당 날짜가 공휴일인지 - county가 없으면 전국 공휴일만 본다
+     */
+    public boolean isHoliday(LocalDate date, String county) {
+        int day = date.getDayOfYear() - 1;
+        if (isSet(nationwide, day)) {
+            return true;
+        }
+        long[] countyDays = county != null ? regional.get(county) : null;
+        return countyDays != null && isSet(countyDays, day);
+    }
+
+    /**
+     * 공휴일(전국 + county 지역) + 주말 + 연도 밖 비트를 합친 휴무일 비트맵
+     */
+    public BusinessDayMask businessDays(String county, WeekendMask weekend) {
+        long[] closed = nationwide.clone();
+
+        long[] countyDays = county != null ? regional.get(county) : null;
+        if (countyDays != null) {
+            for (int i = 0; i < WORDS; i++) {
+                closed[i] |= countyDays[i];
+            }
+        }
+
+        int firstDay = LocalDate.of(year, 1, 1).getDayOfWeek().getValue();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (weekend.contains(day)) {
+                for (int i = Math.floorMod(day.getValue() - firstDay, 7); i < length; i += 7) {
+                    set(closed, i);
+                }
+            }
+        }
+
+        // 365/366일 이후 비트는 휴무일로 채워 범위 계산에서 빠지게 한다
+        for (int i = length; i < WORDS * Long.SIZE; i++) {
+            set(closed, i);
+        }
+        return new BusinessDayMask(year, length, closed);
+    }
+
+    private static boolean isDayOff(String types) {
+        if (types == null || types.isBlank()) {
+            return true;
+        }
+        for (String type : StringArrayUtils.splitToList(types)) {
+            String trimmed = type.trim();
+            if ("Public".equalsIgnoreCase(trimmed) || "Bank".equalsIgnoreCase(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void set(long[] words, int bit) {
+        words[bit >>> 6] |= 1L << bit;
+    }
+
+    private static boolean isSet(long[] words, int bit) {
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.planitsquare.assignment_jaehyuk.calendar;
+
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+
+import java.time.DayOfWeek;
+import java.util.StringJoiner;
+
+/**
+ * 주말 요일 집합 - 요일마다 1비트 (월요일 = 0번 비트)
+ * 문자열은 요일 이름을 쉼표 또는 | 로 구분하고, 주말이 없으면 NONE 이다. (예: SATURDAY,SUNDAY / FRIDAY|SATURDAY)
+ */
+public record WeekendMask(int bits) {
+
+    public static final WeekendMask SATURDAY_SUNDAY = of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private static final int ALL_DAYS = (1 << 7) - 1;
+
+    public WeekendMask {
+        // 모든 요일이 주말이면 영업일을 찾을 수 없다
+        if (bits < 0 || bits >= ALL_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_WEEKEND);
+        }
+    }
+
+    public static WeekendMask of(DayOfWeek... days) {
+        int bits = 0;
+        for (DayOfWeek day : days) {
+            bits |= 1 << (day.getValue() - 1);
+        }
+        return new WeekendMask(bits);
+    }
+
+    public static WeekendMask parse(String value) {
+        if (value == null || value.isBlank() || "NONE".equalsIgnoreCase(value.trim())) {
+            return new WeekendMask(0);
+        }
+
+        int bits = 0;
+        for (String token : value.split("[,|]")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            try {
+                bits |= 1 << (DayOfWeek.valueOf(token.trim().toUpperCase()).getValue() - 1);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_WEEKEND);
+            }
+        }
+        return new WeekendMask(bits);
+    }
+
+    public boolean contains(DayOfWeek day) {
+        return (bits & (1 << (day.getValue() - 1))) != 0;
+    }
+
+    @Override
+    public String toString() {
+        if (bits == 0) {
+            return "NONE";
+        }
+        StringJoiner days = new StringJoiner(",");
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (contains(day)) {
+                days.add(day.name());
+            }
+        }
+        return days.toString();
+    }
+}
@@ -0,0 +1,189 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 동시 요청 수 제한 (스레드를 막지 않음)
+ * 성공하면 한도를 1/limit 씩 늘려 한도만큼 성공할 때마다 1 증가하고, 과부하(429, 5xx, 타임아웃)면 backoffRatio 배로 줄인다.
+ * 같은 한도에서 시작한 요청들이 한꺼번에 실패해도 한 번만 줄이도록 한도가 바뀐 뒤 시작한 요청의 과부하만 반영한다.
+ * 대기 중인 요청이 maxWaiters 개면 더 기다리게 하지 않고 RejectedExecutionException으로 거절한다 (bulkhead).
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    enum Outcome {
+        SUCCESS,
+        OVERLOAD,
+        // 한도 조정 없이 반환 (취소 등)
+        IGNORE
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final int maxWaiters;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long generation;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, backoffRatio, Integer.MAX_VALUE);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, int maxWaiters) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1 || maxWaiters < 0) {
+            throw new IllegalArgumentException("잘못된 동시성 한도 설정입니다");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.maxWaiters = maxWaiters;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * 한도 안에서 허가를 받으면 완료되는 Mono - 한도가 가득 차면 반환되는 허가를 순서대로 기다린다.
+     */
+    Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            Permit permit = null;
+            boolean rejected = false;
+
+            lock.lock();
+            try {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                    permit = new Permit(generation);
+                } else if (waiters.size() >= maxWaiters) {
+                    rejected = true;
+                } else {
+                    waiters.addLast(waiter);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (permit != null) {
+                sink.success(permit);
+            } else if (rejected) {
+                sink.error(new RejectedExecutionException("동시 요청 대기열이 가득 찼습니다: " + maxWaiters));
+            } else {
+                sink.onCancel(() -> cancel(waiter));
+            }
+        });
+    }
+
+    int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getWaiting() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit granted;
+
+        lock.lock();
+        try {
+            if (waiters.remove(waiter)) {
+                return;
+            }
+            granted = waiter.permit;
+        } finally {
+            lock.unlock();
+        }
+
+        // 허가를 받은 직후 취소되었으면 돌려준다
+        if (granted != null) {
+            granted.release(Outcome.IGNORE);
+        }
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        List<Waiter> granted = new ArrayList<>();
+
+        lock.lock();
+        try {
+            inFlight--;
+
+            if (outcome == Outcome.SUCCESS) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            } else if (outcome == Outcome.OVERLOAD && permit.generation == generation) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                generation++;
+            }
+
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                Waiter waiter = waiters.pollFirst();
+                inFlight++;
+                waiter.permit = new Permit(generation);
+                granted.add(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        granted.forEach(waiter -> waiter.sink.success(waiter.permit));
+    }
+
+    /**
+     * 동시 요청 허가 - 여러 번 반환해도 처음 한 번만 반영된다.
+     */
+    final class Permit {
+
+        private final long generation;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+
+        void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release(this, outcome);
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
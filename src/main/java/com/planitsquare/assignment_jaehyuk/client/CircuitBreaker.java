@@ -0,0 +1,186 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 수 기반 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN → CLOSED)
+ * CLOSED에서는 최근 windowSize 개 요청의 실패율이 기준 이상이면 OPEN으로 바뀌어 openDuration 동안 요청을 바로 거절한다.
+ * 이후 HALF_OPEN에서 시험 요청 halfOpenPermits 개가 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN이다.
+ * 상태가 바뀌기 전에 시작한 요청의 결과는 새 상태에 반영하지 않는다.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenPermits;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] failures;
+    private State state = State.CLOSED;
+    private long generation;
+    private int recorded;
+    private int failureCount;
+    private int nextSlot;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+                   int halfOpenPermits) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenPermits, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+                   int halfOpenPermits, LongSupplier nanoClock) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || halfOpenPermits < 1
+                || failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("잘못된 서킷 브레이커 설정입니다");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenPermits = halfOpenPermits;
+        this.nanoClock = nanoClock;
+        this.failures = new boolean[windowSize];
+    }
+
+    /**
+     * 요청 허용 여부 - 허용되면 결과를 알려줄 Permission, 거절되면 null
+     */
+    Permission tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+                transitionTo(State.HALF_OPEN);
+            }
+
+            return switch (state) {
+                case CLOSED -> new Permission(generation);
+                case OPEN -> null;
+                case HALF_OPEN -> {
+                    if (halfOpenIssued >= halfOpenPermits) {
+                        yield null;
+                    }
+                    halfOpenIssued++;
+                    yield new Permission(generation);
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(Permission permission, Boolean failed) {
+        lock.lock();
+        try {
+            if (permission.generation != generation) {
+                return;
+            }
+
+            if (state == State.HALF_OPEN) {
+                if (failed == null) {
+                    // 결과 없이 끝난 시험 요청은 다른 요청이 다시 시험할 수 있도록 돌려준다
+                    halfOpenIssued--;
+                } else if (failed) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenPermits) {
+                    transitionTo(State.CLOSED);
+                }
+                return;
+            }
+
+            if (state == State.CLOSED && failed != null) {
+                recordInWindow(failed);
+                if (recorded >= minimumCalls && failureCount * 100.0 / recorded >= failureRateThreshold) {
+                    transitionTo(State.OPEN);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordInWindow(boolean failed) {
+        if (recorded == windowSize) {
+            if (failures[nextSlot]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[nextSlot] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        nextSlot = (nextSlot + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        recorded = 0;
+        failureCount = 0;
+        nextSlot = 0;
+        halfOpenIssued = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * 허용된 요청 - 결과는 처음 한 번만 반영된다.
+     */
+    final class Permission {
+
+        private final long generation;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Permission(long generation) {
+            this.generation = generation;
+        }
+
+        void onSuccess() {
+            complete(false);
+        }
+
+        void onFailure() {
+            complete(true);
+        }
+
+        /**
+         * 성공/실패로 판단할 수 없이 끝난 요청 (요청 전 취소, 대기열 거절 등)
+         */
+        void release() {
+            complete(null);
+        }
+
+        private void complete(Boolean failed) {
+            if (completed.compareAndSet(false, true)) {
+                record(this, failed);
+            }
+        }
+    }
+}
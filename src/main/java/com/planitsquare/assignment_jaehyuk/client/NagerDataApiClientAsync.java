@@ -6,17 +6,17 @@ import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
 import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Component
@@ -24,41 +24,45 @@ import java.util.List;
 public class NagerDataApiClientAsync {
 
     private final WebClient webClient;
-    
-    @Value("${external.api.nager.timeout:3s}")
-    private String timeoutStr;
-    
-    @Value("${external.api.nager.retry.max-attempts:2}")
-    private int retryMaxAttempts;
-    
-    @Value("${external.api.nager.retry.delay:1s}")
-    private String retryDelayStr;
-    
-    private Duration getTimeout() {
-        return Duration.parse("PT" + timeoutStr.toUpperCase());
-    }
-    
-    private Duration getRetryDelay() {
-        return Duration.parse("PT" + retryDelayStr.toUpperCase());
-    }
+    private final NagerValidatorStore validatorStore;
+    private final NagerRetryPolicy retryPolicy;
+    private final NagerFetchMetrics fetchMetrics;
+
+    // 304 응답 시 재사용할 마지막 국가 목록
+    private final AtomicReference<List<CountryDto>> cachedCountries = new AtomicReference<>();
 
+    /**
+     * 국가 목록 조회
+     * 이전 응답이 있으면 조건부 요청을 보내고, 304 응답 시 이전 목록을 그대로 반환한다.
+     */
     public Mono<List<CountryDto>> getAvailableCountries() {
         log.debug("국가 목록 조회 요청");
 
+        String uri = NagerValidatorStore.AVAILABLE_COUNTRIES_URI;
+        List<CountryDto> previousCountries = cachedCountries.get();
+
         return webClient
                 .get()
-                .uri("/AvailableCountries")
+                .uri(uri)
+                .headers(headers -> {
+                    if (previousCountries != null) {
+                        validatorStore.applyTo(uri, headers);
+                    }
+                })
                 .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response ->
-                        Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                )
-                .onStatus(HttpStatusCode::is5xxServerError, response ->
-                        Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                )
-                .bodyToMono(CountryDto[].class)
-                .map(Arrays::asList)
-                .timeout(getTimeout())
-                .retryWhen(Retry.fixedDelay(retryMaxAttempts, getRetryDelay()))
+                .toEntity(CountryDto[].class)
+                .transform(retryPolicy::apply)
+                .transform(fetchMetrics::timeCountries)
+                .flatMap(response -> {
+                    if (isNotModified(response) && previousCountries != null) {
+                        log.info("국가 목록 변경 없음 (304)");
+                        return Mono.just(previousCountries);
+                    }
+
+                    List<CountryDto> countries = response.getBody() != null ? Arrays.asList(response.getBody()) : List.of();
+                    cachedCountries.set(countries);
+                    return saveValidator(uri, response).thenReturn(countries);
+                })
                 .doOnSuccess(countries ->
                         log.info("국가 목록 조회 완료: {} 개국", countries != null ? countries.size() : 0)
                 )
@@ -66,17 +70,21 @@ public class NagerDataApiClientAsync {
                         log.error("국가 목록 조회 실패 - HTTP Status: {}, Body: {}",
                                 e.getStatusCode(), e.getResponseBodyAsString())
                 )
-                .doOnError(Exception.class, e ->
+                .doOnError(e -> !(e instanceof BusinessException), e ->
                         log.error("국가 목록 조회 중 예외 발생", e)
                 )
                 .onErrorMap(WebClientResponseException.class, e ->
                         new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED)
                 )
-                .onErrorMap(Exception.class, e ->
+                .onErrorMap(e -> !(e instanceof BusinessException), e ->
                         new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT)
                 );
     }
 
+    /**
+     * 공휴일 조회 - 일괄 적재용이므로 조건부 요청 없이 항상 전체를 받는다.
+     * 적재 후에는 지문이 무효화되어 다음 갱신도 무조건 조회하므로 검증자는 저장하지 않는다.
+     */
     public Mono<List<HolidayDto>> getPublicHolidays(String countryCode, int year) {
         log.debug("공휴일 조회 요청 - 연도: {}, 국가코드: {}", year, countryCode);
 
@@ -84,16 +92,10 @@ public class NagerDataApiClientAsync {
                 .get()
                 .uri("/PublicHolidays/{year}/{countryCode}", year, countryCode)
                 .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response ->
-                        Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                )
-                .onStatus(HttpStatusCode::is5xxServerError, response ->
-                        Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                )
-                .bodyToMono(HolidayDto[].class)
-                .map(Arrays::asList)
-                .timeout(getTimeout())
-                .retryWhen(Retry.fixedDelay(retryMaxAttempts, getRetryDelay()))
+                .toEntity(HolidayDto[].class)
+                .transform(retryPolicy::apply)
+                .transform(call -> fetchMetrics.timeHolidays(call, countryCode, year))
+                .map(response -> response.getBody() != null ? Arrays.asList(response.getBody()) : List.<HolidayDto>of())
                 .doOnSuccess(holidays ->
                         log.info("공휴일 조회 완료 - 연도: {}, 국가코드: {}, 공휴일 수: {}",
                                 year, countryCode, holidays.size())
@@ -106,7 +108,7 @@ public class NagerDataApiClientAsync {
                                 year, countryCode, e.getStatusCode(), e.getResponseBodyAsString());
                     }
                 })
-                .doOnError(Exception.class, e ->
+                .doOnError(e -> !(e instanceof BusinessException), e ->
                         log.error("공휴일 조회 중 예외 발생 - 연도: {}, 국가코드: {}", year, countryCode, e)
                 )
                 .onErrorResume(WebClientResponseException.class, e -> {
@@ -115,9 +117,20 @@ public class NagerDataApiClientAsync {
                     }
                     throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
                 })
-                .onErrorMap(Exception.class, e ->
+                .onErrorMap(e -> !(e instanceof BusinessException), e ->
                         new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT)
                 );
 
     }
+
+    private boolean isNotModified(ResponseEntity<?> response) {
+        return response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED);
+    }
+
+    private Mono<Void> saveValidator(String uri, ResponseEntity<?> response) {
+        // 검증자 저장은 DB 쓰기이므로 네트워크 스레드에서 분리
+        return Mono.fromRunnable(() -> validatorStore.save(uri, response.getHeaders()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
 }
@@ -4,19 +4,18 @@ import com.planitsquare.assignment_jaehyuk.dto.external.CountryDto;
 import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
 import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
 import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.error.exception.ExternalApiRejectedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -24,23 +23,9 @@ import java.util.List;
 public class NagerDateApiClient {
 
     private final WebClient webClient;
-    
-    @Value("${external.api.nager.timeout:3s}")
-    private String timeoutStr;
-    
-    @Value("${external.api.nager.retry.max-attempts:2}")
-    private int retryMaxAttempts;
-    
-    @Value("${external.api.nager.retry.delay:1s}")
-    private String retryDelayStr;
-    
-    private Duration getTimeout() {
-        return Duration.parse("PT" + timeoutStr.toUpperCase());
-    }
-    
-    private Duration getRetryDelay() {
-        return Duration.parse("PT" + retryDelayStr.toUpperCase());
-    }
+    private final NagerValidatorStore validatorStore;
+    private final NagerRetryPolicy retryPolicy;
+    private final NagerFetchMetrics fetchMetrics;
 
     public List<CountryDto> getAvailableCountries() {
         try {
@@ -50,20 +35,16 @@ public class NagerDateApiClient {
                     .get()
                     .uri("/AvailableCountries")
                     .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, response ->
-                            Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                    )
-                    .onStatus(HttpStatusCode::is5xxServerError, response ->
-                            Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                    )
                     .bodyToMono(new ParameterizedTypeReference<List<CountryDto>>() {})
-                    .timeout(getTimeout())
-                    .retryWhen(Retry.fixedDelay(retryMaxAttempts, getRetryDelay()))
+                    .transform(retryPolicy::apply)
+                    .transform(fetchMetrics::timeCountries)
                     .block();
 
             log.info("국가 목록 조회 완료: {} 개국", countries != null ? countries.size() : 0);
             return countries;
 
+        } catch (ExternalApiRejectedException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             log.error("국가 목록 조회 실패 - HTTP Status: {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED);
@@ -74,32 +55,62 @@ public class NagerDateApiClient {
     }
 
     public List<HolidayDto> getPublicHolidays(String countryCode, int year) {
+        return fetchPublicHolidays(countryCode, year, false).orElse(List.of());
+    }
+
+    /**
+     * 조건부 공휴일 조회 - 마지막 응답 이후 변경이 없으면(304) 빈 Optional 반환
+     */
+    public Optional<List<HolidayDto>> getPublicHolidaysIfModified(String countryCode, int year) {
+        return fetchPublicHolidays(countryCode, year, true);
+    }
+
+    /**
+     * 응답을 반영하지 못한 경우 다음 조건부 요청이 304로 생략되지 않도록 검증자를 삭제
+     */
+    public void forgetPublicHolidaysValidator(String countryCode, int year) {
+        validatorStore.evict(NagerValidatorStore.publicHolidaysUri(countryCode, year));
+    }
+
+    private Optional<List<HolidayDto>> fetchPublicHolidays(String countryCode, int year, boolean conditional) {
+        String uri = NagerValidatorStore.publicHolidaysUri(countryCode, year);
+
         try {
-            log.debug("공휴일 조회 요청 - 연도: {}, 국가코드: {}", year, countryCode);
+            log.debug("공휴일 조회 요청 - 연도: {}, 국가코드: {}, 조건부: {}", year, countryCode, conditional);
 
-            List<HolidayDto> holidays = webClient
+            ResponseEntity<List<HolidayDto>> response = webClient
                     .get()
                     .uri("/PublicHolidays/{year}/{countryCode}", year, countryCode)
+                    .headers(headers -> {
+                        if (conditional) {
+                            validatorStore.applyTo(uri, headers);
+                        }
+                    })
                     .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, response ->
-                            Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                    )
-                    .onStatus(HttpStatusCode::is5xxServerError, response ->
-                            Mono.error(new BusinessException(ErrorCode.COUNTRY_API_CALL_FAILED))
-                    )
-                    .bodyToMono(new ParameterizedTypeReference<List<HolidayDto>>() {})
-                    .timeout(getTimeout())
-                    .retryWhen(Retry.fixedDelay(retryMaxAttempts, getRetryDelay()))
+                    .toEntity(new ParameterizedTypeReference<List<HolidayDto>>() {})
+                    .transform(retryPolicy::apply)
+                    .transform(call -> fetchMetrics.timeHolidays(call, countryCode, year))
                     .block();
 
-            log.info("공휴일 조회 완료 - 연도: {}, 국가코드: {}, 공휴일 수: {}",
-                    year, countryCode, holidays != null ? holidays.size() : 0);
-            return holidays;
+            if (response != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                log.info("공휴일 변경 없음 (304) - 연도: {}, 국가코드: {}", year, countryCode);
+                return Optional.empty();
+            }
+
+            List<HolidayDto> holidays = response != null && response.getBody() != null ? response.getBody() : List.of();
+            if (response != null) {
+                validatorStore.save(uri, response.getHeaders());
+            }
+
+            log.info("공휴일 조회 완료 - 연도: {}, 국가코드: {}, 공휴일 수: {}", year, countryCode, holidays.size());
+            return Optional.of(holidays);
 
+        } catch (ExternalApiRejectedException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             if (e.getStatusCode().value() == 404) {
                 log.warn("공휴일 데이터 없음 - 연도: {}, 국가코드: {}", year, countryCode);
-                return List.of();
+                return Optional.of(List.of());
             }
             log.error("공휴일 조회 실패 - 연도: {}, 국가코드: {}, HTTP Status: {}, Body: {}",
                     year, countryCode, e.getStatusCode(), e.getResponseBodyAsString());
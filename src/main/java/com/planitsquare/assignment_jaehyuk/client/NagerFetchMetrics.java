@@ -0,0 +1,59 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nager API 조회 시간 - 재시도를 포함한 호출 하나를 국가/연도별로 기록한다 (nager.client.fetch)
+ * 히스토그램 버킷은 management.metrics.distribution 설정을 따른다.
+ */
+@Component
+public class NagerFetchMetrics implements MeterBinder {
+
+    static final String FETCH_TIMER = "nager.client.fetch";
+
+    // 레지스트리에 연결되기 전(단위 테스트 등)에는 기록하지 않는다
+    private volatile MeterRegistry meterRegistry = new CompositeMeterRegistry();
+
+    public <T> Mono<T> timeCountries(Mono<T> call) {
+        return timed(call, "countries", "none", "none");
+    }
+
+    public <T> Mono<T> timeHolidays(Mono<T> call, String countryCode, int year) {
+        return timed(call, "holidays", countryCode, String.valueOf(year));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    private <T> Mono<T> timed(Mono<T> call, String operation, String country, String year) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return call.doFinally(signal -> Timer.builder(FETCH_TIMER)
+                    .tag("operation", operation)
+                    .tag("country", country)
+                    .tag("year", year)
+                    .tag("outcome", outcome(signal))
+                    .description("Nager API 조회 시간 (재시도 포함)")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+    }
+}
@@ -0,0 +1,211 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Nager API 재시도 정책 - 동기/비동기 클라이언트가 함께 사용한다.
+ * 재시도 대상은 연결 오류, 타임아웃, 408/429/5xx(501 제외)뿐이며 대기 시간은 full jitter 지수 백오프 (0 ~ min(maxDelay, delay * 2^n))다.
+ * 429/503의 Retry-After는 그대로 따르고, maxRetryAfter보다 길면 재시도하지 않는다.
+ * 재시도 예산: 호출마다 budgetRatio 만큼 쌓이고 재시도마다 1 씩 쓰므로, 장애가 길어져도 재시도는 호출 수의 budgetRatio 배를 넘지 않는다.
+ */
+@Slf4j
+@Component
+public class NagerRetryPolicy implements MeterBinder {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(408, 429, 500, 502, 503, 504);
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxRetryAfter;
+    private final double budgetRatio;
+    private final double budgetMaxTokens;
+    private final DoubleSupplier random;
+    private final Clock clock;
+
+    private final ReentrantLock budgetLock = new ReentrantLock();
+    private double budgetTokens;
+
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    @Autowired
+    public NagerRetryPolicy(
+            @Value("${external.api.nager.retry.max-attempts:2}") int maxAttempts,
+            @Value("${external.api.nager.retry.delay:1s}") Duration baseDelay,
+            @Value("${external.api.nager.retry.max-delay:10s}") Duration maxDelay,
+            @Value("${external.api.nager.retry.max-retry-after:30s}") Duration maxRetryAfter,
+            @Value("${external.api.nager.retry.budget.ratio:0.2}") double budgetRatio,
+            @Value("${external.api.nager.retry.budget.max-tokens:20}") double budgetMaxTokens) {
+        this(maxAttempts, baseDelay, maxDelay, maxRetryAfter, budgetRatio, budgetMaxTokens,
+                () -> ThreadLocalRandom.current().nextDouble(), Clock.systemUTC());
+    }
+
+    NagerRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Duration maxRetryAfter,
+                     double budgetRatio, double budgetMaxTokens, DoubleSupplier random, Clock clock) {
+        if (maxAttempts < 0 || budgetRatio < 0 || budgetMaxTokens < 0) {
+            throw new IllegalArgumentException("잘못된 재시도 설정입니다");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.maxRetryAfter = maxRetryAfter;
+        this.budgetRatio = budgetRatio;
+        this.budgetMaxTokens = budgetMaxTokens;
+        this.random = random;
+        this.clock = clock;
+        this.budgetTokens = budgetMaxTokens;
+    }
+
+    /**
+     * 호출 하나에 재시도 정책 적용 - 구독할 때 예산을 적립하고, 재시도를 모두 써도 마지막 예외를 그대로 전달한다.
+     */
+    public <T> Mono<T> apply(Mono<T> call) {
+        return Mono.defer(() -> {
+            deposit();
+            return call.retryWhen(Retry.from(signals -> signals.concatMap(signal ->
+                    retryDelay(signal.failure(), signal.totalRetries())
+                            .map(delay -> Mono.delay(delay).thenReturn(signal.totalRetries()))
+                            .orElseGet(() -> Mono.error(signal.failure())))));
+        });
+    }
+
+    /**
+     * n번째(0부터) 실패 후 기다릴 시간 - 재시도하지 않으면 빈 Optional
+     */
+    Optional<Duration> retryDelay(Throwable failure, long retriesSoFar) {
+        if (retriesSoFar >= maxAttempts || !isRetryable(failure)) {
+            return Optional.empty();
+        }
+
+        Optional<Duration> retryAfter = retryAfter(failure);
+        if (retryAfter.isPresent() && retryAfter.get().compareTo(maxRetryAfter) > 0) {
+            log.warn("Retry-After({}s)가 최대 대기 시간을 넘어 재시도하지 않음", retryAfter.get().toSeconds());
+            return Optional.empty();
+        }
+
+        if (!withdraw()) {
+            budgetExhausted.incrementAndGet();
+            log.warn("재시도 예산 소진 - 재시도하지 않음: {}", failure.toString());
+            return Optional.empty();
+        }
+
+        Duration delay = retryAfter.orElseGet(() -> backoff(retriesSoFar));
+        retried.incrementAndGet();
+        log.debug("Nager API 재시도 {}회 - {}ms 후: {}", retriesSoFar + 1, delay.toMillis(), failure.toString());
+        return Optional.of(delay);
+    }
+
+    double getBudgetTokens() {
+        budgetLock.lock();
+        try {
+            return budgetTokens;
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("nager.client.retries", retried, AtomicLong::get)
+                .tag("result", "retried")
+                .description("재시도한 Nager API 호출 수")
+                .register(registry);
+        FunctionCounter.builder("nager.client.retries", budgetExhausted, AtomicLong::get)
+                .tag("result", "budget_exhausted")
+                .description("재시도 예산이 없어 재시도하지 않은 호출 수")
+                .register(registry);
+        Gauge.builder("nager.client.retry.budget", this, NagerRetryPolicy::getBudgetTokens)
+                .description("남은 재시도 예산")
+                .register(registry);
+    }
+
+    private boolean isRetryable(Throwable failure) {
+        if (failure instanceof WebClientResponseException e) {
+            return RETRYABLE_STATUSES.contains(e.getStatusCode().value());
+        }
+        return failure instanceof WebClientRequestException || failure instanceof TimeoutException;
+    }
+
+    private Duration backoff(long retriesSoFar) {
+        long ceilingMillis = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(retriesSoFar, 30));
+        return Duration.ofMillis((long) (random.getAsDouble() * ceilingMillis));
+    }
+
+    /**
+     * 429/503 응답의 Retry-After (초 또는 HTTP 날짜)
+     */
+    private Optional<Duration> retryAfter(Throwable failure) {
+        if (!(failure instanceof WebClientResponseException e)
+                || !(e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                || e.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE))) {
+            return Optional.empty();
+        }
+
+        String value = e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식
+        }
+        try {
+            Duration until = Duration.between(clock.instant(),
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+            return Optional.of(until.isNegative() ? Duration.ZERO : until);
+        } catch (DateTimeParseException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private void deposit() {
+        budgetLock.lock();
+        try {
+            budgetTokens = Math.min(budgetMaxTokens, budgetTokens + budgetRatio);
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+
+    private boolean withdraw() {
+        budgetLock.lock();
+        try {
+            if (budgetTokens < 1) {
+                return false;
+            }
+            budgetTokens--;
+            return true;
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+}
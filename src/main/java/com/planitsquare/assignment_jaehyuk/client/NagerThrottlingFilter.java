@@ -0,0 +1,187 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.planitsquare.assignment_jaehyuk.client.AdaptiveConcurrencyLimiter.Outcome;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.ExternalApiRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Nager API 요청 제어 - 동기/비동기 클라이언트의 모든 요청(재시도 포함)이 거치는 순서:
+ * 서킷 브레이커 → 동시 요청 허가(bulkhead, 대기 수/시간 제한) → 토큰 → 요청(timeout) → 본문 수신 완료 시 허가 반환
+ * 요청 타임아웃은 허가와 토큰을 받은 뒤부터 재므로 대기 시간은 bulkhead.max-wait 로만 제한된다.
+ * 429, 5xx, 연결 오류, 요청 타임아웃은 과부하로 보고 동시 요청 한도를 줄이고 서킷 실패로 기록한다.
+ * 호출한 쪽이 취소한 요청(다른 청크 실패로 인한 중단 등)은 외부 API 상태와 무관하므로 한도와 서킷에 반영하지 않는다.
+ * 서킷이 열려 있거나 대기열이 가득 차면 외부 API를 호출하지 않고 ExternalApiRejectedException으로 바로 실패한다.
+ */
+@Slf4j
+@Component
+public class NagerThrottlingFilter implements ExchangeFilterFunction, MeterBinder {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration maxWait;
+    private final Duration timeout;
+
+    private final AtomicLong circuitOpenRejections = new AtomicLong();
+    private final AtomicLong bulkheadRejections = new AtomicLong();
+
+    public NagerThrottlingFilter(
+            @Value("${external.api.nager.rate-limit.permits-per-second:20}") double permitsPerSecond,
+            @Value("${external.api.nager.rate-limit.burst:20}") int burst,
+            @Value("${external.api.nager.concurrency.initial-limit:10}") int initialLimit,
+            @Value("${external.api.nager.concurrency.min-limit:1}") int minLimit,
+            @Value("${external.api.nager.concurrency.max-limit:64}") int maxLimit,
+            @Value("${external.api.nager.concurrency.backoff-ratio:0.5}") double backoffRatio,
+            @Value("${external.api.nager.bulkhead.max-waiting:500}") int maxWaiting,
+            @Value("${external.api.nager.bulkhead.max-wait:30s}") Duration maxWait,
+            @Value("${external.api.nager.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${external.api.nager.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${external.api.nager.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${external.api.nager.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${external.api.nager.circuit-breaker.half-open-permits:3}") int halfOpenPermits,
+            @Value("${external.api.nager.timeout:3s}") Duration timeout) {
+        this.rateLimiter = new TokenBucketRateLimiter(permitsPerSecond, burst);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, maxWaiting);
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenPermits);
+        this.maxWait = maxWait;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            CircuitBreaker.Permission circuit = circuitBreaker.tryAcquire();
+            if (circuit == null) {
+                circuitOpenRejections.incrementAndGet();
+                log.warn("Nager API 서킷 오픈 - 호출 거절: {}", request.url().getPath());
+                return Mono.error(new ExternalApiRejectedException(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN));
+            }
+
+            return concurrencyLimiter.acquire()
+                    .timeout(maxWait)
+                    .onErrorMap(e -> e instanceof RejectedExecutionException || e instanceof TimeoutException, e -> {
+                        bulkheadRejections.incrementAndGet();
+                        log.warn("Nager API 대기열 초과 - 호출 거절: {} ({})", request.url().getPath(), e.getMessage());
+                        return new ExternalApiRejectedException(ErrorCode.EXTERNAL_API_BULKHEAD_FULL);
+                    })
+                    .doOnError(e -> circuit.release())
+                    .doOnCancel(circuit::release)
+                    .flatMap(permit -> rateLimiter.acquire()
+                            .doOnCancel(() -> {
+                                permit.release(Outcome.IGNORE);
+                                circuit.release();
+                            })
+                            .then(Mono.defer(() -> next.exchange(request)
+                                    // 타임아웃은 아래 doOnError에서 실패로, 호출한 쪽의 취소는 doOnCancel에서 무시로 처리
+                                    .timeout(timeout)
+                                    .map(response -> releaseOnBodyEnd(response, permit, circuit))
+                                    .doOnError(e -> {
+                                        if (isUpstreamFailure(e)) {
+                                            overload(permit, circuit);
+                                        } else {
+                                            ignore(permit, circuit);
+                                        }
+                                    })
+                                    .doOnCancel(() -> ignore(permit, circuit)))));
+        });
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimiter.getLimit();
+    }
+
+    public int getInFlightRequests() {
+        return concurrencyLimiter.getInFlight();
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("nager.client.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("AIMD 동시 요청 한도")
+                .register(registry);
+        Gauge.builder("nager.client.in-flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("진행 중인 Nager API 요청 수")
+                .register(registry);
+        Gauge.builder("nager.client.waiting", concurrencyLimiter, AdaptiveConcurrencyLimiter::getWaiting)
+                .description("동시 요청 허가를 기다리는 요청 수")
+                .register(registry);
+        Gauge.builder("nager.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(registry);
+        FunctionCounter.builder("nager.client.rejected", circuitOpenRejections, AtomicLong::get)
+                .tag("reason", "circuit_open")
+                .description("서킷 오픈으로 거절한 요청 수")
+                .register(registry);
+        FunctionCounter.builder("nager.client.rejected", bulkheadRejections, AtomicLong::get)
+                .tag("reason", "bulkhead_full")
+                .description("대기열 초과로 거절한 요청 수")
+                .register(registry);
+    }
+
+    /**
+     * 본문을 다 받을 때까지 허가를 유지 - 본문 수신 시간도 동시 요청 한도에 포함된다
+     * 상태 코드로 성공/과부하를 정하고, 본문 수신 중 오류는 과부하, 취소는 무시로 반환한다.
+     */
+    private ClientResponse releaseOnBodyEnd(ClientResponse response, AdaptiveConcurrencyLimiter.Permit permit,
+                                            CircuitBreaker.Permission circuit) {
+        HttpStatusCode status = response.statusCode();
+        return response.mutate()
+                .body(body -> body
+                        .doOnComplete(() -> release(permit, circuit, status))
+                        .doOnError(e -> overload(permit, circuit))
+                        .doOnCancel(() -> ignore(permit, circuit)))
+                .build();
+    }
+
+    private void release(AdaptiveConcurrencyLimiter.Permit permit, CircuitBreaker.Permission circuit, HttpStatusCode status) {
+        if (status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS) || status.is5xxServerError()) {
+            overload(permit, circuit);
+            log.warn("Nager API 과부하 응답 {} - 동시 요청 한도: {}, 서킷: {}",
+                    status.value(), concurrencyLimiter.getLimit(), circuitBreaker.getState());
+        } else {
+            permit.release(Outcome.SUCCESS);
+            circuit.onSuccess();
+        }
+    }
+
+    private void overload(AdaptiveConcurrencyLimiter.Permit permit, CircuitBreaker.Permission circuit) {
+        permit.release(Outcome.OVERLOAD);
+        circuit.onFailure();
+    }
+
+    private void ignore(AdaptiveConcurrencyLimiter.Permit permit, CircuitBreaker.Permission circuit) {
+        permit.release(Outcome.IGNORE);
+        circuit.release();
+    }
+
+    /**
+     * 외부 API 쪽 실패 - 요청 타임아웃과 연결/IO 오류 (WebClientRequestException)
+     */
+    private static boolean isUpstreamFailure(Throwable e) {
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+}
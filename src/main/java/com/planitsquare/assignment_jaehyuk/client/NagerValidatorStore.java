@@ -0,0 +1,127 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.planitsquare.assignment_jaehyuk.entity.NagerHttpValidator;
+import com.planitsquare.assignment_jaehyuk.repository.NagerHttpValidatorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Nager API 응답의 검증자(ETag, Last-Modified)를 URI 별로 보관
+ * 조회는 메모리에서 처리하고, 변경된 검증자만 DB에 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NagerValidatorStore {
+
+    public static final String AVAILABLE_COUNTRIES_URI = "/AvailableCountries";
+
+    private final NagerHttpValidatorRepository validatorRepository;
+
+    private final Map<String, NagerHttpValidator> validators = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    public static String publicHolidaysUri(String countryCode, int year) {
+        return "/PublicHolidays/" + year + "/" + countryCode;
+    }
+
+    /**
+     * 저장된 검증자가 있으면 조건부 요청 헤더를 추가
+     */
+    public void applyTo(String uri, HttpHeaders requestHeaders) {
+        NagerHttpValidator validator = find(uri);
+        if (validator == null) {
+            return;
+        }
+
+        if (hasText(validator.getEtag())) {
+            requestHeaders.setIfNoneMatch(validator.getEtag());
+        }
+        if (hasText(validator.getLastModified())) {
+            requestHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, validator.getLastModified());
+        }
+    }
+
+    /**
+     * 응답 헤더의 검증자를 저장 - 이전과 같으면 기록하지 않음
+     */
+    public void save(String uri, HttpHeaders responseHeaders) {
+        String etag = responseHeaders.getETag();
+        String lastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        if (etag == null && lastModified == null) {
+            return;
+        }
+
+        NagerHttpValidator current = find(uri);
+        if (current != null && current.matches(etag, lastModified)) {
+            return;
+        }
+
+        try {
+            NagerHttpValidator validator = validatorRepository.save(
+                    NagerHttpValidator.builder()
+                            .uri(uri)
+                            .etag(etag)
+                            .lastModified(lastModified)
+                            .build()
+            );
+            validators.put(uri, validator);
+            log.debug("검증자 저장 - URI: {}, ETag: {}, Last-Modified: {}", uri, etag, lastModified);
+
+        } catch (Exception e) {
+            log.warn("검증자 저장 실패 - URI: {}: {}", uri, e.getMessage());
+        }
+    }
+
+    /**
+     * 응답이 반영되지 못한 경우 다음 요청이 304로 생략되지 않도록 검증자를 삭제
+     */
+    public void evict(String uri) {
+        if (validators.remove(uri) == null) {
+            return;
+        }
+
+        try {
+            validatorRepository.deleteById(uri);
+        } catch (Exception e) {
+            log.warn("검증자 삭제 실패 - URI: {}: {}", uri, e.getMessage());
+        }
+    }
+
+    private NagerHttpValidator find(String uri) {
+        loadIfNecessary();
+        return validators.get(uri);
+    }
+
+    private void loadIfNecessary() {
+        if (loaded) {
+            return;
+        }
+
+        loadLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            try {
+                validatorRepository.findAll().forEach(validator -> validators.put(validator.getUri(), validator));
+                log.info("저장된 검증자 로드 완료: {} 개", validators.size());
+            } catch (Exception e) {
+                log.warn("저장된 검증자 로드 실패: {}", e.getMessage());
+            }
+            loaded = true;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 요청 속도 제한 (스레드를 막지 않음)
+ * 토큰 수 대신 "버킷이 비는 시각" 하나만 CAS로 갱신하고, 토큰이 없으면 다음 토큰 시각까지 지연된 Mono를 반환한다.
+ */
+final class TokenBucketRateLimiter {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final LongSupplier nanoClock;
+
+    // 이 시각 이후 쌓인 시간만큼 토큰이 있다 (최대 burst 개)
+    private final AtomicLong emptyAt;
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond와 burst는 0보다 커야 합니다");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.capacityNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.emptyAt = new AtomicLong(nanoClock.getAsLong() - capacityNanos);
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 사용할 수 있을 때 완료되는 Mono
+     */
+    Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            Duration wait = reserve();
+            return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+        });
+    }
+
+    /**
+     * 토큰 하나를 예약하고 사용 가능해질 때까지의 대기 시간을 반환한다.
+     */
+    Duration reserve() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = emptyAt.get();
+            long next = Math.max(current, now - capacityNanos) + intervalNanos;
+
+            if (emptyAt.compareAndSet(current, next)) {
+                return Duration.ofNanos(Math.max(0, next - now));
+            }
+        }
+    }
+}
@@ -1,24 +1,91 @@
 package com.planitsquare.assignment_jaehyuk.config;
 
+import com.planitsquare.assignment_jaehyuk.client.NagerThrottlingFilter;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    public static final String NAGER_CONNECTION_POOL = "nager";
+
     @Value("${external.api.nager.base-url}")
     private String baseUrl;
 
     @Value("${external.api.nager.max-in-memory-size}")
     private int maxInMemorySize;
 
+    // 동시 요청 한도(AIMD 최대값)만큼 커넥션을 열어 두면 허가를 받은 요청이 커넥션을 기다리지 않는다
+    @Value("${external.api.nager.http.max-connections:${external.api.nager.concurrency.max-limit:64}}")
+    private int maxConnections;
+
+    @Value("${external.api.nager.http.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${external.api.nager.http.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${external.api.nager.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${external.api.nager.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${external.api.nager.http.response-timeout:3s}")
+    private Duration responseTimeout;
+
+    @Value("${external.api.nager.http.http2:true}")
+    private boolean http2;
+
+    @Value("${external.api.nager.http.compression:true}")
+    private boolean compression;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider nagerConnectionProvider() {
+        return ConnectionProvider.builder(NAGER_CONNECTION_POOL)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .lifo()
+                // reactor.netty.connection.provider.* (활성/유휴/대기 커넥션 수)
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient nagerDateWebClient() {
+    public WebClient nagerDateWebClient(NagerThrottlingFilter nagerThrottlingFilter, ConnectionProvider nagerConnectionProvider) {
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(nagerHttpClient(nagerConnectionProvider)))
+                .filter(nagerThrottlingFilter)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
                 .build();
     }
+
+    /**
+     * Nager API용 HttpClient
+     * HTTPS에서는 ALPN으로 HTTP/2를 협상하고(불가하면 HTTP/1.1), gzip 응답을 받아 풀어서 전달한다.
+     * 연결/응답 타임아웃은 Netty에서 걸어 재시도 시에도 커넥션이 정리되도록 한다.
+     */
+    HttpClient nagerHttpClient(ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout)
+                .compress(compression)
+                .metrics(true, uri -> uri.startsWith("/PublicHolidays/") ? "/PublicHolidays/{year}/{countryCode}" : uri);
+
+        return http2 ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11) : httpClient;
+    }
 }
@@ -0,0 +1,121 @@
+package com.planitsquare.assignment_jaehyuk.controller;
+
+import com.planitsquare.assignment_jaehyuk.dto.response.BusinessDayCountResponse;
+import com.planitsquare.assignment_jaehyuk.dto.response.BusinessDayOffsetResponse;
+import com.planitsquare.assignment_jaehyuk.dto.response.BusinessDayResponse;
+import com.planitsquare.assignment_jaehyuk.service.BusinessDayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/holiday")
+@Tag(name = "영업일 계산", description = "공휴일과 주말을 제외한 영업일 계산 API")
+public class BusinessDayController {
+
+    private final BusinessDayService businessDayService;
+
+    @Operation(
+            summary = "영업일 여부 조회",
+            description = "해당 날짜가 영업일인지 조회합니다. county를 지정하면 해당 지역 공휴일도 반영합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BusinessDayResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 주말 설정",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "404", description = "해당 국가/연도의 공휴일 데이터 없음",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/isBusinessDay")
+    public ResponseEntity<BusinessDayResponse> isBusinessDay(
+            @Parameter(description = "국가 코드 (ISO 2자리)", example = "KR", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "조회 날짜", example = "2024-01-01", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "지역 코드 (생략 시 전국 공휴일만 반영)", example = "US-CA")
+            @RequestParam(required = false) String county,
+            @Parameter(description = "주말 요일 (생략 시 국가별/기본 설정, 주말이 없으면 NONE)", example = "SATURDAY,SUNDAY")
+            @RequestParam(required = false) String weekend) {
+
+        log.info("영업일 여부 조회 요청 - 국가: {}, 날짜: {}", countryCode, date);
+
+        return ResponseEntity.ok(businessDayService.isBusinessDay(countryCode, date, county, weekend));
+    }
+
+    @Operation(
+            summary = "영업일 더하기",
+            description = "기준 날짜에 영업일 수를 더한 날짜를 조회합니다. 기준 날짜는 세지 않으며 음수면 이전 영업일을 찾습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BusinessDayOffsetResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 주말 설정",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "404", description = "계산 범위에 공휴일 데이터가 없는 연도가 있음",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/addBusinessDays")
+    public ResponseEntity<BusinessDayOffsetResponse> addBusinessDays(
+            @Parameter(description = "국가 코드 (ISO 2자리)", example = "KR", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "기준 날짜", example = "2024-02-08", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "더할 영업일 수 (음수면 이전, -3660 ~ 3660)", example = "3", required = true)
+            @RequestParam int days,
+            @Parameter(description = "지역 코드 (생략 시 전국 공휴일만 반영)", example = "US-CA")
+            @RequestParam(required = false) String county,
+            @Parameter(description = "주말 요일 (생략 시 국가별/기본 설정, 주말이 없으면 NONE)", example = "SATURDAY,SUNDAY")
+            @RequestParam(required = false) String weekend) {
+
+        log.info("영업일 더하기 요청 - 국가: {}, 날짜: {}, 영업일: {}", countryCode, date, days);
+
+        return ResponseEntity.ok(businessDayService.addBusinessDays(countryCode, date, days, county, weekend));
+    }
+
+    @Operation(
+            summary = "기간 영업일 수 조회",
+            description = "시작 날짜 다음 날부터 종료 날짜까지(종료 날짜 포함)의 영업일 수를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BusinessDayCountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 주말 설정",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "404", description = "기간 안에 공휴일 데이터가 없는 연도가 있음",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/businessDaysBetween")
+    public ResponseEntity<BusinessDayCountResponse> businessDaysBetween(
+            @Parameter(description = "국가 코드 (ISO 2자리)", example = "KR", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "시작 날짜 (제외)", example = "2024-01-01", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (포함)", example = "2024-01-31", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "지역 코드 (생략 시 전국 공휴일만 반영)", example = "US-CA")
+            @RequestParam(required = false) String county,
+            @Parameter(description = "주말 요일 (생략 시 국가별/기본 설정, 주말이 없으면 NONE)", example = "SATURDAY,SUNDAY")
+            @RequestParam(required = false) String weekend) {
+
+        log.info("기간 영업일 수 조회 요청 - 국가: {}, 기간: {} ~ {}", countryCode, startDate, endDate);
+
+        return ResponseEntity.ok(businessDayService.businessDaysBetween(countryCode, startDate, endDate, county, weekend));
+    }
+}
@@ -5,6 +5,7 @@ import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidayUpdateForm;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayDetailResponse;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidaySliceResponse;
 import com.planitsquare.assignment_jaehyuk.service.HolidayService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -121,7 +123,7 @@ public class HolidayController {
                     content = @Content(schema = @Schema(implementation = String.class)))
     })
     @GetMapping("/")
-    public ResponseEntity<Page<HolidayResponse>> searchHolidayList(
+    public ResponseEntity<Slice<HolidayResponse>> searchHolidayList(
             @Parameter(description = "고급 검색 조건")
             @Valid HolidaySearchCondition searchCondition,
             @Parameter(description = "페이징 정보 (page, size, sort)",
@@ -131,11 +133,42 @@ public class HolidayController {
                      "size": 10
                    }
                    """)
-            @PageableDefault(size = 10, sort = "date") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "date") Pageable pageable,
+            @Parameter(description = "전체 건수 계산 여부 (false면 COUNT 쿼리 생략, totalElements/totalPages 없이 last 로 다음 페이지 여부만 반환)", example = "true")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
 
         log.info("공휴일 고급 검색 요청");
 
-        return ResponseEntity.ok(holidayService.searchHolidayListWithSearchCondition(searchCondition, pageable));
+        return ResponseEntity.ok(holidayService.searchHolidayListWithSearchCondition(searchCondition, pageable, includeTotal));
+    }
+
+    @Operation(
+            summary = "공휴일 고급 검색 (커서 기반)",
+            description = "고급 검색과 같은 조건으로 검색하되, 이전 응답의 nextCursor로 다음 데이터를 이어서 조회합니다. " +
+                    "전체 데이터를 순회하는 경우 페이지 번호 방식보다 빠릅니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = HolidaySliceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 조건 또는 커서",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<HolidaySliceResponse> searchHolidaySlice(
+            @Parameter(description = "고급 검색 조건")
+            @Valid HolidaySearchCondition searchCondition,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 건수 (최대 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int size,
+            @Parameter(description = "전체 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("공휴일 커서 검색 요청 - 커서: {}, 건수: {}", cursor != null, size);
+
+        return ResponseEntity.ok(holidayService.searchHolidaySliceWithSearchCondition(searchCondition, cursor, size, includeTotal));
     }
 
     @Operation(
@@ -0,0 +1,153 @@
+package com.planitsquare.assignment_jaehyuk.dto.request;
+
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 커서 기반 고급 검색의 이어보기 위치 (정렬 컬럼 값, id)
+ * 클라이언트에는 Base64로 인코딩된 불투명 토큰으로 전달한다.
+ * 정렬 값은 정렬 기준에 맞는 타입(날짜는 LocalDate)으로 들고, 발급 당시 검색 조건의 해시를 함께 담아 다른 조건의 커서를 거부한다.
+ */
+public record HolidayCursor(SortKey sortKey, boolean descending, Comparable<?> value, long lastId, String conditionHash) {
+
+    private static final String VERSION = "v2";
+    private static final String SEPARATOR = "|";
+
+    public HolidayCursor {
+        if (sortKey == null || !sortKey.valueType.isInstance(value) || !hasText(conditionHash)) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public enum SortKey {
+        DATE(LocalDate.class), COUNTRY_NAME(String.class), NAME(String.class);
+
+        private final Class<?> valueType;
+
+        SortKey(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+
+        /**
+         * 고급 검색의 정렬 기준과 동일 - 알 수 없는 값은 날짜
+         */
+        public static SortKey from(String sortBy) {
+            if (!hasText(sortBy)) {
+                return DATE;
+            }
+            return switch (sortBy.toLowerCase()) {
+                case "countryname" -> COUNTRY_NAME;
+                case "name" -> NAME;
+                default -> DATE;
+            };
+        }
+
+        public Comparable<?> valueFrom(HolidayResponse holiday) {
+            return switch (this) {
+                case DATE -> holiday.getDate();
+                case COUNTRY_NAME -> holiday.getCountryName();
+                case NAME -> holiday.getName();
+            };
+        }
+
+        /**
+         * 토큰의 정렬 값을 정렬 기준의 타입으로 변환 - 형식이 맞지 않으면 예외
+         */
+        private Comparable<?> parse(String raw) {
+            return this == DATE ? LocalDate.parse(raw) : raw;
+        }
+    }
+
+    /**
+     * 고급 검색의 정렬 방향과 동일 - 정렬 기준이 없거나 알 수 없으면 날짜 내림차순
+     */
+    public static boolean isDescending(HolidaySearchCondition searchCondition) {
+        String sortBy = searchCondition.getSortBy();
+        if (!hasText(sortBy) || SortKey.from(sortBy) == SortKey.DATE && !"date".equalsIgnoreCase(sortBy)) {
+            return true;
+        }
+        return "desc".equalsIgnoreCase(searchCondition.getSortDirection());
+    }
+
+    public static HolidayCursor after(HolidaySearchCondition searchCondition, HolidayResponse lastHoliday) {
+        SortKey sortKey = SortKey.from(searchCondition.getSortBy());
+        return new HolidayCursor(sortKey, isDescending(searchCondition), sortKey.valueFrom(lastHoliday),
+                lastHoliday.getId(), conditionHash(searchCondition));
+    }
+
+    /**
+     * 정렬뿐 아니라 필터 조건까지 발급 당시와 같아야 이어볼 수 있다
+     */
+    public boolean matches(HolidaySearchCondition searchCondition) {
+        return sortKey == SortKey.from(searchCondition.getSortBy())
+                && descending == isDescending(searchCondition)
+                && conditionHash.equals(conditionHash(searchCondition));
+    }
+
+    public LocalDate dateValue() {
+        return (LocalDate) value;
+    }
+
+    public String textValue() {
+        return (String) value;
+    }
+
+    /**
+     * 검색 결과에 영향을 주는 필터 조건의 해시 - 빈 문자열은 조건 없음과 같다
+     */
+    static String conditionHash(HolidaySearchCondition searchCondition) {
+        String normalized = String.join("\0",
+                normalize(searchCondition.getCountryName()),
+                normalize(searchCondition.getStartDate()),
+                normalize(searchCondition.getEndDate()),
+                normalize(searchCondition.getLocalName()),
+                normalize(searchCondition.getName()),
+                normalize(searchCondition.getGlobal()),
+                normalize(searchCondition.getFixed()),
+                normalize(searchCondition.getLaunchYear()));
+
+        CRC32 crc = new CRC32();
+        crc.update(normalized.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static String normalize(Object value) {
+        return value == null || value instanceof String text && !hasText(text) ? "" : value.toString();
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortKey.name(), descending ? "D" : "A", String.valueOf(lastId),
+                conditionHash, value.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석 - 형식, 정렬 값의 타입이 맞지 않으면 INVALID_CURSOR
+     */
+    public static HolidayCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 정렬 값에 구분자가 포함될 수 있으므로 마지막 필드로 둔다
+            String[] parts = raw.split("\\|", 6);
+            if (parts.length != 6 || !VERSION.equals(parts[0]) || !parts[2].matches("[AD]")) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            SortKey sortKey = SortKey.valueOf(parts[1]);
+            return new HolidayCursor(sortKey, "D".equals(parts[2]), sortKey.parse(parts[5]),
+                    Long.parseLong(parts[3]), parts[4]);
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
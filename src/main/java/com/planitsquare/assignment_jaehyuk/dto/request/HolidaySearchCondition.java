@@ -52,6 +52,11 @@ public class HolidaySearchCondition {
             allowableValues = {"true", "false"})
     private Boolean global;
 
+    @Schema(description = "매년 같은 날짜 공휴일 여부",
+            example = "true",
+            allowableValues = {"true", "false"})
+    private Boolean fixed;
+
     @Schema(description = "공휴일 시행 연도",
             example = "2024",
             minimum = "2020",
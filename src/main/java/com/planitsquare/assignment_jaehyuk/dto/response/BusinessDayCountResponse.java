@@ -0,0 +1,43 @@
+package com.planitsquare.assignment_jaehyuk.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "기간 영업일 수 응답")
+public class BusinessDayCountResponse {
+
+    @Schema(description = "국가 코드 (ISO 2자리)",
+            example = "KR")
+    private String countryCode;
+
+    @Schema(description = "지역 코드 (요청한 경우만)",
+            example = "US-CA")
+    private String county;
+
+    @Schema(description = "주말 요일",
+            example = "SATURDAY,SUNDAY")
+    private String weekend;
+
+    @Schema(description = "시작 날짜 (제외)",
+            example = "2024-01-01",
+            type = "string",
+            format = "date")
+    private LocalDate startDate;
+
+    @Schema(description = "종료 날짜 (포함)",
+            example = "2024-01-31",
+            type = "string",
+            format = "date")
+    private LocalDate endDate;
+
+    @Schema(description = "영업일 수 (종료 날짜가 시작 날짜보다 앞이면 음수)",
+            example = "22")
+    private int businessDays;
+}
@@ -0,0 +1,43 @@
+package com.planitsquare.assignment_jaehyuk.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "영업일 더하기 응답")
+public class BusinessDayOffsetResponse {
+
+    @Schema(description = "국가 코드 (ISO 2자리)",
+            example = "KR")
+    private String countryCode;
+
+    @Schema(description = "지역 코드 (요청한 경우만)",
+            example = "US-CA")
+    private String county;
+
+    @Schema(description = "주말 요일",
+            example = "SATURDAY,SUNDAY")
+    private String weekend;
+
+    @Schema(description = "기준 날짜",
+            example = "2024-02-08",
+            type = "string",
+            format = "date")
+    private LocalDate date;
+
+    @Schema(description = "더한 영업일 수 (음수면 이전)",
+            example = "3")
+    private int days;
+
+    @Schema(description = "결과 날짜",
+            example = "2024-02-15",
+            type = "string",
+            format = "date")
+    private LocalDate result;
+}
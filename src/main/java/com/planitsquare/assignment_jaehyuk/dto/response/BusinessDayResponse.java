@@ -0,0 +1,45 @@
+package com.planitsquare.assignment_jaehyuk.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "영업일 여부 응답")
+public class BusinessDayResponse {
+
+    @Schema(description = "국가 코드 (ISO 2자리)",
+            example = "KR")
+    private String countryCode;
+
+    @Schema(description = "지역 코드 (요청한 경우만)",
+            example = "US-CA")
+    private String county;
+
+    @Schema(description = "주말 요일",
+            example = "SATURDAY,SUNDAY")
+    private String weekend;
+
+    @Schema(description = "조회 날짜",
+            example = "2024-01-01",
+            type = "string",
+            format = "date")
+    private LocalDate date;
+
+    @Schema(description = "영업일 여부",
+            example = "false")
+    private boolean businessDay;
+
+    @Schema(description = "공휴일 여부 (전국 또는 요청 지역)",
+            example = "true")
+    private boolean holiday;
+
+    @Schema(description = "주말 여부",
+            example = "false")
+    private boolean weekendDay;
+}
@@ -0,0 +1,34 @@
+package com.planitsquare.assignment_jaehyuk.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "커서 기반 공휴일 검색 응답")
+public class HolidaySliceResponse {
+
+    @Schema(description = "공휴일 목록")
+    private List<HolidayResponse> content;
+
+    @Schema(description = "요청한 조회 건수",
+            example = "100")
+    private int size;
+
+    @Schema(description = "다음 데이터 존재 여부",
+            example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 조회에 사용할 커서 (마지막이면 없음)",
+            example = "djF8REFURXxEfDEyM3wyMDI0LTAxLTAx")
+    private String nextCursor;
+
+    @Schema(description = "전체 건수 (includeTotal=true 인 경우만)",
+            example = "1234")
+    private Long totalCount;
+}
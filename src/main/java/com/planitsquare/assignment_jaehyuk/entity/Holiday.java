@@ -10,15 +10,31 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "holiday")
+@Table(
+        name = "holiday",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_holiday_country_date_name", columnNames = {"country_code", "date", "name"}),
+        indexes = {
+                @Index(name = "idx_holiday_date_id", columnList = "date, id"),
+                @Index(name = "idx_holiday_country_name_id", columnList = "country_name, id"),
+                @Index(name = "idx_holiday_name_id", columnList = "name, id"),
+                @Index(name = "idx_holiday_local_name_id", columnList = "local_name, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Holiday {
 
+    /**
+     * holiday_seq 증가폭 - 시퀀스 값 v 하나가 id (v - 100, v] 구간을 예약한다 (Hibernate pooled optimizer)
+     * JDBC 벌크 저장도 같은 규칙으로 구간을 예약하므로 두 경로의 id가 겹치지 않는다.
+     */
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_seq")
-    @SequenceGenerator(name = "holiday_seq", sequenceName = "holiday_seq", allocationSize = 100)
+    @SequenceGenerator(name = "holiday_seq", sequenceName = "holiday_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "country_code", nullable = false, length = 2)
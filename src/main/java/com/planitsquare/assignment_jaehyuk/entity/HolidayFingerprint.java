@@ -0,0 +1,55 @@
+package com.planitsquare.assignment_jaehyuk.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "holiday_fingerprint",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_holiday_fingerprint_country_year",
+                columnNames = {"country_code", "holiday_year"}
+        )
+)
+@Getter
+@NoArgsConstructor
+public class HolidayFingerprint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_fingerprint_seq")
+    @SequenceGenerator(name = "holiday_fingerprint_seq", sequenceName = "holiday_fingerprint_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "country_code", nullable = false, length = 2)
+    private String countryCode;
+
+    @Column(name = "holiday_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "payload_hash", nullable = false, length = 64)
+    private String payloadHash;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public HolidayFingerprint(String countryCode, Integer year, String payloadHash) {
+        this.countryCode = countryCode;
+        this.year = year;
+        this.payloadHash = payloadHash;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean matches(String payloadHash) {
+        return this.payloadHash.equals(payloadHash);
+    }
+
+    public void updatePayloadHash(String payloadHash) {
+        this.payloadHash = payloadHash;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,44 @@
+package com.planitsquare.assignment_jaehyuk.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "nager_http_validator")
+@Getter
+@NoArgsConstructor
+public class NagerHttpValidator {
+
+    @Id
+    @Column(length = 100)
+    private String uri;
+
+    @Column(length = 255)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public NagerHttpValidator(String uri, String etag, String lastModified) {
+        this.uri = uri;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean matches(String etag, String lastModified) {
+        return Objects.equals(this.etag, etag) && Objects.equals(this.lastModified, lastModified);
+    }
+}
@@ -9,8 +9,12 @@ public enum ErrorCode {
     INVALID_HOLIDAY_DATA(HttpStatus.BAD_REQUEST, "40001", "잘못된 공휴일 데이터입니다."),
     INVALID_COUNTRY_CODE(HttpStatus.BAD_REQUEST, "40002", "지원하지 않는 국가 코드입니다."),
     INVALID_YEAR_RANGE(HttpStatus.BAD_REQUEST, "40003", "잘못된 연도 범위입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "40004", "잘못된 커서입니다. 검색 조건과 정렬이 같은 요청의 커서를 사용해야 합니다."),
+    INVALID_WEEKEND(HttpStatus.BAD_REQUEST, "40005", "잘못된 주말 설정입니다. 요일 이름(예: SATURDAY,SUNDAY)을 사용하고, 모든 요일을 주말로 지정할 수 없습니다."),
+    INVALID_BUSINESS_DAYS(HttpStatus.BAD_REQUEST, "40006", "더할 영업일 수는 -3660 ~ 3660 사이여야 합니다."),
 
     HOLIDAY_NOT_FOUND(HttpStatus.NOT_FOUND, "40401", "공휴일을 찾을 수 없습니다."),
+    HOLIDAY_CALENDAR_NOT_FOUND(HttpStatus.NOT_FOUND, "40402", "해당 국가/연도의 공휴일 데이터가 없어 영업일을 계산할 수 없습니다."),
 
     EXTERNAL_API_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "40801", "외부 API 요청 시간이 초과되었습니다."),
 
@@ -20,6 +24,9 @@ public enum ErrorCode {
 
     COUNTRY_API_CALL_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "50301", "국가 목록 조회 API 호출에 실패했습니다."),
     HOLIDAY_API_CALL_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "50302", "공휴일 조회 API 호출에 실패했습니다."),
+    EXTERNAL_API_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "50303", "외부 API 장애로 호출이 일시 차단되었습니다. 잠시 후 다시 시도해 주세요."),
+    EXTERNAL_API_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "50304", "외부 API 호출 대기 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    HOLIDAY_API_EMPTY_RESPONSE(HttpStatus.SERVICE_UNAVAILABLE, "50305", "외부 API가 공휴일을 반환하지 않아 기존 공휴일 데이터를 유지했습니다."),
 
     HOLIDAY_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "50004", "공휴일 삭제에 실패했습니다."),
 
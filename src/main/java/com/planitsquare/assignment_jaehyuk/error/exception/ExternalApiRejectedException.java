@@ -0,0 +1,13 @@
+package com.planitsquare.assignment_jaehyuk.error.exception;
+
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+
+/**
+ * 외부 API를 호출하지 않고 거절한 경우 (서킷 오픈, 대기열 초과) - 재시도하지 않고 바로 실패시킨다
+ */
+public class ExternalApiRejectedException extends BusinessException {
+
+  public ExternalApiRejectedException(ErrorCode errorCode) {
+    super(errorCode);
+  }
+}
@@ -5,6 +5,7 @@ import com.planitsquare.assignment_jaehyuk.client.NagerDateApiClient;
 import com.planitsquare.assignment_jaehyuk.dto.external.CountryDto;
 import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
 import com.planitsquare.assignment_jaehyuk.service.HolidayService;
+import com.planitsquare.assignment_jaehyuk.util.VirtualThreadUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,10 +15,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StopWatch;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -35,13 +34,15 @@ public class HolidayDataInitializer implements ApplicationRunner {
 
     @Value("${holiday.data-initialization.end-year}")
     private int endYear;
-    
-    @Value("${external.api.nager.rate-limit.delay:100ms}")
-    private String rateLimitDelayStr;
-    
-    private long getRateLimitDelayMs() {
-        return Duration.parse("PT" + rateLimitDelayStr.toUpperCase()).toMillis();
-    }
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${holiday.scheduler.concurrency.max-countries:30}")
+    private int maxConcurrentCountries;
+
+    @Value("${holiday.scheduler.concurrency.max-years-per-country:6}")
+    private int maxConcurrentYears;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
@@ -82,6 +83,15 @@ public class HolidayDataInitializer implements ApplicationRunner {
 
         log.info("총 {} 개국의 공휴일 데이터를 초기화합니다", countries.size());
 
+        if (virtualThreads) {
+            // 국가마다 가상 스레드 하나 - 국가 작업은 자신의 연도 조회가 모두 끝나야 종료된다
+            VirtualThreadUtils.invokeAll("holiday-init-", countries, maxConcurrentCountries, country -> {
+                initializeCountryHolidays(country);
+                return null;
+            });
+            return;
+        }
+
         for (CountryDto country : countries) {
             initializeCountryHolidays(country);
         }
@@ -100,26 +110,16 @@ public class HolidayDataInitializer implements ApplicationRunner {
         try {
             log.debug("{}({}) 공휴일 데이터 초기화 시작", country.getName(), country.getCountryCode());
 
-            List<HolidayDto> allHolidayList = new ArrayList<>();
-
-            IntStream.rangeClosed(startYear, endYear)
-                    .forEach(year -> {
-                        try {
-                            List<HolidayDto> holidayList = nagerDateApiClient.getPublicHolidays(country.getCountryCode(), year);
-
-                            if (!holidayList.isEmpty()) {
-                                allHolidayList.addAll(holidayList);
-                                log.debug("{}({}) {}년 공휴일 {} 개 수집", country.getName(), country.getCountryCode(), year, holidayList.size());
-                            }
-
-                            Thread.sleep(getRateLimitDelayMs());
+            List<Integer> years = IntStream.rangeClosed(startYear, endYear).boxed().toList();
 
-                        } catch (Exception e) {
-                            log.warn("{}({}) {}년 데이터 조회 실패: {}", country.getName(), country.getCountryCode(), year, e.getMessage());
-                        }
-
-                    });
+            List<List<HolidayDto>> holidayLists = virtualThreads
+                    ? VirtualThreadUtils.invokeAll("holiday-init-" + country.getCountryCode() + "-", years,
+                            maxConcurrentYears, year -> fetchHolidays(country, year))
+                    : years.stream().map(year -> fetchHolidays(country, year)).toList();
 
+            List<HolidayDto> allHolidayList = holidayLists.stream()
+                    .flatMap(List::stream)
+                    .toList();
 
             holidayService.saveHolidayList(country.getName(), allHolidayList);
 
@@ -130,4 +130,20 @@ public class HolidayDataInitializer implements ApplicationRunner {
                     country.getName(), country.getCountryCode(), e.getMessage());
         }
     }
+
+    private List<HolidayDto> fetchHolidays(CountryDto country, int year) {
+        try {
+            List<HolidayDto> holidayList = nagerDateApiClient.getPublicHolidays(country.getCountryCode(), year);
+
+            if (!holidayList.isEmpty()) {
+                log.debug("{}({}) {}년 공휴일 {} 개 수집", country.getName(), country.getCountryCode(), year, holidayList.size());
+            }
+
+            return holidayList;
+
+        } catch (Exception e) {
+            log.warn("{}({}) {}년 데이터 조회 실패: {}", country.getName(), country.getCountryCode(), year, e.getMessage());
+            return List.of();
+        }
+    }
 }
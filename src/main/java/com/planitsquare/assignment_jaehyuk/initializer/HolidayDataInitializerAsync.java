@@ -4,6 +4,7 @@ import com.planitsquare.assignment_jaehyuk.client.NagerDataApiClientAsync;
 import com.planitsquare.assignment_jaehyuk.dto.external.CountryDto;
 import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
 import com.planitsquare.assignment_jaehyuk.service.HolidayService;
+import com.planitsquare.assignment_jaehyuk.util.HolidayDtoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +21,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,26 +40,40 @@ class HolidayDataInitializerAsync implements ApplicationRunner {
     @Value("${holiday.data-initialization.end-year}")
     private int endYear;
 
-    private static final int MAX_CONCURRENT_COUNTRIES = 30;
-    private int maxConcurrentCountries = MAX_CONCURRENT_COUNTRIES;
+    // 실제 동시 요청 수는 NagerThrottlingFilter의 적응형 한도가 정하므로 국가 x 연도 구독 수 합계를 그 최대값으로 맞춘다
+    // 한도를 넘는 구독은 허가 대기열(bulkhead)에 쌓이므로 대기열이 max-waiting / max-wait 을 넘지 않게 한다
+    @Value("${external.api.nager.concurrency.max-limit:64}")
+    private int maxConcurrentRequests;
+
     private static final int MAX_CONCURRENT_YEARS = 6;
 
+    @Value("${holiday.initializer.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
+    @Value("${holiday.initializer.streaming.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${holiday.initializer.streaming.buffer-chunks:4}")
+    private int bufferChunks;
+
     @Override
     public void run(ApplicationArguments args) {
         StopWatch stopWatch = new StopWatch("HolidayDataInitializer");
+        IngestStats ingestStats = new IngestStats();
         String startTimeStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
         log.info("공휴일 데이터 초기화 시작 - 시작 시간: {}", startTimeStr);
         stopWatch.start("공휴일 데이터 전체 초기화");
 
         try {
-            initializeHolidayDataAsyncBulk()
+            initializeHolidayDataAsyncBulk(ingestStats)
                     .doOnSuccess(totalCount -> {
                         stopWatch.stop();
                         String endTimeStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
                         log.info("공휴일 데이터 초기화 완료 - 완료 시간: {}", endTimeStr);
                         log.info("총 저장된 공휴일: {} 개", totalCount);
                         log.info("실행 시간 상세:\n{}", stopWatch.prettyPrint());
+                        logIngestStats(ingestStats, stopWatch);
                         log.info("총 소요 시간: {}초", String.format("%.3f", stopWatch.getTotalTimeSeconds()));
                     })
                     .doOnError(e -> {
@@ -64,6 +81,7 @@ class HolidayDataInitializerAsync implements ApplicationRunner {
                         String endTimeStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
                         log.error("공휴일 데이터 초기화 실패 - 완료 시간: {}", endTimeStr);
                         log.info("실행 시간 상세:\n{}", stopWatch.prettyPrint());
+                        logIngestStats(ingestStats, stopWatch);
                     })
                     .block();
 
@@ -73,23 +91,89 @@ class HolidayDataInitializerAsync implements ApplicationRunner {
         }
     }
 
-    private Mono<Integer> initializeHolidayDataAsyncBulk() {
+    private Mono<Integer> initializeHolidayDataAsyncBulk(IngestStats ingestStats) {
         return getAvailableCountriesAsync()
                 .flatMap(countries -> {
                     if (countries.isEmpty()) {
                         log.warn("사용 가능한 국가 목록이 없습니다");
                         return Mono.just(0);
                     }
-                    maxConcurrentCountries = countries.size();
                     log.info("총 {} 개국의 공휴일 데이터 수집", countries.size());
 
                     Map<String, String> countryNameMap = createCountryNameMap(countries);
 
+                    if (streamingEnabled) {
+                        return streamAllHolidaysAsync(countries, countryNameMap, ingestStats);
+                    }
+
                     return collectAllHolidaysAsync(countries, countryNameMap)
                             .flatMap(allHolidays -> saveAllHolidaysBulk(allHolidays, countryNameMap));
                 });
     }
 
+    /**
+     * 스트리밍 적재
+     * 수집된 공휴일을 chunkSize 단위로 묶어 바로 저장하며, 저장 대기 청크는 bufferChunks 개로 제한된다.
+     * 버퍼가 가득 차면 상류의 API 수집이 멈추므로 메모리 사용량은 연도 범위와 무관하게 일정하다.
+     */
+    private Mono<Integer> streamAllHolidaysAsync(List<CountryDto> countries, Map<String, String> countryNameMap,
+                                                 IngestStats ingestStats) {
+        log.info("스트리밍 적재 시작 - 청크 크기: {}, 버퍼 청크 수: {}", chunkSize, bufferChunks);
+
+        return Flux.fromIterable(countries)
+                .flatMap(country -> Flux.range(startYear, endYear - startYear + 1)
+                        .flatMap(year -> fetchHolidaysForYear(country, year), MAX_CONCURRENT_YEARS)
+                        .flatMapIterable(holidays -> holidays), maxConcurrentCountries())
+                .buffer(chunkSize)
+                .transform(ingestStats::trackDemand)
+                .concatMap(chunk -> saveChunk(chunk, countryNameMap, ingestStats), bufferChunks)
+                .reduce(0, Integer::sum)
+                .doOnSuccess(totalCount ->
+                        log.info("스트리밍 적재 완료: {} 개 청크, {} 개의 공휴일 데이터 저장",
+                                ingestStats.getChunkCount(), totalCount)
+                );
+    }
+
+    private int maxConcurrentCountries() {
+        return Math.max(1, maxConcurrentRequests / MAX_CONCURRENT_YEARS);
+    }
+
+    private Mono<Integer> saveChunk(List<HolidayDto> chunk, Map<String, String> countryNameMap, IngestStats ingestStats) {
+        return Mono.fromCallable(() -> {
+                    long startNanos = System.nanoTime();
+                    try {
+                        holidayService.saveAllHolidaysBulk(chunk, countryNameMap);
+                        // 처리량과 평균 저장 시간은 저장에 성공한 청크만으로 계산
+                        ingestStats.onChunkSaved(chunk.size(), System.nanoTime() - startNanos);
+                        log.debug("청크 저장 완료: {} 개", chunk.size());
+                        return chunk.size();
+
+                    } catch (Exception e) {
+                        ingestStats.onChunkFailed(chunk.size());
+                        log.error("청크 저장 실패: {} 개", chunk.size(), e);
+                        throw new RuntimeException("청크 저장 실패", e);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void logIngestStats(IngestStats ingestStats, StopWatch stopWatch) {
+        if (!streamingEnabled) {
+            return;
+        }
+
+        double totalSeconds = stopWatch.getTotalTimeSeconds();
+        log.info("청크 처리량: {} 개 청크, {} 개 저장, 초당 {} 건 (청크당 평균 저장 {}ms)",
+                ingestStats.getChunkCount(),
+                ingestStats.getRowCount(),
+                String.format("%.1f", totalSeconds > 0 ? ingestStats.getRowCount() / totalSeconds : 0),
+                String.format("%.1f", ingestStats.getAverageChunkWriteMillis()));
+        if (ingestStats.getFailedChunkCount() > 0) {
+            log.warn("저장 실패: {} 개 청크, {} 개 공휴일", ingestStats.getFailedChunkCount(), ingestStats.getFailedRowCount());
+        }
+        log.info("백프레셔 대기 (저장 요청 없음): {} 회, 총 {}ms", ingestStats.getStallCount(), ingestStats.getStallMillis());
+    }
+
     private Map<String, String> createCountryNameMap(List<CountryDto> countries) {
         Map<String, String> countryNameMap = countries.stream()
                 .collect(Collectors.toMap(
@@ -115,7 +199,7 @@ class HolidayDataInitializerAsync implements ApplicationRunner {
         log.info("모든 국가의 공휴일 데이터 수집 시작");
 
         return Flux.fromIterable(countries)
-                .flatMap(this::collectCountryHolidaysAsync, maxConcurrentCountries)
+                .flatMap(this::collectCountryHolidaysAsync, maxConcurrentCountries())
                 .collectList()
                 .map(holidayLists -> {
                     List<HolidayDto> allHolidays = holidayLists.stream()
@@ -158,6 +242,8 @@ class HolidayDataInitializerAsync implements ApplicationRunner {
 
     private Mono<List<HolidayDto>> fetchHolidaysForYear(CountryDto country, int year) {
         return nagerDateApiClient.getPublicHolidays(country.getCountryCode(), year)
+                // 청크 경계와 무관하게 유니크 키가 겹치지 않도록 연도 단위로 먼저 병합
+                .map(HolidayDtoUtils::mergeDuplicates)
                 .doOnSuccess(holidays -> {
                     if (!holidays.isEmpty()) {
                         log.debug("{}({}) {}년 공휴일 {} 개 수집",
@@ -192,4 +278,89 @@ class HolidayDataInitializerAsync implements ApplicationRunner {
                 })
                 .subscribeOn(Schedulers.boundedElastic());
     }
+
+    /**
+     * 스트리밍 적재 통계
+     * 백프레셔 대기는 저장 쪽(concatMap)의 요청이 0이 되어 청크 버퍼가 더 내보내지 못하고 수집이 멈춘 구간이다.
+     * 저장 쪽이 다시 요청하거나 스트림이 끝나면 대기를 마친다.
+     */
+    static final class IngestStats {
+
+        private final AtomicLong chunkCount = new AtomicLong();
+        private final AtomicLong rowCount = new AtomicLong();
+        private final AtomicLong writeNanos = new AtomicLong();
+        private final AtomicLong failedChunkCount = new AtomicLong();
+        private final AtomicLong failedRowCount = new AtomicLong();
+        private final AtomicLong stallCount = new AtomicLong();
+        private final AtomicLong stallNanos = new AtomicLong();
+
+        private long demand;
+        private long stallStartedAt;
+
+        <T> Flux<T> trackDemand(Flux<T> chunks) {
+            return chunks
+                    .doOnRequest(this::onRequested)
+                    .doOnNext(chunk -> onChunkBuffered())
+                    .doFinally(signal -> endStall());
+        }
+
+        synchronized void onRequested(long requested) {
+            demand = requested == Long.MAX_VALUE || demand + requested < 0 ? Long.MAX_VALUE : demand + requested;
+            endStall();
+        }
+
+        synchronized void onChunkBuffered() {
+            if (demand != Long.MAX_VALUE && --demand == 0) {
+                stallCount.incrementAndGet();
+                stallStartedAt = System.nanoTime();
+            }
+        }
+
+        private synchronized void endStall() {
+            if (stallStartedAt != 0) {
+                stallNanos.addAndGet(System.nanoTime() - stallStartedAt);
+                stallStartedAt = 0;
+            }
+        }
+
+        void onChunkSaved(int rows, long elapsedNanos) {
+            chunkCount.incrementAndGet();
+            rowCount.addAndGet(rows);
+            writeNanos.addAndGet(elapsedNanos);
+        }
+
+        void onChunkFailed(int rows) {
+            failedChunkCount.incrementAndGet();
+            failedRowCount.addAndGet(rows);
+        }
+
+        long getChunkCount() {
+            return chunkCount.get();
+        }
+
+        long getRowCount() {
+            return rowCount.get();
+        }
+
+        long getFailedChunkCount() {
+            return failedChunkCount.get();
+        }
+
+        long getFailedRowCount() {
+            return failedRowCount.get();
+        }
+
+        long getStallCount() {
+            return stallCount.get();
+        }
+
+        long getStallMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(stallNanos.get());
+        }
+
+        double getAverageChunkWriteMillis() {
+            long chunks = chunkCount.get();
+            return chunks > 0 ? writeNanos.get() / 1_000_000.0 / chunks : 0;
+        }
+    }
 }
\ No newline at end of file
@@ -3,22 +3,54 @@ package com.planitsquare.assignment_jaehyuk.repository;
 import com.planitsquare.assignment_jaehyuk.entity.Holiday;
 import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
 import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.util.DateUtils;
+import com.planitsquare.assignment_jaehyuk.util.EpochDaySet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
-public class HolidayBulkRepository {
+public class HolidayBulkRepository implements MeterBinder {
+
+    static final String BATCH_TIMER = "holiday.bulk.batch";
 
     private final JdbcTemplate jdbcTemplate;
 
+    private volatile HolidayUpsertDialect dialect;
+
+    // 레지스트리에 연결되기 전(슬라이스 테스트, 벤치마크)에는 기록하지 않는다
+    private volatile MeterRegistry meterRegistry = new CompositeMeterRegistry();
+
+    /**
+     * 국가의 기간 내 공휴일이 있는 날짜 - (country_code, date, name) 유니크 키 범위 조회 한 번으로 읽는다
+     */
+    public EpochDaySet findExistingDates(String countryCode, DateUtils.DateRange range) {
+        EpochDaySet existingDates = new EpochDaySet(range);
+
+        jdbcTemplate.query("SELECT DISTINCT date FROM holiday WHERE country_code = ? AND date BETWEEN ? AND ?",
+                rs -> {
+                    existingDates.add(rs.getObject("date", LocalDate.class));
+                },
+                countryCode, range.startDate(), range.endDate());
+
+        return existingDates;
+    }
+
     @Transactional
     public int bulkInsert(List<Holiday> holidays) {
         if (holidays == null || holidays.isEmpty()) {
@@ -31,7 +63,82 @@ public class HolidayBulkRepository {
             INSERT INTO holiday 
             (id, country_code, country_name, date, local_name, name, is_fixed, is_global, 
              launch_year, types, counties, created_at, updated_at) 
-            VALUES (NEXT VALUE FOR holiday_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            long[] ids = allocateIds(holidays.size());
+            List<Object[]> batchArgs = IntStream.range(0, holidays.size())
+                    .mapToObj(i -> insertArgs(ids[i], holidays.get(i), now))
+                    .toList();
+
+            int[] results = timedBatch("insert", sql, batchArgs);
+
+            int totalInserted = affectedRows(results);
+            log.info("JDBC 배치 INSERT 완료: {} 개", totalInserted);
+            return totalInserted;
+
+        } catch (Exception e) {
+            log.error("JDBC 배치 INSERT 실패", e);
+            throw new BusinessException(ErrorCode.BULK_INSERT_FAILED);
+        }
+    }
+
+    /**
+     * (country_code, date, name) 키 기준 멱등 저장 - 조회 없이 배치 두 번으로 처리한다
+     * 1. 키가 있고 내용이 다른 행만 UPDATE (결과 1 = 수정, 0 = 없음 또는 동일)
+     * 2. 키가 없는 행만 INSERT (H2 MERGE / PostgreSQL ON CONFLICT DO NOTHING, 결과 1 = 추가)
+     * 단일 MERGE는 추가와 수정 모두 1을 반환해 구분할 수 없으므로 나눠서 실행한다.
+     */
+    @Transactional
+    public UpsertResult bulkUpsert(List<Holiday> holidays) {
+        if (holidays == null || holidays.isEmpty()) {
+            return new UpsertResult(0, 0, 0);
+        }
+
+        log.info("JDBC 배치 UPSERT 시작: {} 개", holidays.size());
+
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            List<Object[]> updateArgs = holidays.stream()
+                    .map(holiday -> updateChangedArgs(holiday, now))
+                    .toList();
+            // 이미 있는 키의 행은 INSERT되지 않아 예약한 id 일부는 사용되지 않는다
+            long[] ids = allocateIds(holidays.size());
+            List<Object[]> insertArgs = IntStream.range(0, holidays.size())
+                    .mapToObj(i -> insertArgs(ids[i], holidays.get(i), now))
+                    .toList();
+
+            int updated = affectedRows(timedBatch("upsert_update", HolidayUpsertDialect.UPDATE_CHANGED_SQL, updateArgs));
+            int inserted = affectedRows(timedBatch("upsert_insert", dialect().insertIfAbsentSql(), insertArgs));
+
+            UpsertResult result = new UpsertResult(inserted, updated, Math.max(holidays.size() - inserted - updated, 0));
+            log.info("JDBC 배치 UPSERT 완료: 추가 {} 개, 수정 {} 개, 변경 없음 {} 개",
+                    result.inserted(), result.updated(), result.unchanged());
+            return result;
+
+        } catch (Exception e) {
+            log.error("JDBC 배치 UPSERT 실패", e);
+            throw new BusinessException(ErrorCode.BULK_INSERT_FAILED);
+        }
+    }
+
+    @Transactional
+    public int bulkUpdate(List<Holiday> holidays) {
+        if (holidays == null || holidays.isEmpty()) {
+            return 0;
+        }
+
+        log.info("JDBC 배치 UPDATE 시작: {} 개", holidays.size());
+
+        String sql = """
+            UPDATE holiday
+            SET date = ?, local_name = ?, name = ?, is_fixed = ?, is_global = ?,
+                launch_year = ?, types = ?, counties = ?, updated_at = ?
+            WHERE id = ?
             """;
 
         LocalDateTime now = LocalDateTime.now();
@@ -39,8 +146,6 @@ public class HolidayBulkRepository {
         try {
             List<Object[]> batchArgs = holidays.stream()
                     .map(holiday -> new Object[]{
-                            holiday.getCountryCode(),
-                            holiday.getCountryName(),
                             holiday.getDate(),
                             holiday.getLocalName(),
                             holiday.getName(),
@@ -50,19 +155,146 @@ public class HolidayBulkRepository {
                             holiday.getTypes(),
                             holiday.getCounties(),
                             now,
-                            now
+                            holiday.getId()
                     })
                     .toList();
 
-            int[] results = jdbcTemplate.batchUpdate(sql, batchArgs);
+            int[] results = timedBatch("update", sql, batchArgs);
 
-            int totalInserted = results.length;
-            log.info("JDBC 배치 INSERT 완료: {} 개", totalInserted);
-            return totalInserted;
+            int totalUpdated = affectedRows(results);
+            log.info("JDBC 배치 UPDATE 완료: {} 개", totalUpdated);
+            return totalUpdated;
 
         } catch (Exception e) {
-            log.error("JDBC 배치 INSERT 실패", e);
-            throw new BusinessException(ErrorCode.BULK_INSERT_FAILED);
+            log.error("JDBC 배치 UPDATE 실패", e);
+            throw new BusinessException(ErrorCode.HOLIDAY_UPDATE_FAILED);
+        }
+    }
+
+    @Transactional
+    public int bulkDelete(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+
+        log.info("JDBC 배치 DELETE 시작: {} 개", ids.size());
+
+        String sql = "DELETE FROM holiday WHERE id = ?";
+
+        try {
+            List<Object[]> batchArgs = ids.stream()
+                    .map(id -> new Object[]{id})
+                    .toList();
+
+            int[] results = timedBatch("delete", sql, batchArgs);
+
+            int totalDeleted = affectedRows(results);
+            log.info("JDBC 배치 DELETE 완료: {} 개", totalDeleted);
+            return totalDeleted;
+
+        } catch (Exception e) {
+            log.error("JDBC 배치 DELETE 실패", e);
+            throw new BusinessException(ErrorCode.HOLIDAY_DELETE_FAILED);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    /**
+     * 배치 한 번의 실행 시간 기록 (holiday.bulk.batch)
+     */
+    private int[] timedBatch(String operation, String sql, List<Object[]> batchArgs) {
+        return Timer.builder(BATCH_TIMER)
+                .tag("operation", operation)
+                .description("JDBC 배치 실행 시간")
+                .register(meterRegistry)
+                .record(() -> jdbcTemplate.batchUpdate(sql, batchArgs));
+    }
+
+    private Object[] insertArgs(long id, Holiday holiday, LocalDateTime now) {
+        return new Object[]{
+                id,
+                holiday.getCountryCode(),
+                holiday.getCountryName(),
+                holiday.getDate(),
+                holiday.getLocalName(),
+                holiday.getName(),
+                holiday.getFixed() != null ? holiday.getFixed() : false,
+                holiday.getGlobal() != null ? holiday.getGlobal() : false,
+                holiday.getLaunchYear(),
+                holiday.getTypes(),
+                holiday.getCounties(),
+                now,
+                now
+        };
+    }
+
+    private Object[] updateChangedArgs(Holiday holiday, LocalDateTime now) {
+        boolean fixed = holiday.getFixed() != null ? holiday.getFixed() : false;
+        boolean global = holiday.getGlobal() != null ? holiday.getGlobal() : false;
+
+        return new Object[]{
+                // SET
+                holiday.getCountryName(), holiday.getLocalName(), fixed, global,
+                holiday.getLaunchYear(), holiday.getTypes(), holiday.getCounties(), now,
+                // WHERE 키
+                holiday.getCountryCode(), holiday.getDate(), holiday.getName(),
+                // 내용 비교
+                holiday.getCountryName(), holiday.getLocalName(), fixed, global,
+                holiday.getLaunchYear(), holiday.getTypes(), holiday.getCounties()
+        };
+    }
+
+    /**
+     * 배치 결과 중 실제 반영된 행 수 - 드라이버가 건수를 주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 본다
+     */
+    private int affectedRows(int[] results) {
+        int affected = 0;
+        for (int result : results) {
+            if (result == Statement.SUCCESS_NO_INFO) {
+                affected++;
+            } else if (result > 0) {
+                affected += result;
+            }
         }
+        return affected;
     }
-}
\ No newline at end of file
+
+    /**
+     * count 개의 id를 시퀀스 조회 한 번(ID_ALLOCATION_SIZE 개당 시퀀스 값 1개)으로 예약 - Hibernate pooled optimizer와 같은 규칙으로
+     * 시퀀스 값 v마다 (v - ID_ALLOCATION_SIZE, v] 구간을 사용하므로 JPA 저장과 id가 겹치지 않는다.
+     */
+    long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        int allocated = 0;
+
+        while (allocated < count) {
+            int blockCount = (count - allocated + Holiday.ID_ALLOCATION_SIZE - 1) / Holiday.ID_ALLOCATION_SIZE;
+            List<Long> sequenceValues = jdbcTemplate.queryForList(dialect().nextSequenceValuesSql(), Long.class, blockCount);
+
+            for (long hi : sequenceValues) {
+                // 시퀀스 시작값(1)은 id 1 하나만 사용할 수 있으므로 부족하면 다시 예약
+                for (long id = Math.max(hi - Holiday.ID_ALLOCATION_SIZE + 1, 1); id <= hi && allocated < count; id++) {
+                    ids[allocated++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private HolidayUpsertDialect dialect() {
+        HolidayUpsertDialect current = dialect;
+        if (current == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            current = HolidayUpsertDialect.fromDatabaseProductName(productName);
+            dialect = current;
+        }
+        return current;
+    }
+
+    public record UpsertResult(int inserted, int updated, int unchanged) {}
+}
@@ -0,0 +1,167 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository.UpsertResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 공휴일 청크 저장
+ * 입력을 chunkSize 개씩 읽어 청크마다 별도 트랜잭션으로 UPSERT 후 커밋한다.
+ * writers가 2 이상이면 청크를 여러 커넥션에서 동시에 저장하며, 진행 중인 청크는 writers 개로 제한되어
+ * 메모리 사용량은 전체 데이터 크기가 아니라 chunkSize * writers 에 비례한다.
+ * 청크 단위로 커밋하므로 중간에 실패하면 앞선 청크는 남지만, UPSERT라 다시 실행해도 안전하다.
+ */
+@Slf4j
+@Repository
+public class HolidayChunkedWriter {
+
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int writers;
+
+    public HolidayChunkedWriter(HolidayBulkRepository holidayBulkRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${holiday.bulk.chunk-size:1000}") int chunkSize,
+                                @Value("${holiday.bulk.writers:1}") int writers) {
+        if (chunkSize < 1 || writers < 1) {
+            throw new IllegalArgumentException("chunk-size와 writers는 1 이상이어야 합니다");
+        }
+
+        this.holidayBulkRepository = holidayBulkRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.writers = writers;
+    }
+
+    public ChunkedWriteResult upsertAll(Iterator<Holiday> holidays) {
+        long startedAt = System.nanoTime();
+
+        List<ChunkResult> chunkResults = writers == 1
+                ? writeSequentially(holidays)
+                : writeInParallel(holidays);
+
+        ChunkedWriteResult result = ChunkedWriteResult.of(chunkResults, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("청크 저장 완료 - 청크: {} 개 (크기 {}, 동시 저장 {}), 추가: {}, 수정: {}, 변경 없음: {}, " +
+                        "청크 지연 평균/최대: {}ms/{}ms, 전체: {}ms",
+                result.chunkLatencies().size(), chunkSize, writers,
+                result.inserted(), result.updated(), result.unchanged(),
+                result.averageChunkLatency().toMillis(), result.maxChunkLatency().toMillis(), result.elapsed().toMillis());
+        return result;
+    }
+
+    private List<ChunkResult> writeSequentially(Iterator<Holiday> holidays) {
+        List<ChunkResult> chunkResults = new ArrayList<>();
+        while (holidays.hasNext()) {
+            chunkResults.add(writeChunk(chunkResults.size(), nextChunk(holidays)));
+        }
+        return chunkResults;
+    }
+
+    private List<ChunkResult> writeInParallel(Iterator<Holiday> holidays) {
+        Semaphore inFlight = new Semaphore(writers);
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicInteger threadNumber = new AtomicInteger();
+        List<Future<ChunkResult>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers,
+                runnable -> new Thread(runnable, "holiday-writer-" + threadNumber.incrementAndGet()))) {
+
+            // 실패한 청크가 생기면 남은 입력은 더 읽지 않는다
+            while (holidays.hasNext() && !failed.get()) {
+                List<Holiday> chunk = nextChunk(holidays);
+                int chunkIndex = futures.size();
+
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return writeChunk(chunkIndex, chunk);
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            List<ChunkResult> chunkResults = new ArrayList<>(futures.size());
+            for (Future<ChunkResult> future : futures) {
+                chunkResults.add(future.get());
+            }
+            return chunkResults;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.BULK_INSERT_FAILED);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("청크 저장 실패", e.getCause());
+            throw new BusinessException(ErrorCode.BULK_INSERT_FAILED);
+        }
+    }
+
+    private ChunkResult writeChunk(int chunkIndex, List<Holiday> chunk) {
+        long startedAt = System.nanoTime();
+        UpsertResult upsertResult = chunkTransaction.execute(status -> holidayBulkRepository.bulkUpsert(chunk));
+        Duration latency = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        log.debug("청크 #{} 커밋 - {} 개, {}ms", chunkIndex, chunk.size(), latency.toMillis());
+        return new ChunkResult(upsertResult, latency);
+    }
+
+    private List<Holiday> nextChunk(Iterator<Holiday> holidays) {
+        List<Holiday> chunk = new ArrayList<>(chunkSize);
+        while (holidays.hasNext() && chunk.size() < chunkSize) {
+            chunk.add(holidays.next());
+        }
+        return chunk;
+    }
+
+    private record ChunkResult(UpsertResult upsertResult, Duration latency) {}
+
+    public record ChunkedWriteResult(
+            int inserted,
+            int updated,
+            int unchanged,
+            List<Duration> chunkLatencies,
+            Duration elapsed
+    ) {
+        static ChunkedWriteResult of(List<ChunkResult> chunkResults, Duration elapsed) {
+            return new ChunkedWriteResult(
+                    chunkResults.stream().mapToInt(chunk -> chunk.upsertResult().inserted()).sum(),
+                    chunkResults.stream().mapToInt(chunk -> chunk.upsertResult().updated()).sum(),
+                    chunkResults.stream().mapToInt(chunk -> chunk.upsertResult().unchanged()).sum(),
+                    chunkResults.stream().map(ChunkResult::latency).toList(),
+                    elapsed
+            );
+        }
+
+        public Duration maxChunkLatency() {
+            return chunkLatencies.stream().max(Comparator.naturalOrder()).orElse(Duration.ZERO);
+        }
+
+        public Duration averageChunkLatency() {
+            return chunkLatencies.isEmpty()
+                    ? Duration.ZERO
+                    : chunkLatencies.stream().reduce(Duration.ZERO, Duration::plus).dividedBy(chunkLatencies.size());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.entity.HolidayFingerprint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface HolidayFingerprintRepository extends JpaRepository<HolidayFingerprint, Long> {
+
+    Optional<HolidayFingerprint> findByCountryCodeAndYear(String countryCode, Integer year);
+
+    @Modifying
+    @Query("delete from HolidayFingerprint f where f.countryCode = :countryCode and f.year = :year")
+    int deleteByCountryCodeAndYear(@Param("countryCode") String countryCode, @Param("year") Integer year);
+
+    // 청크 저장처럼 트랜잭션 밖에서 호출되는 경우에도 단독으로 실행
+    @Transactional
+    @Modifying
+    @Query("delete from HolidayFingerprint f where f.countryCode in :countryCodes")
+    int deleteByCountryCodeIn(@Param("countryCodes") Collection<String> countryCodes);
+}
@@ -11,8 +11,6 @@ import java.util.List;
 
 @Repository
 public interface HolidayRepository extends JpaRepository<Holiday, Long>, HolidayRepositoryCustom {
-    boolean existsByCountryCodeAndDate(String countryCode, LocalDate date);
-
     Page<Holiday> findByCountryCodeAndDateBetween(String countryCode, LocalDate dateAfter, LocalDate dateBefore, Pageable pageable);
 
     List<Holiday> findByCountryCodeAndCountryNameAndDateBetween(String countryCode, String countryName, LocalDate startDate, LocalDate endDate);
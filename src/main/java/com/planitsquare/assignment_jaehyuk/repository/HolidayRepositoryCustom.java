@@ -1,12 +1,25 @@
 package com.planitsquare.assignment_jaehyuk.repository;
 
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidayCursor;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.function.LongSupplier;
 
 public interface HolidayRepositoryCustom {
     Page<HolidayResponse> searchHolidayListWithSearchCondition(HolidaySearchCondition searchCondition, Pageable pageable);
 
+    Page<HolidayResponse> searchHolidayListWithSearchCondition(HolidaySearchCondition searchCondition, Pageable pageable,
+                                                               LongSupplier totalCounter);
+
+    Slice<HolidayResponse> searchHolidayListWithoutCount(HolidaySearchCondition searchCondition, Pageable pageable);
+
+    Slice<HolidayResponse> searchHolidaySliceWithSearchCondition(HolidaySearchCondition searchCondition, HolidayCursor cursor, int size);
+
+    long countHolidayListWithSearchCondition(HolidaySearchCondition searchCondition);
+
     Long deleteByCountryCodeAndYear(String countryCode, int year);
 }
@@ -1,21 +1,30 @@
 package com.planitsquare.assignment_jaehyuk.repository;
 
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidayCursor;
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidayCursor.SortKey;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
 import com.planitsquare.assignment_jaehyuk.dto.response.QHolidayResponse;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.TextColumn;
+import com.planitsquare.assignment_jaehyuk.search.HolidayTextIndex;
 import com.planitsquare.assignment_jaehyuk.util.DateUtils;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 import static com.planitsquare.assignment_jaehyuk.entity.QHoliday.holiday;
 import static org.springframework.util.StringUtils.hasText;
@@ -24,14 +33,45 @@ import static org.springframework.util.StringUtils.hasText;
 public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final HolidayTextIndex holidayTextIndex;
 
     @Override
     public Page<HolidayResponse> searchHolidayListWithSearchCondition(HolidaySearchCondition searchCondition, Pageable pageable) {
+        return searchHolidayListWithSearchCondition(searchCondition, pageable,
+                () -> countHolidayListWithSearchCondition(searchCondition));
+    }
+
+    /**
+     * 고급 검색 - 첫 페이지가 다 차지 않았거나 마지막 페이지인 경우 전체 건수를 계산할 수 있으므로 COUNT 쿼리를 생략한다
+     * @param totalCounter 전체 건수가 필요할 때만 호출
+     */
+    @Override
+    public Page<HolidayResponse> searchHolidayListWithSearchCondition(HolidaySearchCondition searchCondition, Pageable pageable,
+                                                                      LongSupplier totalCounter) {
+        List<HolidayResponse> holidayResponseList = fetchHolidayList(searchCondition, pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(holidayResponseList, pageable, totalCounter);
+    }
+
+    /**
+     * 전체 건수 없이 고급 검색 - 한 건 더 조회하여 다음 페이지 존재 여부만 확인한다
+     */
+    @Override
+    public Slice<HolidayResponse> searchHolidayListWithoutCount(HolidaySearchCondition searchCondition, Pageable pageable) {
+        List<HolidayResponse> holidayResponseList = fetchHolidayList(searchCondition, pageable.getOffset(), pageable.getPageSize() + 1);
+
+        boolean hasNext = holidayResponseList.size() > pageable.getPageSize();
+        List<HolidayResponse> content = hasNext ? holidayResponseList.subList(0, pageable.getPageSize()) : holidayResponseList;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private List<HolidayResponse> fetchHolidayList(HolidaySearchCondition searchCondition, long offset, int limit) {
 
         // 정렬 조건 구성
         OrderSpecifier<?> orderSpecifier = buildOrderSpecifier(searchCondition);
 
-        List<HolidayResponse> holidayResponseList = queryFactory
+        return queryFactory
                 .select(
                         new QHolidayResponse(
                                 holiday.id,
@@ -47,19 +87,55 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
                         buildSearchCondition(searchCondition)
                 )
                 .orderBy(orderSpecifier != null ? orderSpecifier : holiday.date.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 커서 기반 검색 - (정렬 컬럼, id) 기준으로 커서 이후의 행만 조회하므로 OFFSET 스킵과 COUNT 쿼리가 없다
+     */
+    @Override
+    public Slice<HolidayResponse> searchHolidaySliceWithSearchCondition(HolidaySearchCondition searchCondition,
+                                                                        HolidayCursor cursor, int size) {
+        SortKey sortKey = SortKey.from(searchCondition.getSortBy());
+        Order order = HolidayCursor.isDescending(searchCondition) ? Order.DESC : Order.ASC;
+
+        List<HolidayResponse> holidayResponseList = queryFactory
+                .select(
+                        new QHolidayResponse(
+                                holiday.id,
+                                holiday.countryCode,
+                                holiday.countryName,
+                                holiday.date,
+                                holiday.localName,
+                                holiday.name
+                        )
+                )
+                .from(holiday)
+                .where(
+                        buildSearchCondition(searchCondition),
+                        afterCursor(cursor)
+                )
+                .orderBy(new OrderSpecifier<>(order, sortPath(sortKey)), new OrderSpecifier<>(order, holiday.id))
+                .limit(size + 1L)
                 .fetch();
 
+        boolean hasNext = holidayResponseList.size() > size;
+        List<HolidayResponse> content = hasNext ? holidayResponseList.subList(0, size) : holidayResponseList;
+
+        return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
+    }
+
+    @Override
+    public long countHolidayListWithSearchCondition(HolidaySearchCondition searchCondition) {
         Long totalCount = queryFactory
                 .select(holiday.count())
                 .from(holiday)
                 .where(buildSearchCondition(searchCondition))
                 .fetchOne();
 
-        long total = totalCount != null ? totalCount : 0L;
-
-        return new PageImpl<>(holidayResponseList, pageable, total);
+        return totalCount != null ? totalCount : 0L;
     }
 
     @Override
@@ -81,13 +157,14 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
                 .and(hasLocalName(searchCondition.getLocalName()))
                 .and(hasName(searchCondition.getName()))
                 .and(hasGlobal(searchCondition.getGlobal()))
+                .and(hasFixed(searchCondition.getFixed()))
                 .and(hasLaunchYear(searchCondition.getLaunchYear()));
 
         return booleanBuilder;
     }
 
     private BooleanExpression hasCountryName(String countryName) {
-        return hasText(countryName) ? holiday.countryName.contains(countryName) : null;
+        return hasText(countryName) ? containing(holiday.countryName, TextColumn.COUNTRY_NAME, countryName) : null;
     }
 
     private BooleanExpression hasDateRange(LocalDate startDate, LocalDate endDate) {
@@ -102,22 +179,65 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
     }
 
     private BooleanExpression hasLocalName(String localName) {
-        return hasText(localName) ? holiday.localName.contains(localName) : null;
+        return hasText(localName) ? containing(holiday.localName, TextColumn.LOCAL_NAME, localName) : null;
     }
 
     private BooleanExpression hasName(String name) {
-        return hasText(name) ? holiday.name.contains(name) : null;
+        return hasText(name) ? containing(holiday.name, TextColumn.NAME, name) : null;
+    }
+
+    /**
+     * 포함 검색 - 값 사전에서 찾은 값 목록이 있으면 IN 조건으로 (컬럼, id) 인덱스를 타고, 없으면 LIKE '%x%'
+     */
+    private BooleanExpression containing(StringPath path, TextColumn column, String keyword) {
+        List<String> values = holidayTextIndex.valuesContaining(column, keyword);
+        return values != null ? path.in(values) : path.contains(keyword);
     }
 
     private BooleanExpression hasGlobal(Boolean global) {
         return global != null ? holiday.global.eq(global) : null;
     }
 
+    private BooleanExpression hasFixed(Boolean fixed) {
+        return fixed != null ? holiday.fixed.eq(fixed) : null;
+    }
+
     private BooleanExpression hasLaunchYear(Integer launchYear) {
         return launchYear != null ? holiday.launchYear.eq(launchYear) : null;
     }
 
 
+    private ComparableExpression<?> sortPath(SortKey sortKey) {
+        return switch (sortKey) {
+            case DATE -> holiday.date;
+            case COUNTRY_NAME -> holiday.countryName;
+            case NAME -> holiday.name;
+        };
+    }
+
+    private BooleanExpression afterCursor(HolidayCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return switch (cursor.sortKey()) {
+            case DATE -> seek(holiday.date, cursor.dateValue(), cursor);
+            case COUNTRY_NAME -> seek(holiday.countryName, cursor.textValue(), cursor);
+            case NAME -> seek(holiday.name, cursor.textValue(), cursor);
+        };
+    }
+
+    /**
+     * (정렬 컬럼, id) 가 커서보다 뒤인 행
+     * col <= v AND (col < v OR id < lastId) 형태로 작성해야 (정렬 컬럼, id) 인덱스의 범위 탐색을 사용한다
+     */
+    private <T extends Comparable<?>> BooleanExpression seek(ComparableExpression<T> path, T value, HolidayCursor cursor) {
+        if (cursor.descending()) {
+            return path.loe(value).and(path.lt(value).or(holiday.id.lt(cursor.lastId())));
+        }
+        return path.goe(value).and(path.gt(value).or(holiday.id.gt(cursor.lastId())));
+    }
+
     /**
      * 정렬 조건 구성
      */
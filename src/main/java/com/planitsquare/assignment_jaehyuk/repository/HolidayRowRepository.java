@@ -0,0 +1,103 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 검색 인덱스 구성을 위한 공휴일 조회 - 엔티티를 만들지 않고 필요한 컬럼만 읽는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class HolidayRowRepository {
+
+    private static final String SELECT_ROWS = """
+            SELECT id, country_code, country_name, date, local_name, name, is_fixed, is_global, launch_year
+            FROM holiday
+            """;
+
+    private static final RowMapper<HolidayRow> ROW_MAPPER = (rs, rowNum) -> new HolidayRow(
+            rs.getLong("id"),
+            rs.getString("country_code"),
+            rs.getString("country_name"),
+            rs.getObject("date", LocalDate.class),
+            rs.getString("local_name"),
+            rs.getString("name"),
+            rs.getObject("is_fixed", Boolean.class),
+            rs.getObject("is_global", Boolean.class),
+            rs.getObject("launch_year", Integer.class)
+    );
+
+    private static final RowMapper<HolidayCalendarRow> CALENDAR_ROW_MAPPER = (rs, rowNum) -> new HolidayCalendarRow(
+            rs.getObject("date", LocalDate.class),
+            rs.getObject("is_global", Boolean.class),
+            rs.getString("types"),
+            rs.getString("counties")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<HolidayRow> findAll() {
+        return jdbcTemplate.query(SELECT_ROWS, ROW_MAPPER);
+    }
+
+    public List<HolidayRow> findByCountryCodeAndDateBetween(String countryCode, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(SELECT_ROWS + " WHERE country_code = ? AND date BETWEEN ? AND ?",
+                ROW_MAPPER, countryCode, startDate, endDate);
+    }
+
+    /**
+     * 포함 검색 색인용 - 컬럼의 중복 없는 값 (null 제외)
+     */
+    public List<String> findDistinctValues(TextColumn column) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT " + column.columnName + " FROM holiday WHERE "
+                + column.columnName + " IS NOT NULL", String.class);
+    }
+
+    public List<String> findDistinctValues(TextColumn column, String countryCode, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT " + column.columnName + " FROM holiday WHERE "
+                        + column.columnName + " IS NOT NULL AND country_code = ? AND date BETWEEN ? AND ?",
+                String.class, countryCode, startDate, endDate);
+    }
+
+    /**
+     * 영업일 계산용 - 날짜와 적용 지역/종류만 읽는다
+     */
+    public List<HolidayCalendarRow> findCalendarRows(String countryCode, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query("SELECT date, is_global, types, counties FROM holiday WHERE country_code = ? AND date BETWEEN ? AND ?",
+                CALENDAR_ROW_MAPPER, countryCode, startDate, endDate);
+    }
+
+    public enum TextColumn {
+        COUNTRY_NAME("country_name"), LOCAL_NAME("local_name"), NAME("name");
+
+        private final String columnName;
+
+        TextColumn(String columnName) {
+            this.columnName = columnName;
+        }
+    }
+
+    public record HolidayCalendarRow(
+            LocalDate date,
+            Boolean global,
+            String types,
+            String counties
+    ) {}
+
+    public record HolidayRow(
+            long id,
+            String countryCode,
+            String countryName,
+            LocalDate date,
+            String localName,
+            String name,
+            Boolean fixed,
+            Boolean global,
+            Integer launchYear
+    ) {}
+}
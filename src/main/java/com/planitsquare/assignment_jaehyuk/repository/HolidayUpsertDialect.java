@@ -0,0 +1,84 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import java.util.Locale;
+
+/**
+ * DB별 holiday 쓰기 SQL 차이 - 시퀀스 값 여러 개 조회와 (country_code, date, name) 키 기준 "없으면 INSERT"
+ * 내용이 바뀐 행의 UPDATE는 표준 SQL(IS DISTINCT FROM)이라 공통으로 사용한다.
+ */
+public enum HolidayUpsertDialect {
+
+    H2 {
+        @Override
+        String nextSequenceValuesSql() {
+            return "SELECT NEXT VALUE FOR holiday_seq FROM SYSTEM_RANGE(1, ?)";
+        }
+
+        @Override
+        String insertIfAbsentSql() {
+            return """
+                MERGE INTO holiday h
+                USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(2)), CAST(? AS VARCHAR(255)), CAST(? AS DATE),
+                               CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN),
+                               CAST(? AS INTEGER), CAST(? AS TEXT), CAST(? AS TEXT), CAST(? AS TIMESTAMP(6)),
+                               CAST(? AS TIMESTAMP(6))))
+                    AS s (id, country_code, country_name, date, local_name, name, is_fixed, is_global,
+                          launch_year, types, counties, created_at, updated_at)
+                ON h.country_code = s.country_code AND h.date = s.date AND h.name = s.name
+                WHEN NOT MATCHED THEN INSERT
+                    (id, country_code, country_name, date, local_name, name, is_fixed, is_global,
+                     launch_year, types, counties, created_at, updated_at)
+                VALUES (s.id, s.country_code, s.country_name, s.date, s.local_name, s.name,
+                        s.is_fixed, s.is_global, s.launch_year, s.types, s.counties, s.created_at, s.updated_at)
+                """;
+        }
+    },
+
+    POSTGRESQL {
+        @Override
+        String nextSequenceValuesSql() {
+            return "SELECT nextval('holiday_seq') FROM generate_series(1, ?)";
+        }
+
+        @Override
+        String insertIfAbsentSql() {
+            return """
+                INSERT INTO holiday
+                (id, country_code, country_name, date, local_name, name, is_fixed, is_global,
+                 launch_year, types, counties, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (country_code, date, name) DO NOTHING
+                """;
+        }
+    };
+
+    static final String UPDATE_CHANGED_SQL = """
+            UPDATE holiday
+            SET country_name = ?, local_name = ?, is_fixed = ?, is_global = ?,
+                launch_year = ?, types = ?, counties = ?, updated_at = ?
+            WHERE country_code = ? AND date = ? AND name = ?
+              AND (country_name, local_name, is_fixed, is_global, launch_year, types, counties)
+                  IS DISTINCT FROM (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * holiday_seq 다음 값 n개 - 한 번의 조회로 여러 id 구간을 예약한다
+     */
+    abstract String nextSequenceValuesSql();
+
+    /**
+     * 키가 없을 때만 INSERT - 파라미터 순서는 bulkInsert와 같다
+     */
+    abstract String insertIfAbsentSql();
+
+    public static HolidayUpsertDialect fromDatabaseProductName(String databaseProductName) {
+        String productName = databaseProductName.toLowerCase(Locale.ROOT);
+        if (productName.contains("h2")) {
+            return H2;
+        }
+        if (productName.contains("postgresql")) {
+            return POSTGRESQL;
+        }
+        throw new IllegalStateException("지원하지 않는 데이터베이스입니다: " + databaseProductName);
+    }
+}
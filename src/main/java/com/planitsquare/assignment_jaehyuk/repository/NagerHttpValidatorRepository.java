@@ -0,0 +1,9 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.entity.NagerHttpValidator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NagerHttpValidatorRepository extends JpaRepository<NagerHttpValidator, String> {
+}
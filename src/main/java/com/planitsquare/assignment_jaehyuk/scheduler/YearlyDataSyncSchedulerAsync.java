@@ -4,6 +4,7 @@ import com.planitsquare.assignment_jaehyuk.client.NagerDataApiClientAsync;
 import com.planitsquare.assignment_jaehyuk.dto.external.CountryDto;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidayUpdateForm;
 import com.planitsquare.assignment_jaehyuk.service.HolidayService;
+import com.planitsquare.assignment_jaehyuk.util.VirtualThreadUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -37,6 +38,9 @@ public class YearlyDataSyncSchedulerAsync {
     @Value("${holiday.scheduler.concurrency.max-years-per-country:6}")
     private int maxConcurrentYears;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Scheduled(cron = "0 0 1 2 1 ?", zone = "Asia/Seoul")
     public void syncYearlyDataAsync() {
         StopWatch stopWatch = new StopWatch("YearlyDataSyncAsync");
@@ -51,7 +55,11 @@ public class YearlyDataSyncSchedulerAsync {
 
             log.info("동기화 대상 연도: {}년, {}년", previousYear, currentYear);
 
-            syncAllCountriesDataAsync(previousYear, currentYear)
+            Mono<Integer> sync = virtualThreads
+                    ? Mono.fromCallable(() -> syncAllCountriesDataOnVirtualThreads(previousYear, currentYear))
+                    : syncAllCountriesDataAsync(previousYear, currentYear);
+
+            sync
                     .doOnSuccess(totalSyncCount -> {
                         stopWatch.stop();
                         String endTimeStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
@@ -125,28 +133,69 @@ public class YearlyDataSyncSchedulerAsync {
     }
 
     private Mono<Boolean> syncCountryYearDataAsync(CountryDto country, Map<String, String> countryNameMap, int year) {
-        return Mono.fromCallable(() -> {
-                    try {
-                        HolidayUpdateForm updateForm = new HolidayUpdateForm();
-                        updateForm.setCountryCode(country.getCountryCode());
-                        updateForm.setCountryName(countryNameMap.get(country.getCountryCode()));
-                        updateForm.setYear(year);
-
-                        holidayService.updateHolidayList(updateForm);
-
-                        log.debug("{}({}) {}년 동기화 완료",
-                                country.getName(), country.getCountryCode(), year);
-                        return true;
-
-                    } catch (Exception e) {
-                        log.warn("{}({}) {}년 동기화 실패: {}",
-                                country.getName(), country.getCountryCode(), year, e.getMessage());
-                        return false;
-                    }
-                })
+        return Mono.fromCallable(() -> syncCountryYearData(country, countryNameMap, year))
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
+    /**
+     * 가상 스레드 모드 - 국가마다 가상 스레드 하나, 그 안에서 연도마다 가상 스레드 하나로 블로킹 호출을 그대로 실행
+     * 국가 작업은 자신의 연도 작업이 모두 끝나야 종료된다.
+     */
+    private int syncAllCountriesDataOnVirtualThreads(int previousYear, int currentYear) {
+        List<CountryDto> countries = getAvailableCountriesAsync().block();
+        if (countries == null || countries.isEmpty()) {
+            log.warn("사용 가능한 국가 목록이 없습니다");
+            return 0;
+        }
+
+        log.info("총 {} 개국의 공휴일 데이터를 가상 스레드로 동기화합니다", countries.size());
+
+        Map<String, String> countryNameMap = createCountryNameMap(countries);
+
+        List<Boolean> results = VirtualThreadUtils.invokeAll("holiday-sync-", countries, maxConcurrentCountries,
+                country -> syncCountryDataOnVirtualThreads(country, countryNameMap, previousYear, currentYear));
+
+        int successCount = (int) results.stream().filter(success -> success).count();
+        log.info("동기화 완료: 성공 {} 개국 / 전체 {} 개국", successCount, countries.size());
+        return successCount;
+    }
+
+    private boolean syncCountryDataOnVirtualThreads(CountryDto country, Map<String, String> countryNameMap,
+                                                    int previousYear, int currentYear) {
+        List<Boolean> results = VirtualThreadUtils.invokeAll(
+                "holiday-sync-" + country.getCountryCode() + "-", List.of(previousYear, currentYear), maxConcurrentYears,
+                year -> syncCountryYearData(country, countryNameMap, year));
+
+        boolean allSuccess = results.stream().allMatch(success -> success);
+        if (allSuccess) {
+            log.info("{}({}) 동기화 완료: {}년, {}년",
+                    country.getName(), country.getCountryCode(), previousYear, currentYear);
+        } else {
+            log.warn("{}({}) 동기화 일부 실패", country.getName(), country.getCountryCode());
+        }
+        return allSuccess;
+    }
+
+    private boolean syncCountryYearData(CountryDto country, Map<String, String> countryNameMap, int year) {
+        try {
+            HolidayUpdateForm updateForm = new HolidayUpdateForm();
+            updateForm.setCountryCode(country.getCountryCode());
+            updateForm.setCountryName(countryNameMap.get(country.getCountryCode()));
+            updateForm.setYear(year);
+
+            holidayService.updateHolidayList(updateForm);
+
+            log.debug("{}({}) {}년 동기화 완료",
+                    country.getName(), country.getCountryCode(), year);
+            return true;
+
+        } catch (Exception e) {
+            log.warn("{}({}) {}년 동기화 실패: {}",
+                    country.getName(), country.getCountryCode(), year, e.getMessage());
+            return false;
+        }
+    }
+
     private Mono<List<CountryDto>> getAvailableCountriesAsync() {
         return nagerDateApiClient.getAvailableCountries()
                 .doOnSuccess(countries -> log.info("국가 목록 조회 완료: {} 개국", countries.size()))
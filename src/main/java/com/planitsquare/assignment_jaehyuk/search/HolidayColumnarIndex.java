@@ -0,0 +1,115 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayRow;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent.CountryYear;
+import com.planitsquare.assignment_jaehyuk.util.DateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고급 검색용 인메모리 컬럼 인덱스
+ * 첫 검색 시 전체 공휴일을 적재하고, 이후 변경된 국가/연도만 DB에서 다시 읽어 세그먼트로 교체한다.
+ * 변경 범위가 크면(초기 적재 등) 스냅샷을 버리고 다음 검색에서 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayColumnarIndex {
+
+    private final HolidayRowRepository holidayRowRepository;
+
+    @Value("${holiday.search.columnar.enabled:false}")
+    private boolean enabled;
+
+    @Value("${holiday.search.columnar.patch-threshold:50}")
+    private int patchThreshold;
+
+    // DB 조회를 잡은 채 대기하므로 모니터 대신 ReentrantLock (가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile HolidayColumnarSnapshot snapshot;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Page<HolidayResponse> search(HolidaySearchCondition condition, Pageable pageable) {
+        return currentSnapshot().search(condition, pageable);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        if (!enabled || event.countryYears().isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            applyChange(event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyChange(HolidayChangedEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+
+        if (event.countryYears().size() > patchThreshold) {
+            log.info("컬럼 인덱스 재적재 예정 - 변경 국가/연도: {} 개", event.countryYears().size());
+            snapshot = null;
+            return;
+        }
+
+        try {
+            List<HolidayRow> replacementRows = new ArrayList<>();
+            for (CountryYear countryYear : event.countryYears()) {
+                DateUtils.DateRange yearRange = DateUtils.getYearRange(countryYear.year());
+                replacementRows.addAll(holidayRowRepository.findByCountryCodeAndDateBetween(
+                        countryYear.countryCode(), yearRange.startDate(), yearRange.endDate()));
+            }
+
+            snapshot = snapshot.patch(event.countryYears(), replacementRows);
+            log.debug("컬럼 인덱스 갱신 - 대상: {}, 전체 행: {}, 세그먼트: {}",
+                    event.countryYears(), snapshot.size(), snapshot.segmentCount());
+
+        } catch (Exception e) {
+            log.warn("컬럼 인덱스 갱신 실패, 다음 검색에서 재적재: {}", e.getMessage());
+            snapshot = null;
+        }
+    }
+
+    private HolidayColumnarSnapshot currentSnapshot() {
+        HolidayColumnarSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                long startedAt = System.nanoTime();
+                snapshot = HolidayColumnarSnapshot.build(holidayRowRepository.findAll());
+                log.info("컬럼 인덱스 적재 완료 - 행: {}, 소요: {}ms",
+                        snapshot.size(), (System.nanoTime() - startedAt) / 1_000_000);
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayRow;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent.CountryYear;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 공휴일 컬럼 저장소의 불변 스냅샷
+ * 행은 세그먼트 단위로 저장되며, 세그먼트 안에서는 (날짜, id) 순으로 정렬되어 날짜 조건은 이진 탐색으로 구간을 정한다.
+ * 문자열 컬럼은 사전 인코딩하고, 포함 검색은 사전의 trigram 색인으로 후보를 좁힌 뒤 확인한다.
+ * 변경된 국가/연도는 기존 행에 삭제 표시를 하고 새 행을 세그먼트로 덧붙이며, 사전에는 새 값만 추가한다.
+ * 세그먼트나 삭제된 행이 많아지면 메모리의 살아 있는 행으로 한 세그먼트로 다시 만든다.
+ */
+final class HolidayColumnarSnapshot {
+
+    private static final int NULL_ID = TextDictionary.NULL_ID;
+    private static final int NULL_LAUNCH_YEAR = Integer.MIN_VALUE;
+    private static final char KEY_SEPARATOR = '\u001F';
+
+    static final int MAX_SEGMENTS = 16;
+    private static final double MAX_DELETED_RATIO = 0.25;
+
+    private final List<Segment> segments;
+    private final int size;
+    private final int deletedCount;
+
+    // 국가는 (코드, 이름) 쌍을 하나의 id로 인코딩
+    private final Countries countries;
+    private final Dictionary countryNames;
+    private final Dictionary localNames;
+    private final Dictionary names;
+
+    private HolidayColumnarSnapshot(List<Segment> segments, int size, int deletedCount, Countries countries,
+                                    Dictionary countryNames, Dictionary localNames, Dictionary names) {
+        this.segments = segments;
+        this.size = size;
+        this.deletedCount = deletedCount;
+        this.countries = countries;
+        this.countryNames = countryNames;
+        this.localNames = localNames;
+        this.names = names;
+    }
+
+    static HolidayColumnarSnapshot build(List<HolidayRow> rows) {
+        Dictionary countryNames = Dictionary.EMPTY.append(rows.stream().map(HolidayRow::countryName).toList());
+        Countries countries = Countries.EMPTY.append(rows, countryNames);
+        Dictionary localNames = Dictionary.EMPTY.append(rows.stream().map(HolidayRow::localName).toList());
+        Dictionary names = Dictionary.EMPTY.append(rows.stream().map(HolidayRow::name).toList());
+
+        List<Segment> segments = rows.isEmpty()
+                ? List.of()
+                : List.of(Segment.of(rows, countries, localNames, names));
+        return new HolidayColumnarSnapshot(segments, rows.size(), 0, countries, countryNames, localNames, names);
+    }
+
+    /**
+     * 지정한 국가/연도의 행을 새 행으로 교체한 스냅샷
+     * 기존 행은 삭제 표시만 하고 새 행은 세그먼트 하나로 덧붙이며, 사전에는 새 값만 추가한다.
+     */
+    HolidayColumnarSnapshot patch(Set<CountryYear> countryYears, List<HolidayRow> replacementRows) {
+        Dictionary patchedCountryNames = countryNames.append(replacementRows.stream().map(HolidayRow::countryName).toList());
+        Countries patchedCountries = countries.append(replacementRows, patchedCountryNames);
+        Dictionary patchedLocalNames = localNames.append(replacementRows.stream().map(HolidayRow::localName).toList());
+        Dictionary patchedNames = names.append(replacementRows.stream().map(HolidayRow::name).toList());
+
+        List<Segment> patchedSegments = new ArrayList<>(segments.size() + 1);
+        int deleted = 0;
+        for (Segment segment : segments) {
+            Segment tombstoned = segment.delete(countryYears);
+            deleted += tombstoned.deletedCount() - segment.deletedCount();
+            patchedSegments.add(tombstoned);
+        }
+        if (!replacementRows.isEmpty()) {
+            patchedSegments.add(Segment.of(replacementRows, patchedCountries, patchedLocalNames, patchedNames));
+        }
+
+        HolidayColumnarSnapshot patched = new HolidayColumnarSnapshot(List.copyOf(patchedSegments),
+                size - deleted + replacementRows.size(), deletedCount + deleted, patchedCountries,
+                patchedCountryNames, patchedLocalNames, patchedNames);
+        return patched.needsCompaction() ? build(patched.liveRows()) : patched;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private boolean needsCompaction() {
+        return segments.size() > MAX_SEGMENTS || deletedCount > (size + deletedCount) * MAX_DELETED_RATIO;
+    }
+
+    private List<HolidayRow> liveRows() {
+        List<HolidayRow> rows = new ArrayList<>(size);
+        for (Segment segment : segments) {
+            for (int i = 0; i < segment.size; i++) {
+                if (!segment.deleted.get(i)) {
+                    rows.add(row(segment, i));
+                }
+            }
+        }
+        return rows;
+    }
+
+    Page<HolidayResponse> search(HolidaySearchCondition condition, Pageable pageable) {
+        boolean[] countryMatches = hasText(condition.getCountryName()) ? countries.containing(countryNames, condition.getCountryName()) : null;
+        boolean[] localNameMatches = hasText(condition.getLocalName()) ? localNames.containing(condition.getLocalName()) : null;
+        boolean[] nameMatches = hasText(condition.getName()) ? names.containing(condition.getName()) : null;
+        Boolean global = condition.getGlobal();
+        Boolean fixed = condition.getFixed();
+        Integer launchYear = condition.getLaunchYear();
+
+        long[] dateOrdered = new long[0];
+
+        for (int s = 0; s < segments.size(); s++) {
+            Segment segment = segments.get(s);
+            int from = condition.getStartDate() != null ? segment.lowerBound((int) condition.getStartDate().toEpochDay()) : 0;
+            int to = condition.getEndDate() != null ? segment.lowerBound((int) condition.getEndDate().toEpochDay() + 1) : segment.size;
+
+            BitSet globalMatches = global == null ? null : global ? segment.globalTrue : segment.globalFalse;
+            BitSet fixedMatches = fixed == null ? null : fixed ? segment.fixedTrue : segment.fixedFalse;
+
+            long[] matched = new long[Math.max(to - from, 0)];
+            int count = 0;
+
+            for (int i = from; i < to; i++) {
+                if (segment.deleted.get(i)) continue;
+                if (countryMatches != null && !countryMatches[segment.countryIds[i]]) continue;
+                if (localNameMatches != null && (segment.localNameIds[i] == NULL_ID || !localNameMatches[segment.localNameIds[i]])) continue;
+                if (nameMatches != null && (segment.nameIds[i] == NULL_ID || !nameMatches[segment.nameIds[i]])) continue;
+                if (globalMatches != null && !globalMatches.get(i)) continue;
+                if (fixedMatches != null && !fixedMatches.get(i)) continue;
+                if (launchYear != null && segment.launchYears[i] != launchYear) continue;
+                matched[count++] = ref(s, i);
+            }
+
+            dateOrdered = mergeByDate(dateOrdered, Arrays.copyOf(matched, count));
+        }
+
+        long[] ordered = order(dateOrdered, condition);
+
+        int total = ordered.length;
+        int offset = (int) Math.min(pageable.getOffset(), total);
+        int end = Math.min(offset + pageable.getPageSize(), total);
+
+        List<HolidayResponse> content = new ArrayList<>(end - offset);
+        for (int i = offset; i < end; i++) {
+            content.add(toResponse(ordered[i]));
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 정렬 - (날짜, id) 순으로 모은 행에서 날짜 정렬은 방향만 맞추고,
+     * 그 외에는 (정렬 순위, 날짜순 위치)를 long 하나로 묶어 기본형 정렬한다.
+     */
+    private long[] order(long[] dateOrdered, HolidaySearchCondition condition) {
+        String sortBy = hasText(condition.getSortBy()) ? condition.getSortBy().toLowerCase() : "";
+        boolean desc = "desc".equalsIgnoreCase(condition.getSortDirection());
+        int count = dateOrdered.length;
+
+        int[] sortRanks = switch (sortBy) {
+            case "countryname" -> ranks(dateOrdered, (segment, i) -> countryNames.rank(countries.nameIds[segment.countryIds[i]]));
+            case "name" -> ranks(dateOrdered, (segment, i) -> names.rank(segment.nameIds[i]));
+            case "launchyear" -> ranks(dateOrdered, (segment, i) ->
+                    segment.launchYears[i] != NULL_LAUNCH_YEAR ? segment.launchYears[i] : -1);
+            case "date" -> null;
+            default -> {
+                // 정렬 조건이 없거나 알 수 없으면 날짜 내림차순
+                desc = true;
+                yield null;
+            }
+        };
+
+        long[] ordered = new long[count];
+
+        if (sortRanks == null) {
+            for (int i = 0; i < count; i++) {
+                ordered[i] = desc ? dateOrdered[count - 1 - i] : dateOrdered[i];
+            }
+            return ordered;
+        }
+
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            long rank = desc ? -(long) sortRanks[i] : sortRanks[i];
+            keys[i] = (rank << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        for (int i = 0; i < count; i++) {
+            ordered[i] = dateOrdered[(int) keys[i]];
+        }
+        return ordered;
+    }
+
+    private int[] ranks(long[] refs, RankFunction rankFunction) {
+        int[] ranks = new int[refs.length];
+        for (int i = 0; i < refs.length; i++) {
+            ranks[i] = rankFunction.rank(segments.get(segmentOf(refs[i])), rowOf(refs[i]));
+        }
+        return ranks;
+    }
+
+    /**
+     * (날짜, id) 순으로 정렬된 두 행 목록 병합
+     */
+    private long[] mergeByDate(long[] left, long[] right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+
+        long[] merged = new long[left.length + right.length];
+        int l = 0;
+        int r = 0;
+        int m = 0;
+        while (l < left.length && r < right.length) {
+            merged[m++] = compareByDate(left[l], right[r]) <= 0 ? left[l++] : right[r++];
+        }
+        while (l < left.length) {
+            merged[m++] = left[l++];
+        }
+        while (r < right.length) {
+            merged[m++] = right[r++];
+        }
+        return merged;
+    }
+
+    private int compareByDate(long left, long right) {
+        Segment leftSegment = segments.get(segmentOf(left));
+        Segment rightSegment = segments.get(segmentOf(right));
+        int byDate = Integer.compare(leftSegment.epochDays[rowOf(left)], rightSegment.epochDays[rowOf(right)]);
+        return byDate != 0 ? byDate : Long.compare(leftSegment.ids[rowOf(left)], rightSegment.ids[rowOf(right)]);
+    }
+
+    private static long ref(int segment, int row) {
+        return ((long) segment << 32) | row;
+    }
+
+    private static int segmentOf(long ref) {
+        return (int) (ref >>> 32);
+    }
+
+    private static int rowOf(long ref) {
+        return (int) ref;
+    }
+
+    private HolidayResponse toResponse(long ref) {
+        Segment segment = segments.get(segmentOf(ref));
+        int index = rowOf(ref);
+        return HolidayResponse.builder()
+                .id(segment.ids[index])
+                .countryCode(countries.codes[segment.countryIds[index]])
+                .countryName(countryNames.value(countries.nameIds[segment.countryIds[index]]))
+                .date(LocalDate.ofEpochDay(segment.epochDays[index]))
+                .localName(localNames.value(segment.localNameIds[index]))
+                .name(names.value(segment.nameIds[index]))
+                .build();
+    }
+
+    private HolidayRow row(Segment segment, int index) {
+        return new HolidayRow(
+                segment.ids[index],
+                countries.codes[segment.countryIds[index]],
+                countryNames.value(countries.nameIds[segment.countryIds[index]]),
+                LocalDate.ofEpochDay(segment.epochDays[index]),
+                localNames.value(segment.localNameIds[index]),
+                names.value(segment.nameIds[index]),
+                flag(segment.fixedTrue, segment.fixedFalse, index),
+                flag(segment.globalTrue, segment.globalFalse, index),
+                segment.launchYears[index] != NULL_LAUNCH_YEAR ? segment.launchYears[index] : null
+        );
+    }
+
+    private static Boolean flag(BitSet whenTrue, BitSet whenFalse, int index) {
+        return whenTrue.get(index) ? Boolean.TRUE : whenFalse.get(index) ? Boolean.FALSE : null;
+    }
+
+    @FunctionalInterface
+    private interface RankFunction {
+        int rank(Segment segment, int index);
+    }
+
+    /**
+     * 한 번에 추가된 행 묶음 - (날짜, id) 순 컬럼과 삭제 표시, 국가/연도별 행 위치
+     */
+    private static final class Segment {
+
+        private final int size;
+        private final long[] ids;
+        private final int[] epochDays;
+        private final int[] countryIds;
+        private final int[] localNameIds;
+        private final int[] nameIds;
+        private final int[] launchYears;
+        private final BitSet globalTrue;
+        private final BitSet globalFalse;
+        private final BitSet fixedTrue;
+        private final BitSet fixedFalse;
+        private final BitSet deleted;
+        private final Map<CountryYear, int[]> rowsByCountryYear;
+
+        private Segment(Segment source, BitSet deleted) {
+            this.size = source.size;
+            this.ids = source.ids;
+            this.epochDays = source.epochDays;
+            this.countryIds = source.countryIds;
+            this.localNameIds = source.localNameIds;
+            this.nameIds = source.nameIds;
+            this.launchYears = source.launchYears;
+            this.globalTrue = source.globalTrue;
+            this.globalFalse = source.globalFalse;
+            this.fixedTrue = source.fixedTrue;
+            this.fixedFalse = source.fixedFalse;
+            this.rowsByCountryYear = source.rowsByCountryYear;
+            this.deleted = deleted;
+        }
+
+        private Segment(List<HolidayRow> sortedRows, Countries countries, Dictionary localNames, Dictionary names) {
+            this.size = sortedRows.size();
+            this.ids = new long[size];
+            this.epochDays = new int[size];
+            this.countryIds = new int[size];
+            this.localNameIds = new int[size];
+            this.nameIds = new int[size];
+            this.launchYears = new int[size];
+            this.globalTrue = new BitSet(size);
+            this.globalFalse = new BitSet(size);
+            this.fixedTrue = new BitSet(size);
+            this.fixedFalse = new BitSet(size);
+            this.deleted = new BitSet(size);
+
+            Map<CountryYear, List<Integer>> positions = new HashMap<>();
+
+            for (int i = 0; i < size; i++) {
+                HolidayRow row = sortedRows.get(i);
+
+                ids[i] = row.id();
+                epochDays[i] = (int) row.date().toEpochDay();
+                countryIds[i] = countries.id(row.countryCode(), row.countryName());
+                localNameIds[i] = localNames.id(row.localName());
+                nameIds[i] = names.id(row.name());
+                launchYears[i] = row.launchYear() != null ? row.launchYear() : NULL_LAUNCH_YEAR;
+                set(globalTrue, globalFalse, row.global(), i);
+                set(fixedTrue, fixedFalse, row.fixed(), i);
+
+                positions.computeIfAbsent(new CountryYear(row.countryCode(), row.date().getYear()), key -> new ArrayList<>()).add(i);
+            }
+
+            Map<CountryYear, int[]> rowsByCountryYear = new HashMap<>(positions.size() * 2);
+            positions.forEach((countryYear, rows) ->
+                    rowsByCountryYear.put(countryYear, rows.stream().mapToInt(Integer::intValue).toArray()));
+            this.rowsByCountryYear = rowsByCountryYear;
+        }
+
+        static Segment of(List<HolidayRow> rows, Countries countries, Dictionary localNames, Dictionary names) {
+            List<HolidayRow> sortedRows = new ArrayList<>(rows);
+            sortedRows.sort(Comparator.comparing(HolidayRow::date).thenComparingLong(HolidayRow::id));
+            return new Segment(sortedRows, countries, localNames, names);
+        }
+
+        /**
+         * 지정한 국가/연도의 행에 삭제 표시 - 해당 행이 없으면 자기 자신을 반환한다
+         */
+        Segment delete(Set<CountryYear> countryYears) {
+            BitSet patched = null;
+            for (CountryYear countryYear : countryYears) {
+                int[] rows = rowsByCountryYear.get(countryYear);
+                if (rows == null) {
+                    continue;
+                }
+                if (patched == null) {
+                    patched = (BitSet) deleted.clone();
+                }
+                for (int row : rows) {
+                    patched.set(row);
+                }
+            }
+            return patched == null ? this : new Segment(this, patched);
+        }
+
+        int deletedCount() {
+            return deleted.cardinality();
+        }
+
+        int lowerBound(int epochDay) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static void set(BitSet whenTrue, BitSet whenFalse, Boolean value, int index) {
+            if (Boolean.TRUE.equals(value)) {
+                whenTrue.set(index);
+            } else if (Boolean.FALSE.equals(value)) {
+                whenFalse.set(index);
+            }
+        }
+    }
+
+    /**
+     * (국가 코드, 국가명) 쌍 - 추가만 가능
+     */
+    private static final class Countries {
+
+        static final Countries EMPTY = new Countries(new String[0], new int[0], Map.of());
+
+        private final String[] codes;
+        private final int[] nameIds;
+        private final Map<String, Integer> keys;
+
+        private Countries(String[] codes, int[] nameIds, Map<String, Integer> keys) {
+            this.codes = codes;
+            this.nameIds = nameIds;
+            this.keys = keys;
+        }
+
+        Countries append(List<HolidayRow> rows, Dictionary countryNames) {
+            Map<String, Integer> appendedKeys = null;
+            List<HolidayRow> added = new ArrayList<>();
+
+            for (HolidayRow row : rows) {
+                String key = key(row.countryCode(), row.countryName());
+                if (keys.containsKey(key) || appendedKeys != null && appendedKeys.containsKey(key)) {
+                    continue;
+                }
+                if (appendedKeys == null) {
+                    appendedKeys = new HashMap<>(keys);
+                }
+                appendedKeys.put(key, codes.length + added.size());
+                added.add(row);
+            }
+
+            if (appendedKeys == null) {
+                return this;
+            }
+
+            String[] appendedCodes = Arrays.copyOf(codes, codes.length + added.size());
+            int[] appendedNameIds = Arrays.copyOf(nameIds, nameIds.length + added.size());
+            for (int i = 0; i < added.size(); i++) {
+                appendedCodes[codes.length + i] = added.get(i).countryCode();
+                appendedNameIds[codes.length + i] = countryNames.id(added.get(i).countryName());
+            }
+            return new Countries(appendedCodes, appendedNameIds, appendedKeys);
+        }
+
+        int id(String countryCode, String countryName) {
+            return keys.get(key(countryCode, countryName));
+        }
+
+        boolean[] containing(Dictionary countryNames, String keyword) {
+            boolean[] nameMatches = countryNames.containing(keyword);
+            boolean[] matches = new boolean[codes.length];
+            for (int i = 0; i < codes.length; i++) {
+                matches[i] = nameIds[i] != NULL_ID && nameMatches[nameIds[i]];
+            }
+            return matches;
+        }
+
+        private static String key(String countryCode, String countryName) {
+            return countryCode + KEY_SEPARATOR + countryName;
+        }
+    }
+
+    /**
+     * 문자열 사전 - 값 사전과 정렬 순위
+     * 새 값은 정렬한 뒤 기존 정렬 순서와 병합하므로 전체를 다시 정렬하지 않는다.
+     */
+    static final class Dictionary {
+
+        static final Dictionary EMPTY = new Dictionary(TextDictionary.of(List.of()), new int[0], new int[0]);
+
+        private final TextDictionary values;
+        private final int[] sortedIds;
+        private final int[] ranks;
+
+        private Dictionary(TextDictionary values, int[] sortedIds, int[] ranks) {
+            this.values = values;
+            this.sortedIds = sortedIds;
+            this.ranks = ranks;
+        }
+
+        Dictionary append(Collection<String> candidates) {
+            TextDictionary appended = values.append(candidates);
+            if (appended == values) {
+                return this;
+            }
+
+            int[] addedIds = IntStream.range(values.size(), appended.size())
+                    .boxed()
+                    .sorted(Comparator.comparing(appended::value))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            int[] mergedIds = new int[appended.size()];
+            int l = 0;
+            int r = 0;
+            int m = 0;
+            while (l < sortedIds.length && r < addedIds.length) {
+                mergedIds[m++] = appended.value(sortedIds[l]).compareTo(appended.value(addedIds[r])) <= 0
+                        ? sortedIds[l++] : addedIds[r++];
+            }
+            while (l < sortedIds.length) {
+                mergedIds[m++] = sortedIds[l++];
+            }
+            while (r < addedIds.length) {
+                mergedIds[m++] = addedIds[r++];
+            }
+
+            // 사전의 값은 중복이 없으므로 정렬 위치가 곧 순위
+            int[] mergedRanks = new int[appended.size()];
+            for (int rank = 0; rank < mergedIds.length; rank++) {
+                mergedRanks[mergedIds[rank]] = rank;
+            }
+            return new Dictionary(appended, mergedIds, mergedRanks);
+        }
+
+        int id(String value) {
+            return values.id(value);
+        }
+
+        String value(int id) {
+            return values.value(id);
+        }
+
+        int rank(int id) {
+            // null은 가장 앞에 정렬
+            return id == NULL_ID ? -1 : ranks[id];
+        }
+
+        boolean[] containing(String keyword) {
+            boolean[] matches = new boolean[values.size()];
+            for (int id : values.idsContaining(keyword)) {
+                matches[id] = true;
+            }
+            return matches;
+        }
+    }
+}
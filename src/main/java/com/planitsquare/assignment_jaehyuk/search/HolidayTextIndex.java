@@ -0,0 +1,140 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.TextColumn;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent.CountryYear;
+import com.planitsquare.assignment_jaehyuk.util.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 국가명/현지명/공휴일명 포함 검색용 값 사전 (컬럼 인덱스 사용 여부와 무관하게 DB 검색에 사용)
+ * 컬럼별 중복 없는 값만 메모리에 두고 trigram 색인으로 검색어를 포함하는 값을 찾아,
+ * DB에는 LIKE '%x%' 전체 스캔 대신 값 목록 IN 조건으로 (컬럼, id) 인덱스를 타게 한다.
+ * 값은 추가만 하며(삭제된 값이 남아도 결과는 같다), 변경된 국가/연도의 값만 다시 읽어 이어 붙인다.
+ */
+@Slf4j
+@Component
+public class HolidayTextIndex {
+
+    private final HolidayRowRepository holidayRowRepository;
+    private final boolean enabled;
+    private final int maxValues;
+    private final int patchThreshold;
+
+    // DB 조회를 잡은 채 대기하므로 모니터 대신 ReentrantLock (가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Map<TextColumn, TextDictionary> dictionaries;
+
+    @Autowired
+    public HolidayTextIndex(HolidayRowRepository holidayRowRepository,
+                            @Value("${holiday.search.trigram.enabled:true}") boolean enabled,
+                            @Value("${holiday.search.trigram.max-values:500}") int maxValues,
+                            @Value("${holiday.search.trigram.patch-threshold:50}") int patchThreshold) {
+        this.holidayRowRepository = holidayRowRepository;
+        this.enabled = enabled;
+        this.maxValues = maxValues;
+        this.patchThreshold = patchThreshold;
+    }
+
+    /**
+     * 검색어를 포함하는 값 목록
+     * 사용하지 않거나 일치하는 값이 max-values 보다 많아 IN 조건이 오히려 느린 경우 null (LIKE 로 검색)
+     */
+    public List<String> valuesContaining(TextColumn column, String keyword) {
+        if (!enabled) {
+            return null;
+        }
+
+        TextDictionary dictionary = currentDictionaries().get(column);
+        int[] ids = dictionary.idsContaining(keyword);
+        if (ids.length > maxValues) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            values.add(dictionary.value(id));
+        }
+        return values;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        if (!enabled || event.countryYears().isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            applyChange(event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyChange(HolidayChangedEvent event) {
+        if (dictionaries == null) {
+            return;
+        }
+
+        if (event.countryYears().size() > patchThreshold) {
+            log.info("포함 검색 사전 재적재 예정 - 변경 국가/연도: {} 개", event.countryYears().size());
+            dictionaries = null;
+            return;
+        }
+
+        try {
+            Map<TextColumn, TextDictionary> patched = new EnumMap<>(dictionaries);
+            for (TextColumn column : TextColumn.values()) {
+                List<String> values = new ArrayList<>();
+                for (CountryYear countryYear : event.countryYears()) {
+                    DateUtils.DateRange yearRange = DateUtils.getYearRange(countryYear.year());
+                    values.addAll(holidayRowRepository.findDistinctValues(column, countryYear.countryCode(),
+                            yearRange.startDate(), yearRange.endDate()));
+                }
+                patched.put(column, patched.get(column).append(values));
+            }
+            dictionaries = patched;
+
+        } catch (Exception e) {
+            log.warn("포함 검색 사전 갱신 실패, 다음 검색에서 재적재: {}", e.getMessage());
+            dictionaries = null;
+        }
+    }
+
+    private Map<TextColumn, TextDictionary> currentDictionaries() {
+        Map<TextColumn, TextDictionary> current = dictionaries;
+        if (current != null) {
+            return current;
+        }
+
+        lock.lock();
+        try {
+            if (dictionaries == null) {
+                Map<TextColumn, TextDictionary> loaded = new EnumMap<>(TextColumn.class);
+                for (TextColumn column : TextColumn.values()) {
+                    loaded.put(column, TextDictionary.of(holidayRowRepository.findDistinctValues(column)));
+                }
+                dictionaries = loaded;
+                log.info("포함 검색 사전 적재 완료 - 국가명: {}, 현지명: {}, 공휴일명: {}",
+                        loaded.get(TextColumn.COUNTRY_NAME).size(), loaded.get(TextColumn.LOCAL_NAME).size(),
+                        loaded.get(TextColumn.NAME).size());
+            }
+            return dictionaries;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
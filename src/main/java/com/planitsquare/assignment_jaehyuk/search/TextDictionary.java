@@ -0,0 +1,99 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추가만 가능한 불변 문자열 사전 - 값마다 id를 부여하고 trigram 색인으로 포함 검색한다
+ * 새 값을 추가하면 기존 id는 그대로 두고 뒤에 이어 붙인 새 사전을 만든다.
+ */
+final class TextDictionary {
+
+    static final int NULL_ID = -1;
+
+    private static final TextDictionary EMPTY = new TextDictionary(new String[0], Map.of(), TrigramIndex.build(new String[0]));
+
+    private final String[] values;
+    private final Map<String, Integer> ids;
+    private final TrigramIndex trigramIndex;
+
+    private TextDictionary(String[] values, Map<String, Integer> ids, TrigramIndex trigramIndex) {
+        this.values = values;
+        this.ids = ids;
+        this.trigramIndex = trigramIndex;
+    }
+
+    static TextDictionary of(Collection<String> values) {
+        return EMPTY.append(values);
+    }
+
+    /**
+     * 사전에 없는 값만 추가 - 추가할 값이 없으면 자기 자신을 반환한다
+     */
+    TextDictionary append(Collection<String> candidates) {
+        List<String> added = new ArrayList<>();
+        Map<String, Integer> appendedIds = new HashMap<>();
+
+        for (String value : candidates) {
+            if (value != null && !ids.containsKey(value) && !appendedIds.containsKey(value)) {
+                appendedIds.put(value, values.length + added.size());
+                added.add(value);
+            }
+        }
+
+        if (added.isEmpty()) {
+            return this;
+        }
+
+        String[] addedValues = added.toArray(String[]::new);
+        String[] mergedValues = Arrays.copyOf(values, values.length + addedValues.length);
+        System.arraycopy(addedValues, 0, mergedValues, values.length, addedValues.length);
+
+        Map<String, Integer> mergedIds = new HashMap<>(ids);
+        mergedIds.putAll(appendedIds);
+
+        return new TextDictionary(mergedValues, mergedIds, trigramIndex.append(addedValues, values.length));
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    int id(String value) {
+        return value == null ? NULL_ID : ids.getOrDefault(value, NULL_ID);
+    }
+
+    String value(int id) {
+        return id == NULL_ID ? null : values[id];
+    }
+
+    /**
+     * 검색어를 포함하는 값 id (오름차순)
+     * trigram 후보만 확인하고, 검색어가 trigram보다 짧으면 사전 전체를 확인한다.
+     */
+    int[] idsContaining(String keyword) {
+        int[] candidates = trigramIndex.candidates(keyword);
+
+        int[] matched = new int[candidates != null ? candidates.length : values.length];
+        int count = 0;
+
+        if (candidates == null) {
+            for (int id = 0; id < values.length; id++) {
+                if (values[id].contains(keyword)) {
+                    matched[count++] = id;
+                }
+            }
+        } else {
+            for (int id : candidates) {
+                if (values[id].contains(keyword)) {
+                    matched[count++] = id;
+                }
+            }
+        }
+        return Arrays.copyOf(matched, count);
+    }
+}
@@ -0,0 +1,138 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사전 값에 대한 trigram 역색인
+ * 문자 단위가 아닌 코드 포인트 단위로 3-gram을 만들어 한글, 보조 평면 문자도 그대로 처리한다.
+ * 후보는 검색어의 모든 trigram을 포함하는 값이며, 최종 포함 여부는 호출하는 쪽에서 확인한다.
+ */
+final class TrigramIndex {
+
+    static final int GRAM_SIZE = 3;
+
+    private static final int[] NO_CANDIDATES = new int[0];
+    private static final int CODE_POINT_BITS = 21;
+
+    private final Map<Long, int[]> postings;
+
+    private TrigramIndex(Map<Long, int[]> postings) {
+        this.postings = postings;
+    }
+
+    static TrigramIndex build(String[] values) {
+        return new TrigramIndex(Map.of()).append(values, 0);
+    }
+
+    /**
+     * 값을 추가한 새 색인 - id는 firstId부터 차례로 부여하며 기존 id보다 커야 한다
+     * 새 값의 trigram이 있는 posting 목록만 새로 만들고 나머지는 그대로 공유한다.
+     */
+    TrigramIndex append(String[] values, int firstId) {
+        Map<Long, IntList> appended = new HashMap<>();
+
+        for (int i = 0; i < values.length; i++) {
+            for (long trigram : trigrams(values[i])) {
+                appended.computeIfAbsent(trigram, key -> new IntList()).add(firstId + i);
+            }
+        }
+
+        Map<Long, int[]> merged = new HashMap<>(Math.max((postings.size() + appended.size()) * 2, 16));
+        merged.putAll(postings);
+        appended.forEach((trigram, ids) -> merged.merge(trigram, ids.toArray(), TrigramIndex::concat));
+        return new TrigramIndex(merged);
+    }
+
+    /**
+     * 검색어의 모든 trigram을 포함하는 값 id (오름차순)
+     * 검색어가 trigram보다 짧으면 후보를 좁힐 수 없으므로 null을 반환한다.
+     */
+    int[] candidates(String keyword) {
+        long[] keywordTrigrams = trigrams(keyword);
+        if (keywordTrigrams.length == 0) {
+            return null;
+        }
+
+        int[][] lists = new int[keywordTrigrams.length][];
+        for (int i = 0; i < keywordTrigrams.length; i++) {
+            int[] ids = postings.get(keywordTrigrams[i]);
+            if (ids == null) {
+                return NO_CANDIDATES;
+            }
+            lists[i] = ids;
+        }
+
+        // 가장 짧은 목록부터 교집합
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 값의 중복 없는 trigram 목록 - 코드 포인트 3개를 21비트씩 하나의 long으로 묶는다
+     */
+    static long[] trigrams(String value) {
+        int[] codePoints = value.codePoints().toArray();
+        if (codePoints.length < GRAM_SIZE) {
+            return new long[0];
+        }
+
+        long[] trigrams = new long[codePoints.length - GRAM_SIZE + 1];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) codePoints[i] << (CODE_POINT_BITS * 2))
+                    | ((long) codePoints[i + 1] << CODE_POINT_BITS)
+                    | codePoints[i + 2];
+        }
+
+        return Arrays.stream(trigrams).distinct().toArray();
+    }
+
+    private static int[] concat(int[] existing, int[] appended) {
+        int[] result = Arrays.copyOf(existing, existing.length + appended.length);
+        System.arraycopy(appended, 0, result, existing.length, appended.length);
+        return result;
+    }
+
+    private static int[] intersect(int[] smaller, int[] larger) {
+        int[] result = new int[smaller.length];
+        int count = 0;
+        int from = 0;
+
+        for (int id : smaller) {
+            int found = Arrays.binarySearch(larger, from, larger.length, id);
+            if (found >= 0) {
+                result[count++] = id;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+            if (from >= larger.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.calendar.BusinessDayMask;
+import com.planitsquare.assignment_jaehyuk.calendar.HolidayCalendar;
+import com.planitsquare.assignment_jaehyuk.calendar.HolidayYearBitmap;
+import com.planitsquare.assignment_jaehyuk.calendar.WeekendMask;
+import com.planitsquare.assignment_jaehyuk.dto.response.BusinessDayCountResponse;
+import com.planitsquare.assignment_jaehyuk.dto.response.BusinessDayOffsetResponse;
+import com.planitsquare.assignment_jaehyuk.dto.response.BusinessDayResponse;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 영업일 계산 - 국가/연도별 휴일 비트맵(HolidayCalendar)으로 DB 조회 없이 계산한다
+ * 지역(county)을 지정하면 전국 공휴일에 해당 지역 공휴일을 더하고, 지정하지 않으면 전국 공휴일만 본다.
+ * 주말은 요청 값 > 국가별 설정(country-weekends) > 기본 설정(weekend) 순서로 정한다.
+ */
+@Service
+public class BusinessDayService {
+
+    // 주말이 없어도 10년을 넘지 않는 범위 - 부호를 바꿀 때 int 범위를 넘지 않게 한다
+    static final int MAX_BUSINESS_DAYS = 3_660;
+
+    private final HolidayCalendar holidayCalendar;
+    private final WeekendMask defaultWeekend;
+    private final Map<String, WeekendMask> countryWeekends;
+
+    public BusinessDayService(HolidayCalendar holidayCalendar,
+                              @Value("${holiday.business-day.weekend:SATURDAY,SUNDAY}") String defaultWeekend,
+                              @Value("${holiday.business-day.country-weekends:}") String countryWeekends) {
+        this.holidayCalendar = holidayCalendar;
+        this.defaultWeekend = WeekendMask.parse(defaultWeekend);
+        this.countryWeekends = parseCountryWeekends(countryWeekends);
+    }
+
+    public BusinessDayResponse isBusinessDay(String countryCode, LocalDate date, String county, String weekend) {
+        Query query = Query.of(countryCode, county, weekendOf(countryCode, weekend));
+
+        HolidayYearBitmap bitmap = holidayCalendar.get(query.countryCode(), date.getYear());
+        boolean holiday = bitmap.isHoliday(date, query.county());
+        boolean weekendDay = query.weekend().contains(date.getDayOfWeek());
+
+        return BusinessDayResponse.builder()
+                .countryCode(query.countryCode())
+                .county(query.county())
+                .weekend(query.weekend().toString())
+                .date(date)
+                .businessDay(!holiday && !weekendDay)
+                .holiday(holiday)
+                .weekendDay(weekendDay)
+                .build();
+    }
+
+    /**
+     * date에 영업일 days 일을 더한 날짜 - date 자신은 세지 않으며, 0이면 date를 그대로 반환한다
+     * days는 ±MAX_BUSINESS_DAYS 범위만 허용한다.
+     */
+    public BusinessDayOffsetResponse addBusinessDays(String countryCode, LocalDate date, int days, String county,
+                                                     String weekend) {
+        if (days < -MAX_BUSINESS_DAYS || days > MAX_BUSINESS_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_BUSINESS_DAYS);
+        }
+        Query query = Query.of(countryCode, county, weekendOf(countryCode, weekend));
+
+        LocalDate result = date;
+        if (days > 0) {
+            result = nthBusinessDayAfter(query, date, days);
+        } else if (days < 0) {
+            result = nthBusinessDayBefore(query, date, -days);
+        }
+
+        return BusinessDayOffsetResponse.builder()
+                .countryCode(query.countryCode())
+                .county(query.county())
+                .weekend(query.weekend().toString())
+                .date(date)
+                .days(days)
+                .result(result)
+                .build();
+    }
+
+    /**
+     * (startDate, endDate] 구간의 영업일 수 - addBusinessDays(startDate, n) 결과까지의 영업일 수가 n이 되도록 시작일은 제외한다
+     */
+    public BusinessDayCountResponse businessDaysBetween(String countryCode, LocalDate startDate, LocalDate endDate,
+                                                        String county, String weekend) {
+        Query query = Query.of(countryCode, county, weekendOf(countryCode, weekend));
+
+        int businessDays = startDate.isAfter(endDate)
+                ? -countBusinessDays(query, endDate, startDate)
+                : countBusinessDays(query, startDate, endDate);
+
+        return BusinessDayCountResponse.builder()
+                .countryCode(query.countryCode())
+                .county(query.county())
+                .weekend(query.weekend().toString())
+                .startDate(startDate)
+                .endDate(endDate)
+                .businessDays(businessDays)
+                .build();
+    }
+
+    private int countBusinessDays(Query query, LocalDate startExclusive, LocalDate endInclusive) {
+        int count = 0;
+        for (int year = startExclusive.getYear(); year <= endInclusive.getYear(); year++) {
+            BusinessDayMask mask = maskOf(query, year);
+            int from = year == startExclusive.getYear() ? BusinessDayMask.dayOf(startExclusive) + 1 : 0;
+            int to = year == endInclusive.getYear() ? BusinessDayMask.dayOf(endInclusive) : mask.length() - 1;
+            count += mask.countBusinessDays(from, to);
+        }
+        return count;
+    }
+
+    private LocalDate nthBusinessDayAfter(Query query, LocalDate date, int n) {
+        int year = date.getYear();
+        int from = BusinessDayMask.dayOf(date);
+
+        // 올해 남은 영업일로 부족하면 그만큼 빼고 다음 해 1월 1일부터 이어서 찾는다
+        while (true) {
+            BusinessDayMask mask = maskOf(query, year);
+            int day = mask.nthBusinessDayAfter(from, n);
+            if (day >= 0) {
+                return mask.date(day);
+            }
+            n -= mask.countBusinessDays(from + 1, mask.length() - 1);
+            year++;
+            from = -1;
+        }
+    }
+
+    private LocalDate nthBusinessDayBefore(Query query, LocalDate date, int n) {
+        int year = date.getYear();
+        int from = BusinessDayMask.dayOf(date);
+
+        while (true) {
+            BusinessDayMask mask = maskOf(query, year);
+            int day = mask.nthBusinessDayBefore(from, n);
+            if (day >= 0) {
+                return mask.date(day);
+            }
+            n -= mask.countBusinessDays(0, from - 1);
+            year--;
+            from = Year.of(year).length();
+        }
+    }
+
+    private BusinessDayMask maskOf(Query query, int year) {
+        return holidayCalendar.get(query.countryCode(), year).businessDays(query.county(), query.weekend());
+    }
+
+    private WeekendMask weekendOf(String countryCode, String weekend) {
+        if (weekend != null && !weekend.isBlank()) {
+            return WeekendMask.parse(weekend);
+        }
+        return countryWeekends.getOrDefault(countryCode.trim().toUpperCase(), defaultWeekend);
+    }
+
+    /**
+     * 국가별 주말 설정 - "IL=FRIDAY|SATURDAY, NP=SATURDAY"
+     */
+    private static Map<String, WeekendMask> parseCountryWeekends(String value) {
+        Map<String, WeekendMask> weekends = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return weekends;
+        }
+
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("잘못된 국가별 주말 설정입니다: " + entry);
+            }
+            weekends.put(parts[0].trim().toUpperCase(), WeekendMask.parse(parts[1]));
+        }
+        return Map.copyOf(weekends);
+    }
+
+    private record Query(String countryCode, String county, WeekendMask weekend) {
+
+        static Query of(String countryCode, String county, WeekendMask weekend) {
+            return new Query(countryCode.trim().toUpperCase(),
+                    county != null && !county.isBlank() ? county.trim().toUpperCase() : null,
+                    weekend);
+        }
+    }
+}
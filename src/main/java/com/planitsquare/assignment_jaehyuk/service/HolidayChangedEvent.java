@@ -0,0 +1,26 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공휴일 데이터가 변경된 국가/연도 목록
+ * 트랜잭션 커밋 후 캐시 등 파생 데이터 갱신에 사용된다.
+ */
+public record HolidayChangedEvent(Set<CountryYear> countryYears) {
+
+    public record CountryYear(String countryCode, int year) {}
+
+    public static HolidayChangedEvent of(String countryCode, int year) {
+        return new HolidayChangedEvent(Set.of(new CountryYear(countryCode, year)));
+    }
+
+    public static HolidayChangedEvent from(Collection<HolidayDto> holidayDtos) {
+        return new HolidayChangedEvent(holidayDtos.stream()
+                .map(dto -> new CountryYear(dto.getCountryCode(), dto.getDate().getYear()))
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
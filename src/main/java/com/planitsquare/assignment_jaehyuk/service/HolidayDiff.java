@@ -0,0 +1,88 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.util.HolidayHashUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 공휴일과 최신 공휴일의 차이 (추가 / 수정 / 삭제)
+ * 같은 날짜끼리 이름이 같은 항목을 먼저 짝짓고, 남은 항목은 순서대로 짝짓는다.
+ * 내용 해시가 같은 항목은 수정 대상에서 제외된다.
+ */
+public record HolidayDiff(
+        List<Holiday> inserts,
+        List<Holiday> updates,
+        List<Long> deleteIds,
+        int unchangedCount
+) {
+
+    public static HolidayDiff compute(List<Holiday> existingHolidays, List<HolidayDto> latestHolidays,
+                                      Function<HolidayDto, Holiday> converter) {
+
+        Map<LocalDate, List<Holiday>> existingByDate = existingHolidays.stream()
+                .collect(Collectors.groupingBy(Holiday::getDate, LinkedHashMap::new,
+                        Collectors.toCollection(ArrayList::new)));
+
+        Map<HolidayDto, Holiday> matches = new IdentityHashMap<>();
+
+        // 1차: 날짜와 이름이 모두 같은 항목
+        for (HolidayDto latestDto : latestHolidays) {
+            List<Holiday> candidates = existingByDate.get(latestDto.getDate());
+            if (candidates == null) {
+                continue;
+            }
+            candidates.stream()
+                    .filter(candidate -> Objects.equals(candidate.getName(), latestDto.getName()))
+                    .findFirst()
+                    .ifPresent(candidate -> {
+                        candidates.remove(candidate);
+                        matches.put(latestDto, candidate);
+                    });
+        }
+
+        // 2차: 같은 날짜의 남은 항목
+        for (HolidayDto latestDto : latestHolidays) {
+            List<Holiday> candidates = existingByDate.get(latestDto.getDate());
+            if (matches.containsKey(latestDto) || candidates == null || candidates.isEmpty()) {
+                continue;
+            }
+            matches.put(latestDto, candidates.remove(0));
+        }
+
+        List<Holiday> inserts = new ArrayList<>();
+        List<Holiday> updates = new ArrayList<>();
+        int unchangedCount = 0;
+
+        for (HolidayDto latestDto : latestHolidays) {
+            Holiday existingHoliday = matches.get(latestDto);
+
+            if (existingHoliday == null) {
+                inserts.add(converter.apply(latestDto));
+            } else if (HolidayHashUtils.contentHash(existingHoliday).equals(HolidayHashUtils.contentHash(latestDto))) {
+                unchangedCount++;
+            } else {
+                // 영속 엔티티를 변경하면 dirty checking UPDATE가 추가로 발생하므로 새 객체로 만든다
+                Holiday updated = converter.apply(latestDto);
+                updated.setId(existingHoliday.getId());
+                updated.setCreatedAt(existingHoliday.getCreatedAt());
+                updates.add(updated);
+            }
+        }
+
+        List<Long> deleteIds = existingByDate.values().stream()
+                .flatMap(List::stream)
+                .map(Holiday::getId)
+                .toList();
+
+        return new HolidayDiff(inserts, updates, deleteIds, unchangedCount);
+    }
+
+    public boolean isEmpty() {
+        return inserts.isEmpty() && updates.isEmpty() && deleteIds.isEmpty();
+    }
+}
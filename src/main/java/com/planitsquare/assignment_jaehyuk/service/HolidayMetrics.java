@@ -0,0 +1,90 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * 공휴일 저장/검색 지표
+ * - holiday.rows: 반영한 행 수 (path = refresh|bulk_load, operation = inserted|updated|deleted|unchanged)
+ * - holiday.search: 검색 시간 (endpoint, 사용한 조건 조합 predicates)
+ * 조건 값 대신 조건 종류만 태그로 남겨 시계열 수를 제한한다.
+ */
+@Component
+public class HolidayMetrics implements MeterBinder {
+
+    static final String ROWS_COUNTER = "holiday.rows";
+    static final String SEARCH_TIMER = "holiday.search";
+
+    // 레지스트리에 연결되기 전(단위/슬라이스 테스트)에는 기록하지 않는다
+    private volatile MeterRegistry meterRegistry = new CompositeMeterRegistry();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    void recordRows(String path, int inserted, int updated, int deleted, int unchanged) {
+        incrementRows(path, "inserted", inserted);
+        incrementRows(path, "updated", updated);
+        incrementRows(path, "deleted", deleted);
+        incrementRows(path, "unchanged", unchanged);
+    }
+
+    <T> T timeSearch(String endpoint, String predicates, Supplier<T> search) {
+        return Timer.builder(SEARCH_TIMER)
+                .tag("endpoint", endpoint)
+                .tag("predicates", predicates)
+                .description("공휴일 검색 시간")
+                .register(meterRegistry)
+                .record(search);
+    }
+
+    /**
+     * 검색 조건 조합 - 값이 있는 조건 이름을 고정된 순서로 이어 붙인다 (없으면 none)
+     */
+    static String predicateShape(HolidaySearchCondition condition) {
+        StringJoiner shape = new StringJoiner(",");
+        if (condition.getCountryName() != null && !condition.getCountryName().isBlank()) {
+            shape.add("countryName");
+        }
+        if (condition.getStartDate() != null || condition.getEndDate() != null) {
+            shape.add("dateRange");
+        }
+        if (condition.getLocalName() != null && !condition.getLocalName().isBlank()) {
+            shape.add("localName");
+        }
+        if (condition.getName() != null && !condition.getName().isBlank()) {
+            shape.add("name");
+        }
+        if (condition.getGlobal() != null) {
+            shape.add("global");
+        }
+        if (condition.getFixed() != null) {
+            shape.add("fixed");
+        }
+        if (condition.getLaunchYear() != null) {
+            shape.add("launchYear");
+        }
+        return shape.length() > 0 ? shape.toString() : "none";
+    }
+
+    private void incrementRows(String path, String operation, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(ROWS_COUNTER)
+                .tag("path", path)
+                .tag("operation", operation)
+                .description("반영한 공휴일 행 수")
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
@@ -0,0 +1,148 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent.CountryYear;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 국가/연도 재동기화 요청 병합 (single-flight)
+ * 같은 국가/연도 작업이 진행 중이면 새로 실행하지 않고 진행 중인 작업의 결과(예외 포함)를 함께 받는다.
+ * 작업이 끝나면 바로 키를 지우므로 이후 요청은 다시 실행된다.
+ * 합류한 요청은 Nager 호출 한 번이 재시도까지 걸릴 수 있는 최대 시간 + 저장 여유 시간까지만 기다리고 EXTERNAL_API_TIMEOUT으로 실패한다.
+ */
+@Slf4j
+@Component
+public class HolidayRefreshCoalescer implements MeterBinder {
+
+    public static final String METRIC_NAME = "holiday.refresh.calls";
+
+    private final ConcurrentHashMap<CountryYear, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    private final Duration maxWait;
+
+    @Autowired
+    public HolidayRefreshCoalescer(
+            @Value("${external.api.nager.timeout:3s}") Duration timeout,
+            @Value("${external.api.nager.bulkhead.max-wait:30s}") Duration bulkheadMaxWait,
+            @Value("${external.api.nager.retry.max-attempts:2}") int retryMaxAttempts,
+            @Value("${external.api.nager.retry.max-delay:10s}") Duration retryMaxDelay,
+            @Value("${external.api.nager.retry.max-retry-after:30s}") Duration retryMaxRetryAfter,
+            @Value("${holiday.refresh.write-margin:10s}") Duration writeMargin) {
+        this(maxLeaderDuration(timeout, bulkheadMaxWait, retryMaxAttempts, retryMaxDelay, retryMaxRetryAfter)
+                .plus(writeMargin));
+    }
+
+    public HolidayRefreshCoalescer(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 재시도를 모두 쓴 Nager 호출 한 번의 최대 시간 - 시도마다 (허가 대기 + 요청 타임아웃), 재시도마다 가장 긴 대기
+     */
+    static Duration maxLeaderDuration(Duration timeout, Duration bulkheadMaxWait, int retryMaxAttempts,
+                                      Duration retryMaxDelay, Duration retryMaxRetryAfter) {
+        Duration backoff = retryMaxDelay.compareTo(retryMaxRetryAfter) >= 0 ? retryMaxDelay : retryMaxRetryAfter;
+        return bulkheadMaxWait.plus(timeout).multipliedBy(retryMaxAttempts + 1L)
+                .plus(backoff.multipliedBy(retryMaxAttempts));
+    }
+
+    public void refresh(String countryCode, int year, Runnable task) {
+        CountryYear key = new CountryYear(countryCode, year);
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(key, flight);
+
+        if (running != null) {
+            coalesced.increment();
+            log.info("진행 중인 재동기화에 합류 - 국가: {}, 연도: {}", countryCode, year);
+            await(running);
+            return;
+        }
+
+        executed.increment();
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(null);
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_NAME, executed, LongAdder::sum)
+                .tag("result", "executed")
+                .description("실행된 국가/연도 재동기화 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_NAME, coalesced, LongAdder::sum)
+                .tag("result", "coalesced")
+                .description("진행 중인 재동기화에 합류한 요청 수")
+                .register(registry);
+        FunctionCounter.builder("holiday.refresh.wait.timeouts", timedOut, LongAdder::sum)
+                .description("진행 중인 재동기화를 기다리다 시간 초과된 요청 수")
+                .register(registry);
+        Gauge.builder("holiday.refresh.in-flight", inFlight, ConcurrentHashMap::size)
+                .description("진행 중인 국가/연도 재동기화 수")
+                .register(registry);
+    }
+
+    private void await(CompletableFuture<Void> running) {
+        try {
+            running.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 실행한 요청의 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.HOLIDAY_UPDATE_FAILED);
+        } catch (TimeoutException e) {
+            // 먼저 실행한 요청은 계속 진행하고, 합류한 요청만 포기한다
+            timedOut.increment();
+            log.warn("진행 중인 재동기화 대기 시간 초과 ({}ms)", maxWait.toMillis());
+            throw new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.HOLIDAY_UPDATE_FAILED);
+        }
+    }
+}
@@ -1,31 +1,48 @@
 package com.planitsquare.assignment_jaehyuk.service;
 
+import com.planitsquare.assignment_jaehyuk.cache.HolidayCountCache;
+import com.planitsquare.assignment_jaehyuk.cache.HolidayListCache;
 import com.planitsquare.assignment_jaehyuk.client.NagerDateApiClient;
 import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidayCursor;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidayDeleteForm;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidayUpdateForm;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayDetailResponse;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidaySliceResponse;
 import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.entity.HolidayFingerprint;
 import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
 import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
 import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository.UpsertResult;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayChunkedWriter;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayChunkedWriter.ChunkedWriteResult;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayFingerprintRepository;
 import com.planitsquare.assignment_jaehyuk.repository.HolidayRepository;
+import com.planitsquare.assignment_jaehyuk.search.HolidayColumnarIndex;
 import com.planitsquare.assignment_jaehyuk.util.DateUtils;
+import com.planitsquare.assignment_jaehyuk.util.EpochDaySet;
+import com.planitsquare.assignment_jaehyuk.util.HolidayDtoUtils;
+import com.planitsquare.assignment_jaehyuk.util.HolidayHashUtils;
 import com.planitsquare.assignment_jaehyuk.util.StringArrayUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,40 +51,66 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class HolidayService {
 
+    private static final int MAX_SLICE_SIZE = 1000;
+
     private final HolidayRepository holidayRepository;
     private final NagerDateApiClient nagerDateApiClient;
     private final HolidayBulkRepository holidayBulkRepository;
+    private final HolidayChunkedWriter holidayChunkedWriter;
+    private final HolidayFingerprintRepository holidayFingerprintRepository;
+    private final HolidayListCache holidayListCache;
+    private final HolidayCountCache holidayCountCache;
+    private final HolidayColumnarIndex holidayColumnarIndex;
+    private final HolidayRefreshCoalescer holidayRefreshCoalescer;
+    private final TransactionTemplate transactionTemplate;
+    private final HolidayMetrics holidayMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
 
-    @Transactional
+    /**
+     * 대량 저장 - 청크마다 별도 트랜잭션으로 커밋하므로 전체를 감싸는 트랜잭션을 열지 않는다
+     * 엔티티 변환도 청크를 읽을 때 하므로 변환된 엔티티 전체를 한 번에 들고 있지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<HolidayDto> saveAllHolidaysBulk(List<HolidayDto> holidayDtos, Map<String, String> countryNameMap) {
         if (holidayDtos == null || holidayDtos.isEmpty()) {
             log.warn("저장할 공휴일 데이터가 없습니다");
             return List.of();
         }
 
-        log.info("JDBC 벌크 저장 시작: {} 개 공휴일", holidayDtos.size());
+        holidayDtos = HolidayDtoUtils.mergeDuplicates(holidayDtos);
 
-        try {
-            LocalDateTime now = LocalDateTime.now();
+        log.info("JDBC 벌크 저장 시작: {} 개 공휴일", holidayDtos.size());
 
-            List<Holiday> holidays = holidayDtos.stream()
-                    .map(dto -> convertToEntityBulk(dto, countryNameMap, now))
-                    .toList();
+        LocalDateTime now = LocalDateTime.now();
+        Iterator<Holiday> holidays = holidayDtos.stream()
+                .map(dto -> convertToEntityBulk(dto, countryNameMap, now))
+                .iterator();
 
-            int insertedCount = holidayBulkRepository.bulkInsert(holidays);
+        try {
+            // 재시작이나 동기화가 겹쳐도 같은 공휴일이 중복 저장되지 않도록 키 기준으로 저장
+            ChunkedWriteResult writeResult = holidayChunkedWriter.upsertAll(holidays);
+            holidayMetrics.recordRows("bulk_load", writeResult.inserted(), writeResult.updated(), 0,
+                    writeResult.unchanged());
 
-            log.info("JDBC 벌크 저장 완료: {} 개 공휴일이 저장되었습니다", insertedCount);
+            log.info("JDBC 벌크 저장 완료: 추가 {} 개, 수정 {} 개, 변경 없음 {} 개",
+                    writeResult.inserted(), writeResult.updated(), writeResult.unchanged());
 
             return holidayDtos;
 
         } catch (Exception e) {
             log.error("JDBC 벌크 저장 중 오류 발생", e);
             throw new BusinessException(ErrorCode.HOLIDAY_BULK_SAVE_FAILED);
+
+        } finally {
+            // 실패해도 앞선 청크는 커밋되었으므로 지문과 캐시는 항상 무효화
+            invalidateFingerprints(holidayDtos);
+            eventPublisher.publishEvent(HolidayChangedEvent.from(holidayDtos));
         }
     }
 
-    private Holiday convertToEntityBulk(HolidayDto dto, Map<String, String> countryNameMap, LocalDateTime timestamp) {
+    // 상태를 쓰지 않으므로 벤치마크(src/jmh)에서 서비스 없이 호출할 수 있도록 static
+    static Holiday convertToEntityBulk(HolidayDto dto, Map<String, String> countryNameMap, LocalDateTime timestamp) {
         if (dto == null) {
             return null;
         }
@@ -101,14 +144,19 @@ public class HolidayService {
 
         log.debug("공휴일 데이터 저장 시작 - 국가: {}, 건수: {}", countryName, holidayDtoList.size());
 
-        List<Holiday> holidayList = holidayDtoList.stream()
-                .filter(dto -> isNotDuplicate(dto.getCountryCode(), dto.getDate()))
+        List<HolidayDto> mergedHolidayList = HolidayDtoUtils.mergeDuplicates(holidayDtoList);
+        Map<String, EpochDaySet> existingDatesByCountry = findExistingDates(mergedHolidayList);
+
+        List<Holiday> holidayList = mergedHolidayList.stream()
+                .filter(dto -> isNotDuplicate(dto, existingDatesByCountry.get(dto.getCountryCode())))
                 .map(dto -> convertToHolidayEntity(dto, countryName))
                 .toList();
 
         if (!holidayList.isEmpty()) {
             try {
-                holidayRepository.saveAll(holidayList);
+                holidayBulkRepository.bulkInsert(holidayList);
+                invalidateFingerprints(holidayDtoList);
+                eventPublisher.publishEvent(HolidayChangedEvent.from(holidayDtoList));
                 log.info("공휴일 데이터 저장 완료 - 국가: {}, 저장된 건수: {}", countryName, holidayList.size());
             } catch (Exception e) {
                 log.error("공휴일 데이터 저장 실패 - 국가: {}", countryName, e);
@@ -118,10 +166,38 @@ public class HolidayService {
             log.debug("저장할 유효한 공휴일 데이터가 없습니다 - 국가: {}", countryName);
         }
     }
-    private boolean isNotDuplicate(String countryCode, LocalDate date) {
-        boolean exists = holidayRepository.existsByCountryCodeAndDate(countryCode, date);
+
+    /**
+     * 벌크 저장은 국가/연도 단위 응답 전체를 반영한다고 보장할 수 없으므로 해당 국가의 지문을 무효화한다
+     */
+    private void invalidateFingerprints(List<HolidayDto> holidayDtos) {
+        Set<String> countryCodes = holidayDtos.stream()
+                .map(HolidayDto::getCountryCode)
+                .collect(Collectors.toSet());
+
+        holidayFingerprintRepository.deleteByCountryCodeIn(countryCodes);
+    }
+
+    /**
+     * 국가별로 저장 대상 기간의 기존 공휴일 날짜를 한 번에 조회 - 건별 존재 여부 조회 대신 사용
+     */
+    private Map<String, EpochDaySet> findExistingDates(List<HolidayDto> holidayDtoList) {
+        Map<String, List<LocalDate>> datesByCountry = holidayDtoList.stream()
+                .collect(Collectors.groupingBy(HolidayDto::getCountryCode,
+                        Collectors.mapping(HolidayDto::getDate, Collectors.toList())));
+
+        Map<String, EpochDaySet> existingDatesByCountry = new HashMap<>();
+        datesByCountry.forEach((countryCode, dates) -> {
+            DateUtils.DateRange range = new DateUtils.DateRange(Collections.min(dates), Collections.max(dates));
+            existingDatesByCountry.put(countryCode, holidayBulkRepository.findExistingDates(countryCode, range));
+        });
+        return existingDatesByCountry;
+    }
+
+    private boolean isNotDuplicate(HolidayDto dto, EpochDaySet existingDates) {
+        boolean exists = existingDates.contains(dto.getDate());
         if (exists) {
-            log.debug("중복 공휴일 데이터 - 국가: {}, 날짜: {}", countryCode, date);
+            log.debug("중복 공휴일 데이터 - 국가: {}, 날짜: {}", dto.getCountryCode(), dto.getDate());
         }
         return !exists;
     }
@@ -142,14 +218,27 @@ public class HolidayService {
     }
 
     /**
-     * 기본 검색
+     * 기본 검색 (국가/연도 단위 캐시 사용)
+     * 캐시 적중 시에는 트랜잭션과 커넥션 없이 반환하고, 캐시에 없을 때만 읽기 전용 트랜잭션으로 조회한다.
      * @param countryCode
      * @param year
      * @param pageable
      * @return
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<HolidayResponse> searchHolidayList(String countryCode, int year, Pageable pageable) {
+        return holidayMetrics.timeSearch("country_year", "countryCode,year", () ->
+                holidayListCache.get(countryCode, year, pageable,
+                        () -> readOnlyTransaction().execute(status -> loadHolidayList(countryCode, year, pageable))));
+    }
 
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+
+    private Page<HolidayResponse> loadHolidayList(String countryCode, int year, Pageable pageable) {
         Page<Holiday> holidayPage = holidayRepository.findByCountryCodeAndDateBetween(
                 countryCode,
                 DateUtils.getYearStartDate(year),
@@ -170,11 +259,85 @@ public class HolidayService {
     }
 
     /**
-     * 고급 검색
+     * 고급 검색 (컬럼 인덱스 사용 설정 시 DB를 거치지 않음)
      * @return
      */
     public Page<HolidayResponse> searchHolidayListWithSearchCondition(HolidaySearchCondition searchCondition, Pageable pageable) {
-        return holidayRepository.searchHolidayListWithSearchCondition(searchCondition, pageable);
+        return holidayMetrics.timeSearch("advanced", HolidayMetrics.predicateShape(searchCondition),
+                () -> loadHolidayListWithSearchCondition(searchCondition, pageable));
+    }
+
+    /**
+     * 고급 검색
+     * @param includeTotal false 인 경우 COUNT 쿼리 없이 조회하며, 전체 건수 없이 다음 페이지 존재 여부만 담은 Slice 반환
+     * @return
+     */
+    public Slice<HolidayResponse> searchHolidayListWithSearchCondition(HolidaySearchCondition searchCondition, Pageable pageable,
+                                                                       boolean includeTotal) {
+        if (includeTotal) {
+            return searchHolidayListWithSearchCondition(searchCondition, pageable);
+        }
+
+        return holidayMetrics.timeSearch("advanced_no_count", HolidayMetrics.predicateShape(searchCondition),
+                () -> loadHolidaySliceWithoutCount(searchCondition, pageable));
+    }
+
+    private Page<HolidayResponse> loadHolidayListWithSearchCondition(HolidaySearchCondition searchCondition, Pageable pageable) {
+        if (holidayColumnarIndex.isEnabled()) {
+            return holidayColumnarIndex.search(searchCondition, pageable);
+        }
+
+        return holidayRepository.searchHolidayListWithSearchCondition(searchCondition, pageable,
+                () -> holidayCountCache.get(searchCondition,
+                        () -> holidayRepository.countHolidayListWithSearchCondition(searchCondition)));
+    }
+
+    private Slice<HolidayResponse> loadHolidaySliceWithoutCount(HolidaySearchCondition searchCondition, Pageable pageable) {
+        if (holidayColumnarIndex.isEnabled()) {
+            Page<HolidayResponse> page = holidayColumnarIndex.search(searchCondition, pageable);
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+        }
+
+        return holidayRepository.searchHolidayListWithoutCount(searchCondition, pageable);
+    }
+
+    /**
+     * 커서 기반 고급 검색 - 전체 데이터를 순회하는 경우에도 페이지마다 비용이 일정하다
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     * @param includeTotal true 인 경우만 전체 건수 조회
+     * @return
+     */
+    public HolidaySliceResponse searchHolidaySliceWithSearchCondition(HolidaySearchCondition searchCondition, String cursor,
+                                                                      int size, boolean includeTotal) {
+        return holidayMetrics.timeSearch("cursor", HolidayMetrics.predicateShape(searchCondition),
+                () -> loadHolidaySliceWithSearchCondition(searchCondition, cursor, size, includeTotal));
+    }
+
+    private HolidaySliceResponse loadHolidaySliceWithSearchCondition(HolidaySearchCondition searchCondition, String cursor,
+                                                                     int size, boolean includeTotal) {
+        HolidayCursor holidayCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            holidayCursor = HolidayCursor.decode(cursor);
+            if (!holidayCursor.matches(searchCondition)) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        int sliceSize = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        Slice<HolidayResponse> slice = holidayRepository.searchHolidaySliceWithSearchCondition(
+                searchCondition, holidayCursor, sliceSize);
+
+        String nextCursor = slice.hasNext()
+                ? HolidayCursor.after(searchCondition, slice.getContent().get(slice.getNumberOfElements() - 1)).encode()
+                : null;
+
+        return HolidaySliceResponse.builder()
+                .content(slice.getContent())
+                .size(sliceSize)
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .totalCount(includeTotal ? holidayRepository.countHolidayListWithSearchCondition(searchCondition) : null)
+                .build();
     }
 
     /**
@@ -204,28 +367,112 @@ public class HolidayService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 국가/연도 재동기화 - 같은 국가/연도 요청이 동시에 들어오면 먼저 시작한 요청의 결과를 함께 받는다
+     * 외부 API 조회는 트랜잭션 밖에서 하고 변경 반영만 짧은 쓰기 트랜잭션으로 처리해, 응답을 기다리는 동안 DB 커넥션을 잡지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateHolidayList(HolidayUpdateForm updateForm) {
+        holidayRefreshCoalescer.refresh(updateForm.getCountryCode(), updateForm.getYear(),
+                () -> refreshHolidayList(updateForm));
+    }
+
+    private void refreshHolidayList(HolidayUpdateForm updateForm) {
         try {
+            // 트랜잭션 없이 리포지토리를 호출하면 EntityManager가 이 메서드가 끝날 때까지 커넥션을 잡으므로 짧은 트랜잭션으로 읽는다
+            Optional<HolidayFingerprint> fingerprint = transactionTemplate.execute(status ->
+                    holidayFingerprintRepository.findByCountryCodeAndYear(updateForm.getCountryCode(), updateForm.getYear()));
+
             log.debug("외부 API 호출 시작 - 국가: {}, 연도: {}", updateForm.getCountryCode(), updateForm.getYear());
-            List<HolidayDto> latestHolidayList = fetchLatestHolidayData(updateForm);
-            
-            HolidayUpdateResult result = updateHolidayDataInTransaction(updateForm, latestHolidayList);
-            
-            log.info("공휴일 업데이트 완료 - 국가: {}, 업데이트: {}, 추가: {}, 삭제: {}",
-                    updateForm.getCountryName(), result.updatedCount(), result.addedCount(), result.deletedCount());
-                    
+
+            // 지문이 있으면 DB가 마지막 응답을 반영하고 있으므로 조건부 요청으로 304를 받을 수 있다
+            Optional<List<HolidayDto>> fetchedHolidayList = fingerprint.isPresent()
+                    ? fetchHolidayDataIfModified(updateForm)
+                    : Optional.of(fetchLatestHolidayData(updateForm));
+
+            if (fetchedHolidayList.isEmpty()) {
+                log.info("공휴일 변경 없음 - 국가: {}, 연도: {} (304 Not Modified)",
+                        updateForm.getCountryName(), updateForm.getYear());
+                return;
+            }
+
+            List<HolidayDto> latestHolidayList = HolidayDtoUtils.mergeDuplicates(fetchedHolidayList.get());
+            String payloadHash = HolidayHashUtils.payloadHash(latestHolidayList);
+
+            if (fingerprint.isPresent() && fingerprint.get().matches(payloadHash)) {
+                log.info("공휴일 변경 없음 - 국가: {}, 연도: {} (응답 지문 일치)",
+                        updateForm.getCountryName(), updateForm.getYear());
+                return;
+            }
+
+            HolidayUpdateResult result = transactionTemplate.execute(status ->
+                    writeHolidayList(updateForm, latestHolidayList, payloadHash));
+            // 커밋된 변경만 집계
+            holidayMetrics.recordRows("refresh", result.addedCount(), result.updatedCount(), result.deletedCount(),
+                    result.unchangedCount());
+
+            log.info("공휴일 업데이트 완료 - 국가: {}, 업데이트: {}, 추가: {}, 삭제: {}, 유지: {}",
+                    updateForm.getCountryName(), result.updatedCount(), result.addedCount(), result.deletedCount(),
+                    result.unchangedCount());
+
         } catch (BusinessException e) {
+            nagerDateApiClient.forgetPublicHolidaysValidator(updateForm.getCountryCode(), updateForm.getYear());
             throw e;
         } catch (Exception e) {
+            nagerDateApiClient.forgetPublicHolidaysValidator(updateForm.getCountryCode(), updateForm.getYear());
             log.error("공휴일 업데이트 실패 - 국가: {}, 연도: {}", updateForm.getCountryName(), updateForm.getYear(), e);
             throw new BusinessException(ErrorCode.HOLIDAY_UPDATE_FAILED);
         }
     }
 
+    /**
+     * 조회한 응답을 반영하는 쓰기 트랜잭션 - 지문은 조회 중에 바뀌었을 수 있으므로 트랜잭션 안에서 다시 읽는다
+     */
+    private HolidayUpdateResult writeHolidayList(HolidayUpdateForm updateForm, List<HolidayDto> latestHolidayList,
+                                                 String payloadHash) {
+        Optional<HolidayFingerprint> fingerprint = holidayFingerprintRepository.findByCountryCodeAndYear(
+                updateForm.getCountryCode(), updateForm.getYear());
+
+        HolidayUpdateResult result = updateHolidayDataInTransaction(updateForm, latestHolidayList);
+        saveFingerprint(fingerprint, updateForm, payloadHash);
+
+        if (result.hasChanges()) {
+            eventPublisher.publishEvent(HolidayChangedEvent.of(updateForm.getCountryCode(), updateForm.getYear()));
+        }
+        return result;
+    }
+
+    private void saveFingerprint(Optional<HolidayFingerprint> fingerprint, HolidayUpdateForm updateForm, String payloadHash) {
+        fingerprint.ifPresentOrElse(
+                existing -> existing.updatePayloadHash(payloadHash),
+                () -> holidayFingerprintRepository.save(
+                        HolidayFingerprint.builder()
+                                .countryCode(updateForm.getCountryCode())
+                                .year(updateForm.getYear())
+                                .payloadHash(payloadHash)
+                                .build()
+                )
+        );
+    }
+
+    private Optional<List<HolidayDto>> fetchHolidayDataIfModified(HolidayUpdateForm updateForm) {
+        try {
+            return nagerDateApiClient.getPublicHolidaysIfModified(updateForm.getCountryCode(), updateForm.getYear());
+        } catch (BusinessException e) {
+            // 서킷 오픈, 대기열 초과 등 원인별 에러 코드는 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("외부 API 호출 실패 - 국가: {}, 연도: {}", updateForm.getCountryCode(), updateForm.getYear(), e);
+            throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
+        }
+    }
+
     private List<HolidayDto> fetchLatestHolidayData(HolidayUpdateForm updateForm) {
         try {
             return nagerDateApiClient.getPublicHolidays(updateForm.getCountryCode(), updateForm.getYear());
+        } catch (BusinessException e) {
+            // 서킷 오픈, 대기열 초과 등 원인별 에러 코드는 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("외부 API 호출 실패 - 국가: {}, 연도: {}", updateForm.getCountryCode(), updateForm.getYear(), e);
             throw new BusinessException(ErrorCode.HOLIDAY_API_CALL_FAILED);
@@ -234,99 +481,51 @@ public class HolidayService {
 
     public HolidayUpdateResult updateHolidayDataInTransaction(HolidayUpdateForm updateForm, List<HolidayDto> latestHolidayList) {
         DateUtils.DateRange yearRange = DateUtils.getYearRange(updateForm.getYear());
-        
+
         List<Holiday> existingHolidaysList = holidayRepository.findByCountryCodeAndCountryNameAndDateBetween(
                 updateForm.getCountryCode(), updateForm.getCountryName(), yearRange.startDate(), yearRange.endDate());
-        
-        Map<LocalDate, Holiday> existingHolidayMap = existingHolidaysList.stream()
-                .collect(Collectors.toMap(Holiday::getDate, Function.identity()));
-        
-        int updatedCount = 0;
-        int addedCount = 0;
-        
-        for (HolidayDto latestDto : latestHolidayList) {
-            Holiday existingHoliday = existingHolidayMap.get(latestDto.getDate());
-            
-            if (existingHoliday != null) {
-                updateHolidayInTransaction(latestDto, existingHoliday.getId());
-                updatedCount++;
-                log.debug("공휴일 업데이트 - 날짜: {}, 이름: {}", latestDto.getDate(), latestDto.getName());
-                existingHolidayMap.remove(latestDto.getDate());
-            } else {
-                saveHolidayInTransaction(latestDto, updateForm.getCountryName());
-                addedCount++;
-                log.debug("새 공휴일 추가 - 날짜: {}, 이름: {}", latestDto.getDate(), latestDto.getName());
-            }
-        }
 
-        List<Long> idsToDelete = existingHolidayMap.values().stream()
-                .map(Holiday::getId)
-                .toList();
-        
-        int deletedCount = 0;
-        if (!idsToDelete.isEmpty()) {
-            holidayRepository.deleteAllByIdInBatch(idsToDelete);
-            deletedCount = idsToDelete.size();
-            log.debug("공휴일 삭제 완료 - 삭제된 개수: {}", deletedCount);
+        // 404 또는 빈 응답을 그대로 반영하면 저장된 공휴일이 모두 삭제되므로, 기존 데이터가 있으면 실패로 보고 롤백한다
+        if (latestHolidayList.isEmpty() && !existingHolidaysList.isEmpty()) {
+            log.warn("외부 API 응답이 비어 기존 공휴일 유지 - 국가: {}, 연도: {}, 기존: {}",
+                    updateForm.getCountryCode(), updateForm.getYear(), existingHolidaysList.size());
+            throw new BusinessException(ErrorCode.HOLIDAY_API_EMPTY_RESPONSE);
         }
-        
-        return new HolidayUpdateResult(updatedCount, addedCount, deletedCount);
-    }
 
-    private void updateHolidayInTransaction(HolidayDto holidayDto, Long id) {
-        holidayRepository.findById(id).ifPresentOrElse(
-                existingHoliday -> {
-                    existingHoliday.updateHoliday(
-                            holidayDto.getDate(),
-                            holidayDto.getLocalName(),
-                            holidayDto.getName(),
-                            holidayDto.getFixed(),
-                            holidayDto.getGlobal(),
-                            holidayDto.getLaunchYear(),
-                            StringArrayUtils.joinFromList(holidayDto.getTypes()),
-                            StringArrayUtils.joinFromList(holidayDto.getCounties()),
-                            existingHoliday.getCreatedAt()
-                    );
-                    log.debug("공휴일 업데이트 완료 - ID: {}", id);
-                },
-                () -> {
-                    throw new BusinessException(ErrorCode.HOLIDAY_NOT_FOUND);
-                }
-        );
-    }
+        HolidayDiff diff = HolidayDiff.compute(existingHolidaysList, latestHolidayList,
+                dto -> convertToHolidayEntity(dto, updateForm.getCountryName()));
 
-    private void saveHolidayInTransaction(HolidayDto holidayDto, String countryName) {
-        try {
-            holidayRepository.save(
-                    Holiday.builder()
-                            .countryCode(holidayDto.getCountryCode())
-                            .countryName(countryName)
-                            .date(holidayDto.getDate())
-                            .localName(holidayDto.getLocalName())
-                            .name(holidayDto.getName())
-                            .fixed(holidayDto.getFixed())
-                            .global(holidayDto.getGlobal())
-                            .launchYear(holidayDto.getLaunchYear())
-                            .types(StringArrayUtils.joinFromList(holidayDto.getTypes()))
-                            .counties(StringArrayUtils.joinFromList(holidayDto.getCounties()))
-                            .build()
-            );
-        } catch (Exception e) {
-            log.error("공휴일 저장 실패 - 국가: {}, 날짜: {}", countryName, holidayDto.getDate(), e);
-            throw new BusinessException(ErrorCode.HOLIDAY_BULK_SAVE_FAILED);
+        if (diff.isEmpty()) {
+            log.debug("변경된 공휴일 없음 - 국가: {}, 연도: {}, 유지: {}",
+                    updateForm.getCountryCode(), updateForm.getYear(), diff.unchangedCount());
+            return new HolidayUpdateResult(0, 0, 0, diff.unchangedCount());
         }
+
+        int updatedCount = holidayBulkRepository.bulkUpdate(diff.updates());
+        // 다른 동기화가 먼저 같은 공휴일을 저장했을 수 있으므로 추가 대상도 키 기준으로 저장
+        UpsertResult upsertResult = holidayBulkRepository.bulkUpsert(diff.inserts());
+        int deletedCount = holidayBulkRepository.bulkDelete(diff.deleteIds());
+
+        return new HolidayUpdateResult(updatedCount + upsertResult.updated(), upsertResult.inserted(), deletedCount,
+                diff.unchangedCount() + upsertResult.unchanged());
     }
 
     public record HolidayUpdateResult(
             int updatedCount,
             int addedCount,
-            int deletedCount
-    ) {}
+            int deletedCount,
+            int unchangedCount
+    ) {
+        public boolean hasChanges() {
+            return updatedCount + addedCount + deletedCount > 0;
+        }
+    }
 
     @Transactional
     public void deleteHoliday(HolidayDeleteForm deleteForm) {
         try {
             Long deleteCount = holidayRepository.deleteByCountryCodeAndYear(deleteForm.getCountryCode(), deleteForm.getYear());
+            holidayFingerprintRepository.deleteByCountryCodeAndYear(deleteForm.getCountryCode(), deleteForm.getYear());
 
             if (deleteCount == 0) {
                 log.warn("삭제할 공휴일 데이터가 없습니다 - 국가: {}, 연도: {}", deleteForm.getCountryCode(), deleteForm.getYear());
@@ -334,6 +533,7 @@ public class HolidayService {
                 return;
             }
 
+            eventPublisher.publishEvent(HolidayChangedEvent.of(deleteForm.getCountryCode(), deleteForm.getYear()));
             log.info("삭제된 데이터 개수: {}", deleteCount);
         } catch (Exception e) {
             log.error("공휴일 삭제 실패 - 국가: {}, 연도: {}", deleteForm.getCountryCode(), deleteForm.getYear(), e);
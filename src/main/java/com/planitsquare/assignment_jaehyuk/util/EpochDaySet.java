@@ -0,0 +1,39 @@
+package com.planitsquare.assignment_jaehyuk.util;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * 날짜 범위 안의 날짜 집합 - 시작일로부터의 일 수를 비트로 저장한다 (6년 약 2,200비트)
+ * 범위 밖의 날짜는 포함되지 않은 것으로 취급한다.
+ */
+public final class EpochDaySet {
+
+    private final long startEpochDay;
+    private final long endEpochDay;
+    private final BitSet days;
+
+    public EpochDaySet(DateUtils.DateRange range) {
+        this.startEpochDay = range.startDate().toEpochDay();
+        this.endEpochDay = range.endDate().toEpochDay();
+        this.days = new BitSet((int) (endEpochDay - startEpochDay + 1));
+    }
+
+    public void add(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < startEpochDay || epochDay > endEpochDay) {
+            throw new IllegalArgumentException("범위를 벗어난 날짜입니다: " + date);
+        }
+        days.set((int) (epochDay - startEpochDay));
+    }
+
+    public boolean contains(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        return epochDay >= startEpochDay && epochDay <= endEpochDay
+                && days.get((int) (epochDay - startEpochDay));
+    }
+
+    public int size() {
+        return days.cardinality();
+    }
+}
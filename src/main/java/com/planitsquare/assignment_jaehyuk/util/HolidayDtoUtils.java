@@ -0,0 +1,66 @@
+package com.planitsquare.assignment_jaehyuk.util;
+
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@UtilityClass
+public class HolidayDtoUtils {
+
+    /**
+     * (국가, 날짜, 이름)이 같은 공휴일을 하나로 병합 - holiday 테이블의 유니크 키와 같은 기준
+     * 외부 API는 같은 공휴일을 지역별로 나눠 내려주는 경우가 있으므로 유형과 지역은 합친다.
+     * 어느 한쪽이 전국 공휴일(지역 없음)이면 병합 결과도 전국 공휴일이다.
+     */
+    public List<HolidayDto> mergeDuplicates(List<HolidayDto> holidays) {
+        if (holidays == null || holidays.size() < 2) {
+            return holidays;
+        }
+
+        Map<HolidayKey, HolidayDto> merged = new LinkedHashMap<>();
+        for (HolidayDto holiday : holidays) {
+            merged.merge(HolidayKey.of(holiday), holiday, HolidayDtoUtils::merge);
+        }
+
+        return merged.size() == holidays.size() ? holidays : List.copyOf(merged.values());
+    }
+
+    private HolidayDto merge(HolidayDto first, HolidayDto second) {
+        boolean nationwide = isEmpty(first.getCounties()) || isEmpty(second.getCounties());
+
+        return HolidayDto.builder()
+                .date(first.getDate())
+                .localName(first.getLocalName())
+                .name(first.getName())
+                .countryCode(first.getCountryCode())
+                .fixed(first.getFixed())
+                .global(Boolean.TRUE.equals(first.getGlobal()) || Boolean.TRUE.equals(second.getGlobal()))
+                .counties(nationwide ? null : union(first.getCounties(), second.getCounties()))
+                .launchYear(first.getLaunchYear())
+                .types(union(first.getTypes(), second.getTypes()))
+                .build();
+    }
+
+    private List<String> union(List<String> first, List<String> second) {
+        Set<String> values = new LinkedHashSet<>();
+        if (first != null) {
+            values.addAll(first);
+        }
+        if (second != null) {
+            values.addAll(second);
+        }
+        return values.isEmpty() ? null : List.copyOf(values);
+    }
+
+    private boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private record HolidayKey(String countryCode, LocalDate date, String name) {
+        static HolidayKey of(HolidayDto holiday) {
+            return new HolidayKey(holiday.getCountryCode(), holiday.getDate(), holiday.getName());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.planitsquare.assignment_jaehyuk.util;
+
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class HolidayHashUtils {
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+
+    /**
+     * 저장된 공휴일의 내용 해시 (id, 국가, 생성/수정 시간 제외)
+     */
+    public String contentHash(Holiday holiday) {
+        return sha256(canonicalContent(
+                holiday.getDate(),
+                holiday.getLocalName(),
+                holiday.getName(),
+                holiday.getFixed(),
+                holiday.getGlobal(),
+                holiday.getLaunchYear(),
+                holiday.getTypes(),
+                holiday.getCounties()
+        ));
+    }
+
+    /**
+     * 외부 API 공휴일의 내용 해시 - 같은 내용이면 contentHash(Holiday)와 동일한 값
+     */
+    public String contentHash(HolidayDto dto) {
+        return sha256(canonicalContent(
+                dto.getDate(),
+                dto.getLocalName(),
+                dto.getName(),
+                dto.getFixed(),
+                dto.getGlobal(),
+                dto.getLaunchYear(),
+                StringArrayUtils.joinFromList(dto.getTypes()),
+                StringArrayUtils.joinFromList(dto.getCounties())
+        ));
+    }
+
+    /**
+     * 국가/연도 단위 외부 API 응답 전체의 해시 - 응답 순서와 무관하게 같은 내용이면 같은 값
+     */
+    public String payloadHash(List<HolidayDto> holidays) {
+        return sha256(holidays.stream()
+                .map(HolidayHashUtils::canonicalContent)
+                .sorted()
+                .collect(Collectors.joining("\n")));
+    }
+
+    private String canonicalContent(HolidayDto dto) {
+        return dto.getCountryCode() + FIELD_SEPARATOR + canonicalContent(
+                dto.getDate(),
+                dto.getLocalName(),
+                dto.getName(),
+                dto.getFixed(),
+                dto.getGlobal(),
+                dto.getLaunchYear(),
+                StringArrayUtils.joinFromList(dto.getTypes()),
+                StringArrayUtils.joinFromList(dto.getCounties())
+        );
+    }
+
+    private String canonicalContent(LocalDate date, String localName, String name, Boolean fixed, Boolean global,
+                                    Integer launchYear, String types, String counties) {
+        // 벌크 저장 시 null Boolean은 false로 저장되므로 동일하게 취급
+        return new StringBuilder()
+                .append(date).append(FIELD_SEPARATOR)
+                .append(localName).append(FIELD_SEPARATOR)
+                .append(name).append(FIELD_SEPARATOR)
+                .append(Boolean.TRUE.equals(fixed)).append(FIELD_SEPARATOR)
+                .append(Boolean.TRUE.equals(global)).append(FIELD_SEPARATOR)
+                .append(launchYear).append(FIELD_SEPARATOR)
+                .append(types).append(FIELD_SEPARATOR)
+                .append(counties)
+                .toString();
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
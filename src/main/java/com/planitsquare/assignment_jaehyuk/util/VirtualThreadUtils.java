@@ -0,0 +1,58 @@
+package com.planitsquare.assignment_jaehyuk.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+@UtilityClass
+public class VirtualThreadUtils {
+
+    /**
+     * 항목마다 가상 스레드 하나로 작업을 실행하고 모두 끝날 때까지 기다린다 (동시 실행은 maxConcurrency 개)
+     * 호출한 범위 안에서 시작한 작업은 반환 전에 모두 종료되고, 하나가 실패하면 나머지를 취소한 뒤 예외를 다시 던진다.
+     * StructuredTaskScope는 Java 21에서 preview 이므로 같은 규칙을 ExecutorService 범위로 구현한다.
+     */
+    public <T, R> List<R> invokeAll(String threadNamePrefix, Collection<T> items, int maxConcurrency,
+                                    Function<T, R> task) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        ThreadFactory threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threadFactory)) {
+            for (T item : items) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return task.apply(item);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            try {
+                List<R> results = new ArrayList<>(futures.size());
+                for (Future<R> future : futures) {
+                    results.add(future.get());
+                }
+                return results;
+
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("가상 스레드 작업 실패", e.getCause());
+
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("가상 스레드 작업 대기 중 인터럽트", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+-- 기존 JPA(ddl-auto) 생성 스키마와 동일한 기준 스키마
+
+CREATE SEQUENCE holiday_seq START WITH 1 INCREMENT BY 100;
+CREATE SEQUENCE holiday_fingerprint_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE holiday (
+    id BIGINT NOT NULL,
+    country_code VARCHAR(2) NOT NULL,
+    country_name VARCHAR(255) NOT NULL,
+    date DATE NOT NULL,
+    local_name VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    is_fixed BOOLEAN,
+    is_global BOOLEAN,
+    launch_year INTEGER,
+    types TEXT,
+    counties TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE holiday_fingerprint (
+    id BIGINT NOT NULL,
+    country_code VARCHAR(2) NOT NULL,
+    holiday_year INTEGER NOT NULL,
+    payload_hash VARCHAR(64) NOT NULL,
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_holiday_fingerprint_country_year UNIQUE (country_code, holiday_year)
+);
+
+CREATE TABLE nager_http_validator (
+    uri VARCHAR(100) NOT NULL,
+    etag VARCHAR(255),
+    last_modified VARCHAR(64),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (uri)
+);
@@ -0,0 +1,9 @@
+-- 조회 패턴에 맞춘 holiday 인덱스
+
+-- 국가/날짜 조회 (existsByCountryCodeAndDate, findByCountryCodeAndDateBetween, deleteByCountryCodeAndYear)
+ALTER TABLE holiday ADD CONSTRAINT uk_holiday_country_date_name UNIQUE (country_code, date, name);
+
+-- 고급 검색 정렬 및 커서 조회 (정렬 컬럼, id)
+CREATE INDEX idx_holiday_date_id ON holiday (date, id);
+CREATE INDEX idx_holiday_country_name_id ON holiday (country_name, id);
+CREATE INDEX idx_holiday_name_id ON holiday (name, id);
@@ -0,0 +1,2 @@
+-- 현지명 포함 검색 (값 사전에서 찾은 값 목록 IN 조건)
+CREATE INDEX idx_holiday_local_name_id ON holiday (local_name, id);
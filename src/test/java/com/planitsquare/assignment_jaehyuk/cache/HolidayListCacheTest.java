@@ -0,0 +1,85 @@
+package com.planitsquare.assignment_jaehyuk.cache;
+
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HolidayListCache 테스트")
+class HolidayListCacheTest {
+
+    private final HolidayListCache cache = new HolidayListCache(1000, Duration.ofHours(1));
+
+    @Test
+    @DisplayName("✅ 페이지/크기/정렬이 다르면 별도 항목으로 저장")
+    void get_WithDifferentPageable_ShouldLoadSeparately() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get("KR", 2024, PageRequest.of(0, 10), () -> page(loads, PageRequest.of(0, 10)));
+        cache.get("KR", 2024, PageRequest.of(1, 10), () -> page(loads, PageRequest.of(1, 10)));
+        cache.get("KR", 2024, PageRequest.of(0, 10, Sort.by("name")), () -> page(loads, PageRequest.of(0, 10)));
+        cache.get("KR", 2024, PageRequest.of(0, 10), () -> page(loads, PageRequest.of(0, 10)));
+
+        // Then
+        assertEquals(3, loads.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    @DisplayName("🛠️ 조회 중 무효화된 결과는 다음 조회에서 다시 적재")
+    void get_WhenInvalidatedDuringLoad_ShouldReloadNextTime() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When: 적재 도중 변경 이벤트 발생
+        cache.get("KR", 2024, pageable, () -> {
+            cache.onHolidayChanged(HolidayChangedEvent.of("KR", 2024));
+            return page(loads, pageable);
+        });
+        cache.get("KR", 2024, pageable, () -> page(loads, pageable));
+        cache.get("KR", 2024, pageable, () -> page(loads, pageable));
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("📊 적중/실패 지표 등록")
+    void bindTo_ShouldExposeHitAndMissMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        AtomicInteger loads = new AtomicInteger();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        cache.get("KR", 2024, pageable, () -> page(loads, pageable));
+        cache.get("KR", 2024, pageable, () -> page(loads, pageable));
+
+        // Then
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", HolidayListCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", HolidayListCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    private Page<HolidayResponse> page(AtomicInteger loads, Pageable pageable) {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of(HolidayResponse.builder().id(1L).countryCode("KR").build()), pageable, 1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.planitsquare.assignment_jaehyuk.calendar;
+
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayCalendarRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BusinessDayMask 비트 연산 테스트")
+class BusinessDayMaskTest {
+
+    @Test
+    @DisplayName("✅ 구간 영업일 수와 n번째 영업일이 하루씩 세는 결과와 같음 (윤년/평년, 여러 주말 설정)")
+    void bitOperations_ShouldMatchDayByDayCounting() {
+        // Given
+        Random random = new Random(42);
+        for (int year : new int[]{2023, 2024}) {
+            for (WeekendMask weekend : List.of(WeekendMask.SATURDAY_SUNDAY,
+                    WeekendMask.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), WeekendMask.parse("NONE"))) {
+
+                BusinessDayMask mask = HolidayYearBitmap.of(year, randomHolidays(year, random))
+                        .businessDays(null, weekend);
+                boolean[] open = new boolean[mask.length()];
+                for (int day = 0; day < mask.length(); day++) {
+                    open[day] = mask.isBusinessDay(day);
+                }
+
+                for (int i = 0; i < 200; i++) {
+                    int from = random.nextInt(mask.length());
+                    int to = random.nextInt(mask.length());
+                    int n = 1 + random.nextInt(300);
+
+                    // When & Then
+                    assertEquals(naiveCount(open, from, to), mask.countBusinessDays(from, to));
+                    assertEquals(naiveNthAfter(open, from, n), mask.nthBusinessDayAfter(from, n));
+                    assertEquals(naiveNthBefore(open, from, n), mask.nthBusinessDayBefore(from, n));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("🛠️ 연도 밖 비트는 영업일로 세지 않음")
+    void countBusinessDays_ShouldIgnoreBitsAfterYearEnd() {
+        // Given: 주말 없음, 공휴일 1일
+        BusinessDayMask mask = HolidayYearBitmap.of(2023, List.of(
+                new HolidayCalendarRow(LocalDate.of(2023, 1, 1), true, "Public", null)
+        )).businessDays(null, WeekendMask.parse("NONE"));
+
+        // When & Then
+        assertEquals(364, mask.countBusinessDays(0, 400));
+        assertEquals(-1, mask.nthBusinessDayAfter(363, 2));
+        assertEquals(LocalDate.of(2023, 1, 2), mask.date(mask.nthBusinessDayBefore(mask.length(), 364)));
+    }
+
+    private static List<HolidayCalendarRow> randomHolidays(int year, Random random) {
+        List<HolidayCalendarRow> rows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rows.add(new HolidayCalendarRow(LocalDate.ofYearDay(year, 1 + random.nextInt(365)), true, "Public", null));
+        }
+        return rows;
+    }
+
+    private static int naiveCount(boolean[] open, int from, int to) {
+        int count = 0;
+        for (int day = from; day <= to; day++) {
+            count += open[day] ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static int naiveNthAfter(boolean[] open, int from, int n) {
+        for (int day = from + 1; day < open.length; day++) {
+            if (open[day] && --n == 0) {
+                return day;
+            }
+        }
+        return -1;
+    }
+
+    private static int naiveNthBefore(boolean[] open, int from, int n) {
+        for (int day = from - 1; day >= 0; day--) {
+            if (open[day] && --n == 0) {
+                return day;
+            }
+        }
+        return -1;
+    }
+}
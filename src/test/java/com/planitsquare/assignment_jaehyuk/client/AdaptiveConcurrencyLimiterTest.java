@@ -0,0 +1,127 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.planitsquare.assignment_jaehyuk.client.AdaptiveConcurrencyLimiter.Outcome;
+import com.planitsquare.assignment_jaehyuk.client.AdaptiveConcurrencyLimiter.Permit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("⏳ 한도가 가득 차면 허가가 반환될 때까지 대기")
+    void acquire_WhenFull_ShouldWaitForRelease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+        Permit first = limiter.acquire().block();
+        limiter.acquire().block();
+
+        AtomicReference<Permit> third = new AtomicReference<>();
+        limiter.acquire().subscribe(third::set);
+        assertNull(third.get());
+
+        // When
+        first.release(Outcome.IGNORE);
+
+        // Then
+        assertNotNull(third.get());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("📈 성공할 때마다 1/limit 씩 증가 - 한도만큼 성공하면 약 1 증가")
+    void release_Success_ShouldIncreaseAdditively() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            acquire(limiter, 1).get(0).release(Outcome.SUCCESS);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        acquire(limiter, 1).get(0).release(Outcome.SUCCESS);
+        assertEquals(5, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("📉 같은 한도에서 시작한 요청이 한꺼번에 과부하여도 한 번만 감소")
+    void release_Overload_ShouldDecreaseOncePerGeneration() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5);
+
+        List<Permit> permits = acquire(limiter, 8);
+        permits.forEach(permit -> permit.release(Outcome.OVERLOAD));
+        assertEquals(4, limiter.getLimit());
+
+        // 감소 이후 시작한 요청의 과부하는 다시 반영
+        acquire(limiter, 1).get(0).release(Outcome.OVERLOAD);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("🛑 한도는 최소값 아래로 내려가지 않음")
+    void release_Overload_ShouldNotGoBelowMinLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+
+        for (int i = 0; i < 5; i++) {
+            acquire(limiter, 1).get(0).release(Outcome.OVERLOAD);
+        }
+
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("🚫 대기 중 취소된 요청은 허가를 받지 않음")
+    void acquire_CancelledWhileWaiting_ShouldNotHoldPermit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5);
+        Permit first = limiter.acquire().block();
+
+        AtomicReference<Permit> cancelled = new AtomicReference<>();
+        Disposable subscription = limiter.acquire().subscribe(cancelled::set);
+        subscription.dispose();
+
+        // When
+        first.release(Outcome.IGNORE);
+
+        // Then
+        assertNull(cancelled.get());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("🔁 허가를 여러 번 반환해도 한 번만 반영")
+    void release_Twice_ShouldBeIdempotent() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+        Permit permit = limiter.acquire().block();
+
+        permit.release(Outcome.SUCCESS);
+        permit.release(Outcome.SUCCESS);
+
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("🧱 대기열이 가득 차면 기다리지 않고 거절")
+    void acquire_WhenWaitersFull_ShouldReject() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5, 1);
+        limiter.acquire().block();
+        limiter.acquire().subscribe();
+
+        assertEquals(1, limiter.getWaiting());
+        assertThrows(RejectedExecutionException.class, () -> limiter.acquire().block());
+    }
+
+    private List<Permit> acquire(AdaptiveConcurrencyLimiter limiter, int count) {
+        List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire().block());
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,102 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.planitsquare.assignment_jaehyuk.client.CircuitBreaker.State;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, Duration.ofSeconds(10), 2, clock::get);
+
+    @Test
+    @DisplayName("✅ 최소 요청 수 전에는 실패해도 닫힌 상태 유지")
+    void failures_BelowMinimumCalls_ShouldStayClosed() {
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onFailure();
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("🚫 실패율이 기준 이상이면 열리고 요청을 바로 거절")
+    void failureRate_AtThreshold_ShouldOpenAndReject() {
+        breaker.tryAcquire().onSuccess();
+        breaker.tryAcquire().onSuccess();
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onFailure();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("🔄 오픈 시간이 지나면 시험 요청만 허용하고 모두 성공하면 닫힘")
+    void halfOpen_TrialSuccesses_ShouldClose() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        CircuitBreaker.Permission first = breaker.tryAcquire();
+        CircuitBreaker.Permission second = breaker.tryAcquire();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+
+        first.onSuccess();
+        second.onSuccess();
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("❌ 시험 요청이 실패하면 다시 열림")
+    void halfOpen_TrialFailure_ShouldReopen() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        breaker.tryAcquire().onFailure();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("↩️ 결과 없이 끝난 시험 요청은 다른 요청이 다시 시험")
+    void halfOpen_Released_ShouldReturnTrialPermit() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.tryAcquire();
+        CircuitBreaker.Permission cancelled = breaker.tryAcquire();
+
+        cancelled.release();
+
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("🕰️ 상태가 바뀌기 전에 시작한 요청의 결과는 무시")
+    void staleOutcome_ShouldBeIgnored() {
+        CircuitBreaker.Permission stale = breaker.tryAcquire();
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.tryAcquire();
+
+        stale.onFailure();
+
+        assertEquals(State.HALF_OPEN, breaker.getState());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire().onFailure();
+        }
+        assertEquals(State.OPEN, breaker.getState());
+    }
+}
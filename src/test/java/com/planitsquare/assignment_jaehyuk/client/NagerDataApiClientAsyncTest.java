@@ -0,0 +1,231 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.planitsquare.assignment_jaehyuk.dto.external.CountryDto;
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.entity.NagerHttpValidator;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.repository.NagerHttpValidatorRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("NagerDataApiClientAsync 조건부 요청 테스트")
+class NagerDataApiClientAsyncTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final Duration SLOW_RESPONSE = Duration.ofMillis(200);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final List<String> receivedIfNoneMatch = new CopyOnWriteArrayList<>();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NagerDataApiClientAsync client;
+    private NagerValidatorStore validatorStore;
+    private NagerHttpValidatorRepository validatorRepository;
+    private NagerRetryPolicy retryPolicy;
+    private NagerFetchMetrics fetchMetrics;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/PublicHolidays/2024/KR", exchange -> respond(exchange,
+                "[{\"date\":\"2024-01-01\",\"localName\":\"신정\",\"name\":\"New Year's Day\",\"countryCode\":\"KR\"}]"));
+        server.createContext("/AvailableCountries", exchange -> respond(exchange,
+                "[{\"countryCode\":\"KR\",\"name\":\"South Korea\"}]"));
+        server.createContext("/PublicHolidays/2024/SLOW", exchange -> {
+            sleep(SLOW_RESPONSE);
+            respond(exchange, "[{\"date\":\"2024-01-01\",\"localName\":\"New Year\",\"name\":\"New Year's Day\",\"countryCode\":\"SLOW\"}]");
+        });
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        validatorRepository = mock(NagerHttpValidatorRepository.class);
+        when(validatorRepository.findAll()).thenReturn(List.of());
+        when(validatorRepository.save(any(NagerHttpValidator.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .build();
+
+        validatorStore = new NagerValidatorStore(validatorRepository);
+        retryPolicy = new NagerRetryPolicy(0, Duration.ofSeconds(1), Duration.ofSeconds(10),
+                Duration.ofSeconds(30), 0.2, 20);
+        fetchMetrics = new NagerFetchMetrics();
+        fetchMetrics.bindTo(meterRegistry);
+        client = new NagerDataApiClientAsync(webClient, validatorStore, retryPolicy, fetchMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("🛠️ 무조건 조회는 저장된 ETag가 있어도 조건부 헤더를 보내지 않음")
+    void getPublicHolidays_ShouldNotSendValidator() {
+        // Given
+        client.getPublicHolidays("KR", 2024).block();
+
+        // When
+        List<HolidayDto> holidays = client.getPublicHolidays("KR", 2024).block();
+
+        // Then
+        assertNotNull(holidays);
+        assertEquals(1, holidays.size());
+        assertEquals(List.of("", ""), receivedIfNoneMatch);
+    }
+
+    @Test
+    @DisplayName("💾 일괄 적재용 공휴일 조회는 검증자를 DB에 저장하지 않음")
+    void getPublicHolidays_ShouldNotPersistValidator() {
+        // When
+        client.getPublicHolidays("KR", 2024).block();
+
+        // Then: 국가/연도마다 DB 쓰기가 생기지 않아야 함
+        verify(validatorRepository, never()).save(any(NagerHttpValidator.class));
+    }
+
+    @Test
+    @DisplayName("✅ 국가 목록 304 응답 시 이전 목록 반환")
+    void getAvailableCountries_WithNotModified_ShouldReturnCachedList() {
+        // Given
+        List<CountryDto> first = client.getAvailableCountries().block();
+
+        // When
+        List<CountryDto> second = client.getAvailableCountries().block();
+
+        // Then
+        assertNotNull(second);
+        assertEquals(first, second);
+        assertEquals("KR", second.get(0).getCountryCode());
+        assertEquals(List.of("", ETAG), receivedIfNoneMatch);
+    }
+
+    @Test
+    @DisplayName("📊 공휴일 조회 시간을 국가/연도 태그로 기록")
+    void getPublicHolidays_ShouldRecordFetchTimer() {
+        // When
+        client.getPublicHolidays("KR", 2024).block();
+        client.getAvailableCountries().block();
+
+        // Then
+        Timer holidays = meterRegistry.find(NagerFetchMetrics.FETCH_TIMER)
+                .tags("operation", "holidays", "country", "KR", "year", "2024", "outcome", "success")
+                .timer();
+        Timer countries = meterRegistry.find(NagerFetchMetrics.FETCH_TIMER)
+                .tags("operation", "countries", "outcome", "success")
+                .timer();
+        assertNotNull(holidays);
+        assertEquals(1, holidays.count());
+        assertNotNull(countries);
+        assertEquals(1, countries.count());
+    }
+
+    @Test
+    @DisplayName("⏱️ 동시 요청 한도보다 많이 호출해도 허가 대기 시간은 타임아웃에 포함되지 않아 누락 없음")
+    void getPublicHolidays_WithMoreCallsThanLimit_ShouldNotDropAny() {
+        // Given: 동시 요청 2개, 요청 타임아웃 500ms, 응답 200ms - 대기까지 타임아웃에 포함되면 뒤쪽 요청은 실패
+        NagerThrottlingFilter throttlingFilter = new NagerThrottlingFilter(100, 100, 2, 1, 2, 0.5,
+                500, Duration.ofSeconds(30), 20, 10, 50, Duration.ofSeconds(30), 3, Duration.ofMillis(500));
+        WebClient throttledWebClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .filter(throttlingFilter)
+                .build();
+        NagerDataApiClientAsync throttledClient = new NagerDataApiClientAsync(throttledWebClient, validatorStore,
+                retryPolicy, fetchMetrics);
+        int calls = 20;
+
+        // When
+        List<List<HolidayDto>> results = Flux.range(0, calls)
+                .flatMap(i -> throttledClient.getPublicHolidays("SLOW", 2024), calls)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // Then
+        assertNotNull(results);
+        assertEquals(calls, results.size());
+        assertTrue(results.stream().allMatch(holidays -> holidays.size() == 1));
+        assertEquals(0, throttlingFilter.getInFlightRequests());
+    }
+
+    @Test
+    @DisplayName("🚫 허가 대기가 max-wait 을 넘으면 대기열 초과(50304)로 실패")
+    void getPublicHolidays_WhenPermitWaitExceedsMaxWait_ShouldRejectWithBulkheadFull() {
+        // Given: 동시 요청 1개, 허가 대기 50ms, 요청 타임아웃 3s - 두 번째 요청은 응답(200ms)보다 먼저 대기 한도에 걸림
+        NagerThrottlingFilter throttlingFilter = new NagerThrottlingFilter(100, 100, 1, 1, 1, 0.5,
+                500, Duration.ofMillis(50), 20, 10, 50, Duration.ofSeconds(30), 3, Duration.ofSeconds(3));
+        WebClient throttledWebClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .filter(throttlingFilter)
+                .build();
+        NagerDataApiClientAsync throttledClient = new NagerDataApiClientAsync(throttledWebClient, validatorStore,
+                retryPolicy, fetchMetrics);
+
+        // When
+        List<Object> results = Flux.range(0, 2)
+                .flatMap(i -> throttledClient.getPublicHolidays("SLOW", 2024)
+                        .<Object>map(holidays -> holidays)
+                        .onErrorResume(BusinessException.class, e -> Mono.just(e.getErrorCode())), 2)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Then
+        assertNotNull(results);
+        assertEquals(2, results.size());
+        assertTrue(results.contains(ErrorCode.EXTERNAL_API_BULKHEAD_FULL));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        receivedIfNoneMatch.add(ifNoneMatch != null ? ifNoneMatch : "");
+
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
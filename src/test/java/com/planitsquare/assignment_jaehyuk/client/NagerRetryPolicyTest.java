@@ -0,0 +1,119 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.ExternalApiRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NagerRetryPolicy 테스트")
+class NagerRetryPolicyTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("🎲 full jitter - 0 ~ min(maxDelay, delay * 2^n) 사이에서 대기")
+    void retryDelay_ShouldUseExponentialBackoffWithFullJitter() {
+        NagerRetryPolicy policy = policy(5, 100, () -> 0.5);
+
+        assertEquals(Optional.of(Duration.ofMillis(500)), policy.retryDelay(status(503, null), 0));
+        assertEquals(Optional.of(Duration.ofMillis(1000)), policy.retryDelay(status(503, null), 1));
+        assertEquals(Optional.of(Duration.ofMillis(2000)), policy.retryDelay(status(503, null), 2));
+        // 상한 5s의 절반
+        assertEquals(Optional.of(Duration.ofMillis(2500)), policy.retryDelay(new TimeoutException(), 4));
+    }
+
+    @Test
+    @DisplayName("🚫 4xx(408/429 제외), 501, 거절된 호출은 재시도하지 않음")
+    void retryDelay_NonRetryable_ShouldNotRetry() {
+        NagerRetryPolicy policy = policy(5, 100, () -> 0.5);
+
+        assertTrue(policy.retryDelay(status(400, null), 0).isEmpty());
+        assertTrue(policy.retryDelay(status(404, null), 0).isEmpty());
+        assertTrue(policy.retryDelay(status(501, null), 0).isEmpty());
+        assertTrue(policy.retryDelay(new ExternalApiRejectedException(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN), 0).isEmpty());
+        assertTrue(policy.retryDelay(new IllegalStateException(), 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("⏰ 429/503의 Retry-After(초, HTTP 날짜)를 따르고 최대 대기보다 길면 재시도하지 않음")
+    void retryDelay_RetryAfter_ShouldBeHonored() {
+        NagerRetryPolicy policy = policy(5, 100, () -> 0.5);
+
+        assertEquals(Optional.of(Duration.ofSeconds(7)), policy.retryDelay(status(429, "7"), 0));
+        assertEquals(Optional.of(Duration.ofSeconds(12)),
+                policy.retryDelay(status(503, "Wed, 01 Jan 2025 00:00:12 GMT"), 0));
+        assertTrue(policy.retryDelay(status(429, "31"), 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("💸 재시도 예산을 다 쓰면 재시도하지 않고, 호출이 쌓여야 다시 재시도")
+    void retryDelay_BudgetExhausted_ShouldNotRetry() {
+        NagerRetryPolicy policy = policy(5, 2, () -> 0.5);
+
+        assertTrue(policy.retryDelay(status(503, null), 0).isPresent());
+        assertTrue(policy.retryDelay(status(503, null), 0).isPresent());
+        assertTrue(policy.retryDelay(status(503, null), 0).isEmpty());
+
+        // 호출 2번(0.5 * 2)이 재시도 1번 예산
+        policy.apply(Mono.just(1)).block();
+        policy.apply(Mono.just(1)).block();
+        assertTrue(policy.retryDelay(status(503, null), 0).isPresent());
+    }
+
+    @Test
+    @DisplayName("🔁 재시도 횟수를 다 쓰면 래핑하지 않은 마지막 예외를 그대로 전달")
+    void apply_ExhaustedRetries_ShouldPropagateLastFailure() {
+        NagerRetryPolicy policy = policy(2, 100, () -> 0.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        WebClientResponseException e = assertThrows(WebClientResponseException.class, () ->
+                policy.apply(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(status(502, null));
+                })).block());
+
+        assertEquals(502, e.getStatusCode().value());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("✅ 일시적 실패 후 성공하면 결과 반환")
+    void apply_TransientFailure_ShouldRecover() {
+        NagerRetryPolicy policy = policy(2, 100, () -> 0.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.apply(Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.<String>error(status(429, "0"))
+                : Mono.just("ok"))).block();
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    private NagerRetryPolicy policy(int maxAttempts, double budgetMaxTokens, DoubleSupplier random) {
+        return new NagerRetryPolicy(maxAttempts, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30),
+                0.5, budgetMaxTokens, random, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private WebClientResponseException status(int status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(status, "status " + status, headers, new byte[0], null);
+    }
+}
@@ -0,0 +1,158 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import com.planitsquare.assignment_jaehyuk.client.CircuitBreaker.State;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NagerThrottlingFilter 테스트")
+class NagerThrottlingFilterTest {
+
+    private static final Duration SLOW_RESPONSE = Duration.ofMillis(300);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/slow", exchange -> {
+            sleep(SLOW_RESPONSE);
+            respond(exchange, 200, "[]");
+        });
+        server.createContext("/unavailable", exchange -> respond(exchange, 503, "{}"));
+        server.createContext("/slow-body", exchange -> {
+            // 헤더는 바로 보내고 본문은 늦게 보냄
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write('[');
+                out.flush();
+                sleep(SLOW_RESPONSE);
+                out.write(']');
+            } catch (IOException e) {
+                exchange.close();
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("🛑 호출한 쪽이 취소한 요청은 서킷 실패나 동시 요청 한도 감소로 기록하지 않음")
+    void filter_WhenCallerCancels_ShouldNotCountAsFailure() {
+        // Given: 최근 4건 중 2건 이상 실패하면 열리는 서킷
+        NagerThrottlingFilter filter = filter(4, Duration.ofSeconds(3));
+        WebClient webClient = webClient(filter);
+
+        // When: 응답(300ms) 전에 호출한 쪽이 포기
+        for (int i = 0; i < 4; i++) {
+            Mono<String> call = webClient.get().uri("/slow").retrieve().bodyToMono(String.class);
+            assertThrows(RuntimeException.class, () -> call.timeout(Duration.ofMillis(50)).block());
+        }
+
+        // Then
+        assertEquals(State.CLOSED, filter.getCircuitState());
+        assertEquals(4, filter.getConcurrencyLimit());
+        assertEquals(0, filter.getInFlightRequests());
+    }
+
+    @Test
+    @DisplayName("🚨 요청 타임아웃과 5xx는 서킷 실패로 기록")
+    void filter_OnTimeoutOr5xx_ShouldCountAsFailure() {
+        // Given
+        NagerThrottlingFilter timeoutFilter = filter(4, Duration.ofMillis(50));
+        NagerThrottlingFilter unavailableFilter = filter(4, Duration.ofSeconds(3));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThrows(RuntimeException.class, () -> webClient(timeoutFilter).get().uri("/slow")
+                    .retrieve().bodyToMono(String.class).block());
+            assertThrows(RuntimeException.class, () -> webClient(unavailableFilter).get().uri("/unavailable")
+                    .retrieve().bodyToMono(String.class).block());
+        }
+
+        // Then
+        assertEquals(State.OPEN, timeoutFilter.getCircuitState());
+        assertEquals(State.OPEN, unavailableFilter.getCircuitState());
+        assertTrue(unavailableFilter.getConcurrencyLimit() < 4);
+    }
+
+    @Test
+    @DisplayName("⏳ 동시 요청 허가는 응답 헤더가 아니라 본문을 다 받은 뒤 반환")
+    void filter_ShouldHoldPermitUntilBodyCompletes() {
+        // Given: 동시 요청 1개, 본문 수신에 300ms (연결은 미리 맺어 둠)
+        NagerThrottlingFilter filter = filter(1, Duration.ofSeconds(3));
+        WebClient webClient = webClient(filter);
+        webClient.get().uri("/slow-body").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+
+        // When: 두 요청을 동시에 시작
+        long startedAt = System.nanoTime();
+        Mono.zip(
+                webClient.get().uri("/slow-body").retrieve().bodyToMono(String.class),
+                webClient.get().uri("/slow-body").retrieve().bodyToMono(String.class)
+        ).block(Duration.ofSeconds(5));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then: 헤더를 받을 때 허가를 반환하면 두 본문을 동시에 받아 약 300ms에 끝난다
+        assertTrue(elapsed.compareTo(SLOW_RESPONSE.multipliedBy(2).minusMillis(50)) >= 0, "elapsed=" + elapsed);
+        assertEquals(0, filter.getInFlightRequests());
+        assertEquals(State.CLOSED, filter.getCircuitState());
+    }
+
+    private NagerThrottlingFilter filter(int concurrencyLimit, Duration timeout) {
+        return new NagerThrottlingFilter(100, 100, concurrencyLimit, 1, concurrencyLimit, 0.5,
+                500, Duration.ofSeconds(30), 4, 2, 50, Duration.ofSeconds(30), 1, timeout);
+    }
+
+    private WebClient webClient(NagerThrottlingFilter filter) {
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .filter(filter)
+                .build();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 호출한 쪽이 먼저 연결을 끊은 경우
+            exchange.close();
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
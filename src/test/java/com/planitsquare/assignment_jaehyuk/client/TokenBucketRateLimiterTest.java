@@ -0,0 +1,51 @@
+package com.planitsquare.assignment_jaehyuk.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("✅ 버킷이 가득 차 있으면 burst 개까지 대기 없이 허용")
+    void reserve_WithinBurst_ShouldNotWait() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, clock::get);
+
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ZERO, limiter.reserve());
+    }
+
+    @Test
+    @DisplayName("⏳ 토큰이 없으면 다음 토큰 시각까지 순서대로 대기")
+    void reserve_WhenEmpty_ShouldWaitForNextToken() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, clock::get);
+
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ofMillis(100), limiter.reserve());
+        assertEquals(Duration.ofMillis(200), limiter.reserve());
+    }
+
+    @Test
+    @DisplayName("🔄 시간이 지나면 토큰이 다시 쌓이지만 burst 개를 넘지 않음")
+    void reserve_AfterIdle_ShouldRefillUpToBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        // When: 10초 동안 요청 없음
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Then: 2개만 즉시 허용
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ofMillis(100), limiter.reserve());
+    }
+}
@@ -0,0 +1,114 @@
+package com.planitsquare.assignment_jaehyuk.config;
+
+import com.planitsquare.assignment_jaehyuk.client.NagerThrottlingFilter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebClientConfig Nager HttpClient 테스트")
+class WebClientConfigTest {
+
+    private static final String BODY = "[{\"countryCode\":\"KR\",\"name\":\"South Korea\"}]";
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    private final List<String> receivedAcceptEncodings = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/AvailableCountries", this::respondGzip);
+        server.createContext("/slow", exchange -> {
+            sleep(Duration.ofSeconds(2));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        WebClientConfig config = new WebClientConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(config, "maxInMemorySize", 1024 * 1024);
+        ReflectionTestUtils.setField(config, "maxConnections", 4);
+        ReflectionTestUtils.setField(config, "pendingAcquireTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(config, "maxIdleTime", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "maxLifeTime", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(config, "responseTimeout", Duration.ofMillis(300));
+        ReflectionTestUtils.setField(config, "http2", true);
+        ReflectionTestUtils.setField(config, "compression", true);
+
+        connectionProvider = config.nagerConnectionProvider();
+        webClient = config.nagerDateWebClient(new NagerThrottlingFilter(100, 100, 10, 1, 64, 0.5,
+                500, Duration.ofSeconds(30), 20, 10, 50, Duration.ofSeconds(30), 3, Duration.ofSeconds(3)),
+                connectionProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("✅ gzip을 요청하고 압축된 응답을 풀어서 전달 (평문 HTTP는 HTTP/1.1로 동작)")
+    void request_ShouldAcceptAndDecodeGzip() {
+        String body = webClient.get().uri("/AvailableCountries").retrieve().bodyToMono(String.class).block();
+
+        assertEquals(BODY, body);
+        assertEquals(1, receivedAcceptEncodings.size());
+        assertTrue(receivedAcceptEncodings.get(0).contains("gzip"));
+    }
+
+    @Test
+    @DisplayName("⏱️ 응답 타임아웃은 Netty 수준에서 적용")
+    void request_SlowResponse_ShouldTimeOut() {
+        WebClientRequestException e = assertThrows(WebClientRequestException.class, () ->
+                webClient.get().uri("/slow").retrieve().toBodilessEntity().block());
+
+        assertEquals("ReadTimeoutException", e.getCause().getClass().getSimpleName());
+    }
+
+    private void respondGzip(HttpExchange exchange) throws IOException {
+        receivedAcceptEncodings.add(String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding")));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        exchange.sendResponseHeaders(200, compressed.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            compressed.writeTo(out);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.planitsquare.assignment_jaehyuk.initializer;
+
+import com.planitsquare.assignment_jaehyuk.client.NagerDataApiClientAsync;
+import com.planitsquare.assignment_jaehyuk.dto.external.CountryDto;
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.service.HolidayService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayDataInitializerAsync 테스트")
+class HolidayDataInitializerAsyncTest {
+
+    @Mock
+    private NagerDataApiClientAsync nagerDateApiClient;
+
+    @Mock
+    private HolidayService holidayService;
+
+    @InjectMocks
+    private HolidayDataInitializerAsync initializer;
+
+    @Captor
+    private ArgumentCaptor<List<HolidayDto>> chunkCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(initializer, "startYear", 2023);
+        ReflectionTestUtils.setField(initializer, "endYear", 2024);
+        ReflectionTestUtils.setField(initializer, "maxConcurrentRequests", 64);
+        ReflectionTestUtils.setField(initializer, "streamingEnabled", true);
+        ReflectionTestUtils.setField(initializer, "chunkSize", 4);
+        ReflectionTestUtils.setField(initializer, "bufferChunks", 2);
+    }
+
+    @Test
+    @DisplayName("✅ 스트리밍 모드는 고정 크기 청크 단위로 저장")
+    void run_Streaming_SavesInFixedSizeChunks() {
+        // Given: 3개국 × 2년 × 3개 = 18개 공휴일
+        when(nagerDateApiClient.getAvailableCountries())
+                .thenReturn(Mono.just(List.of(
+                        createCountryDto("KR", "대한민국"),
+                        createCountryDto("US", "미국"),
+                        createCountryDto("JP", "일본")
+                )));
+        when(nagerDateApiClient.getPublicHolidays(anyString(), anyInt()))
+                .thenAnswer(invocation -> Mono.just(createHolidays(invocation.getArgument(0), invocation.getArgument(1), 3)));
+        when(holidayService.saveAllHolidaysBulk(anyList(), anyMap()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        initializer.run(null);
+
+        // Then: 4개씩 4번 + 마지막 2개 = 5번 저장
+        verify(holidayService, times(5)).saveAllHolidaysBulk(chunkCaptor.capture(), anyMap());
+
+        List<List<HolidayDto>> chunks = chunkCaptor.getAllValues();
+        assertTrue(chunks.stream().allMatch(chunk -> chunk.size() <= 4));
+        assertEquals(18, chunks.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    @DisplayName("📭 수집된 공휴일이 없으면 저장하지 않음")
+    void run_Streaming_WithNoHolidays_ShouldNotSave() {
+        // Given
+        when(nagerDateApiClient.getAvailableCountries())
+                .thenReturn(Mono.just(List.of(createCountryDto("KR", "대한민국"))));
+        when(nagerDateApiClient.getPublicHolidays(anyString(), anyInt()))
+                .thenReturn(Mono.just(List.of()));
+
+        // When
+        initializer.run(null);
+
+        // Then
+        verify(holidayService, never()).saveAllHolidaysBulk(anyList(), anyMap());
+    }
+
+    @Test
+    @DisplayName("🛠️ 스트리밍 비활성화 시 전체 수집 후 한 번에 저장")
+    void run_WithoutStreaming_SavesOnce() {
+        // Given
+        ReflectionTestUtils.setField(initializer, "streamingEnabled", false);
+        when(nagerDateApiClient.getAvailableCountries())
+                .thenReturn(Mono.just(List.of(createCountryDto("KR", "대한민국"))));
+        when(nagerDateApiClient.getPublicHolidays(anyString(), anyInt()))
+                .thenAnswer(invocation -> Mono.just(createHolidays(invocation.getArgument(0), invocation.getArgument(1), 5)));
+        when(holidayService.saveAllHolidaysBulk(anyList(), anyMap()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        initializer.run(null);
+
+        // Then
+        verify(holidayService, times(1)).saveAllHolidaysBulk(argThat(list -> list.size() == 10), anyMap());
+    }
+
+    @Test
+    @DisplayName("📊 청크 처리량 통계 - 저장한 청크/행 수와 청크당 평균 저장 시간")
+    void ingestStats_ShouldAggregateChunkThroughput() {
+        // Given
+        HolidayDataInitializerAsync.IngestStats stats = new HolidayDataInitializerAsync.IngestStats();
+
+        // When
+        stats.onChunkSaved(4, TimeUnit.MILLISECONDS.toNanos(10));
+        stats.onChunkSaved(2, TimeUnit.MILLISECONDS.toNanos(30));
+
+        // Then
+        assertEquals(2, stats.getChunkCount());
+        assertEquals(6, stats.getRowCount());
+        assertEquals(20.0, stats.getAverageChunkWriteMillis(), 0.001);
+    }
+
+    @Test
+    @DisplayName("🚨 저장에 실패한 청크는 처리량과 평균 저장 시간에서 빼고 따로 센다")
+    void ingestStats_ShouldCountFailedChunksSeparately() {
+        // Given
+        HolidayDataInitializerAsync.IngestStats stats = new HolidayDataInitializerAsync.IngestStats();
+
+        // When
+        stats.onChunkSaved(4, TimeUnit.MILLISECONDS.toNanos(10));
+        stats.onChunkFailed(4);
+
+        // Then
+        assertEquals(1, stats.getChunkCount());
+        assertEquals(4, stats.getRowCount());
+        assertEquals(10.0, stats.getAverageChunkWriteMillis(), 0.001);
+        assertEquals(1, stats.getFailedChunkCount());
+        assertEquals(4, stats.getFailedRowCount());
+    }
+
+    @Test
+    @DisplayName("⏳ 저장이 느리면 저장 요청이 없는 동안을 백프레셔 대기로 기록")
+    void ingestStats_WithSlowWriter_ShouldRecordStallTime() {
+        // Given: 청크 5개를 버퍼 2개로 받아 청크마다 50ms씩 저장
+        HolidayDataInitializerAsync.IngestStats stats = new HolidayDataInitializerAsync.IngestStats();
+
+        // When
+        Flux.range(0, 5)
+                .map(List::of)
+                .transform(stats::trackDemand)
+                .concatMap(chunk -> Mono.delay(Duration.ofMillis(50)).thenReturn(chunk), 2)
+                .blockLast(Duration.ofSeconds(5));
+
+        // Then: 수집은 즉시 끝나므로 거의 모든 저장 시간 동안 수집이 멈춰 있다
+        assertTrue(stats.getStallCount() > 0);
+        assertTrue(stats.getStallMillis() >= 100, "stallMillis=" + stats.getStallMillis());
+    }
+
+    @Test
+    @DisplayName("🏃 수집이 느리고 저장이 빠르면 백프레셔 대기 시간이 거의 없음")
+    void ingestStats_WithSlowProducer_ShouldRecordLittleStallTime() {
+        // Given: 청크가 50ms마다 도착하고 저장은 즉시 끝남
+        HolidayDataInitializerAsync.IngestStats stats = new HolidayDataInitializerAsync.IngestStats();
+
+        // When
+        Flux.range(0, 5)
+                .delayElements(Duration.ofMillis(50))
+                .map(List::of)
+                .transform(stats::trackDemand)
+                .concatMap(Mono::just, 2)
+                .blockLast(Duration.ofSeconds(5));
+
+        // Then: 수집 시간(약 250ms)은 백프레셔 대기로 세지 않는다
+        assertTrue(stats.getStallMillis() < 50, "stallMillis=" + stats.getStallMillis());
+    }
+
+    private CountryDto createCountryDto(String countryCode, String name) {
+        return CountryDto.builder()
+                .countryCode(countryCode)
+                .name(name)
+                .build();
+    }
+
+    private List<HolidayDto> createHolidays(String countryCode, int year, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> HolidayDto.builder()
+                        .countryCode(countryCode)
+                        .date(LocalDate.of(year, 1, 1).plusDays(i))
+                        .name("Holiday " + i)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,119 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.config.QueryDslConfig;
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository.UpsertResult;
+import com.planitsquare.assignment_jaehyuk.search.HolidayTextIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({HolidayBulkRepository.class, QueryDslConfig.class, HolidayRowRepository.class, HolidayTextIndex.class})
+@DisplayName("HolidayBulkRepository UPSERT 테스트")
+class HolidayBulkRepositoryTest {
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("✅ 같은 데이터를 다시 저장하면 추가/수정 없이 변경 없음으로 집계")
+    void bulkUpsert_SameDataTwice_ShouldBeIdempotent() {
+        List<Holiday> holidays = List.of(
+                holiday(LocalDate.of(2024, 1, 1), "New Year's Day", "Public"),
+                holiday(LocalDate.of(2024, 3, 1), "Independence Movement Day", "Public"));
+
+        UpsertResult first = holidayBulkRepository.bulkUpsert(holidays);
+        UpsertResult second = holidayBulkRepository.bulkUpsert(holidays);
+
+        assertEquals(new UpsertResult(2, 0, 0), first);
+        assertEquals(new UpsertResult(0, 0, 2), second);
+        assertEquals(2, countHolidays());
+    }
+
+    @Test
+    @DisplayName("🔄 키가 같고 내용이 다르면 기존 행(id 유지)을 수정")
+    void bulkUpsert_ChangedContent_ShouldUpdateExistingRow() {
+        holidayBulkRepository.bulkUpsert(List.of(holiday(LocalDate.of(2024, 1, 1), "New Year's Day", "Public")));
+        Long originalId = jdbcTemplate.queryForObject("SELECT id FROM holiday", Long.class);
+
+        UpsertResult result = holidayBulkRepository.bulkUpsert(List.of(
+                holiday(LocalDate.of(2024, 1, 1), "New Year's Day", "Public,Bank"),
+                holiday(LocalDate.of(2024, 12, 25), "Christmas Day", "Public")));
+
+        assertEquals(new UpsertResult(1, 1, 0), result);
+        assertEquals(2, countHolidays());
+        assertEquals("Public,Bank", jdbcTemplate.queryForObject(
+                "SELECT types FROM holiday WHERE id = ?", String.class, originalId));
+    }
+
+    @Test
+    @DisplayName("🔢 id 예약은 시퀀스 값 하나당 연속된 100개 구간을 사용")
+    void allocateIds_ShouldUseContiguousBlocksPerSequenceValue() {
+        long[] ids = holidayBulkRepository.allocateIds(250);
+
+        assertEquals(250, LongStream.of(ids).distinct().count());
+        long blockStarts = IntStream.range(0, ids.length)
+                .filter(i -> i == 0 || ids[i] != ids[i - 1] + 1)
+                .count();
+        assertTrue(blockStarts <= 3, "시퀀스 호출 구간 수: " + blockStarts);
+    }
+
+    @Test
+    @DisplayName("🤝 JPA 저장과 JDBC 벌크 저장을 번갈아 해도 id가 겹치지 않음")
+    void bulkInsert_InterleavedWithJpa_ShouldNotCollide() {
+        holidayRepository.saveAllAndFlush(IntStream.range(0, 150)
+                .mapToObj(i -> holiday(LocalDate.of(2000, 1, 1).plusDays(i), "JPA 1", "Public"))
+                .toList());
+        holidayBulkRepository.bulkInsert(IntStream.range(0, 1500)
+                .mapToObj(i -> holiday(LocalDate.of(2000, 1, 1).plusDays(i), "JDBC", "Public"))
+                .toList());
+        holidayRepository.saveAllAndFlush(IntStream.range(0, 150)
+                .mapToObj(i -> holiday(LocalDate.of(2000, 1, 1).plusDays(i), "JPA 2", "Public"))
+                .toList());
+
+        assertEquals(1800, countHolidays());
+        assertEquals(1800, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM holiday", Integer.class));
+    }
+
+    @Test
+    @DisplayName("🗄️ DB 제품명으로 UPSERT 방식 선택")
+    void fromDatabaseProductName_ShouldDetectDialect() {
+        assertEquals(HolidayUpsertDialect.H2, HolidayUpsertDialect.fromDatabaseProductName("H2"));
+        assertEquals(HolidayUpsertDialect.POSTGRESQL, HolidayUpsertDialect.fromDatabaseProductName("PostgreSQL"));
+        assertThrows(IllegalStateException.class, () -> HolidayUpsertDialect.fromDatabaseProductName("Oracle"));
+    }
+
+    private Holiday holiday(LocalDate date, String name, String types) {
+        return Holiday.builder()
+                .countryCode("KR")
+                .countryName("South Korea")
+                .date(date)
+                .localName(name)
+                .name(name)
+                .fixed(true)
+                .global(true)
+                .types(types)
+                .build();
+    }
+
+    private int countHolidays() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday", Integer.class);
+    }
+}
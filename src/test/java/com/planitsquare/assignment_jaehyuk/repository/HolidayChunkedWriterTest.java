@@ -0,0 +1,101 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayChunkedWriter.ChunkedWriteResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 청크마다 커밋되므로 테스트 트랜잭션 없이 실행하고 매번 테이블을 비운다
+ */
+@JdbcTest
+@Import(HolidayBulkRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("HolidayChunkedWriter 테스트")
+class HolidayChunkedWriterTest {
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM holiday");
+    }
+
+    @Test
+    @DisplayName("✅ 청크 크기 단위로 나눠 저장하고 청크별 지연 시간을 기록")
+    void upsertAll_ShouldWriteInChunks() {
+        HolidayChunkedWriter writer = new HolidayChunkedWriter(holidayBulkRepository, transactionManager, 1000, 1);
+
+        ChunkedWriteResult result = writer.upsertAll(holidays(2500).iterator());
+
+        assertEquals(2500, result.inserted());
+        assertEquals(3, result.chunkLatencies().size());
+        assertEquals(2500, countHolidays());
+    }
+
+    @Test
+    @DisplayName("⚡ 여러 커넥션으로 동시에 저장해도 결과가 같고, 다시 저장하면 변경 없음")
+    void upsertAll_WithParallelWriters_ShouldBeIdempotent() {
+        HolidayChunkedWriter writer = new HolidayChunkedWriter(holidayBulkRepository, transactionManager, 300, 3);
+
+        ChunkedWriteResult first = writer.upsertAll(holidays(2000).iterator());
+        ChunkedWriteResult second = writer.upsertAll(holidays(2000).iterator());
+
+        assertEquals(2000, first.inserted());
+        assertEquals(7, first.chunkLatencies().size());
+        assertEquals(0, second.inserted() + second.updated());
+        assertEquals(2000, second.unchanged());
+        assertEquals(2000, countHolidays());
+    }
+
+    @Test
+    @DisplayName("❌ 청크 저장 실패 시 예외 발생, 앞서 커밋된 청크는 유지")
+    void upsertAll_WhenChunkFails_ShouldKeepCommittedChunks() {
+        HolidayChunkedWriter writer = new HolidayChunkedWriter(holidayBulkRepository, transactionManager, 1000, 1);
+
+        List<Holiday> holidays = new ArrayList<>(holidays(1500));
+        holidays.set(1200, Holiday.builder().countryCode("KR").countryName("South Korea")
+                .date(LocalDate.of(2024, 1, 1)).build()); // name NOT NULL 위반
+
+        assertThrows(BusinessException.class, () -> writer.upsertAll(holidays.iterator()));
+        assertEquals(1000, countHolidays());
+    }
+
+    private List<Holiday> holidays(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Holiday.builder()
+                        .countryCode("KR")
+                        .countryName("South Korea")
+                        .date(LocalDate.of(2000, 1, 1).plusDays(i / 2))
+                        .name("Holiday " + (i % 2))
+                        .build())
+                .toList();
+    }
+
+    private int countHolidays() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday", Integer.class);
+    }
+}
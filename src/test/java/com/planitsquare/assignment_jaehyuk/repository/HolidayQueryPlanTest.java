@@ -0,0 +1,89 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 스키마 기준 주요 조회의 실행 계획 회귀 테스트
+ * 쿼리는 각 Repository 메서드가 생성하는 SQL과 같은 형태로 작성한다.
+ */
+@JdbcTest
+@DisplayName("holiday 인덱스 실행 계획 테스트")
+class HolidayQueryPlanTest {
+
+    private static final String PROJECTION = "SELECT id, country_code, country_name, date, local_name, name FROM holiday ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("✅ 국가/날짜 조회는 (country_code, date, name) 유니크 키로 범위 탐색")
+    void countryAndDateQueries_ShouldUseUniqueKeyRange() {
+        // HolidayBulkRepository.findExistingDates
+        assertIndexRange("SELECT DISTINCT date FROM holiday WHERE country_code = 'KR' "
+                        + "AND date BETWEEN DATE '2020-01-01' AND DATE '2025-12-31'",
+                "UK_HOLIDAY_COUNTRY_DATE_NAME", "DATE >= DATE '2020-01-01'");
+
+        // findByCountryCodeAndDateBetween (기본 검색)
+        assertIndexRange("SELECT * FROM holiday WHERE country_code = 'KR' "
+                        + "AND date BETWEEN DATE '2024-01-01' AND DATE '2024-12-31' ORDER BY date FETCH FIRST 10 ROWS ONLY",
+                "UK_HOLIDAY_COUNTRY_DATE_NAME", "DATE >= DATE '2024-01-01'");
+
+        // deleteByCountryCodeAndYear
+        assertIndexRange("DELETE FROM holiday WHERE country_code = 'KR' AND date BETWEEN DATE '2024-01-01' AND DATE '2024-12-31'",
+                "UK_HOLIDAY_COUNTRY_DATE_NAME", "COUNTRY_CODE = 'KR'");
+    }
+
+    @Test
+    @DisplayName("📊 고급 검색 정렬은 (정렬 컬럼, id) 인덱스 순서를 사용")
+    void advancedSearchOrdering_ShouldUseSortIndexes() {
+        assertUsesIndex(PROJECTION + "WHERE name LIKE '%Day%' ORDER BY date DESC FETCH FIRST 10 ROWS ONLY",
+                "IDX_HOLIDAY_DATE_ID");
+        assertUsesIndex(PROJECTION + "ORDER BY country_name DESC FETCH FIRST 10 ROWS ONLY",
+                "IDX_HOLIDAY_COUNTRY_NAME_ID");
+        assertUsesIndex(PROJECTION + "ORDER BY name FETCH FIRST 10 ROWS ONLY",
+                "IDX_HOLIDAY_NAME_ID");
+        assertIndexRange(PROJECTION + "WHERE date BETWEEN DATE '2024-01-01' AND DATE '2024-12-31' ORDER BY date DESC FETCH FIRST 10 ROWS ONLY",
+                "IDX_HOLIDAY_DATE_ID", "DATE >= DATE '2024-01-01'");
+    }
+
+    @Test
+    @DisplayName("🔖 커서 조회는 (정렬 컬럼, id) 인덱스로 범위 탐색")
+    void keysetQueries_ShouldSeekOnSortIndexes() {
+        assertIndexRange(PROJECTION + "WHERE date <= DATE '2024-06-01' AND (date < DATE '2024-06-01' OR id < 100) "
+                        + "ORDER BY date DESC, id DESC FETCH FIRST 101 ROWS ONLY",
+                "IDX_HOLIDAY_DATE_ID", "DATE <= DATE '2024-06-01'");
+        assertIndexRange(PROJECTION + "WHERE name >= 'Easter' AND (name > 'Easter' OR id > 100) "
+                        + "ORDER BY name, id FETCH FIRST 101 ROWS ONLY",
+                "IDX_HOLIDAY_NAME_ID", "NAME >= 'Easter'");
+        assertIndexRange(PROJECTION + "WHERE country_name >= 'Korea' AND (country_name > 'Korea' OR id > 100) "
+                        + "ORDER BY country_name, id FETCH FIRST 101 ROWS ONLY",
+                "IDX_HOLIDAY_COUNTRY_NAME_ID", "COUNTRY_NAME >= 'Korea'");
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = explain(sql);
+        assertTrue(plan.contains("PUBLIC." + indexName), () -> indexName + " 미사용:\n" + plan);
+    }
+
+    /**
+     * 인덱스 주석 블록 안에 탐색 조건이 있으면 전체 순회가 아닌 범위 탐색
+     */
+    private void assertIndexRange(String sql, String indexName, String seekCondition) {
+        String plan = explain(sql);
+        int indexStart = plan.indexOf("PUBLIC." + indexName);
+        assertTrue(indexStart >= 0, () -> indexName + " 미사용:\n" + plan);
+
+        String indexComment = plan.substring(indexStart, plan.indexOf("*/", indexStart));
+        assertTrue(indexComment.contains(seekCondition), () -> indexName + " 범위 탐색 아님:\n" + plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
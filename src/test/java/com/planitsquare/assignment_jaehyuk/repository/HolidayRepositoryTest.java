@@ -0,0 +1,141 @@
+package com.planitsquare.assignment_jaehyuk.repository;
+
+import com.planitsquare.assignment_jaehyuk.config.QueryDslConfig;
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidayCursor;
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.search.HolidayTextIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, HolidayRowRepository.class, HolidayTextIndex.class})
+@DisplayName("HolidayRepository 고급 검색 테스트")
+class HolidayRepositoryTest {
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 날짜, 같은 이름이 여러 건 있어야 id 보조 정렬을 검증할 수 있다
+        // 포함 검색 값 사전은 JDBC로 읽으므로 먼저 반영
+        holidayRepository.saveAllAndFlush(IntStream.range(0, 23)
+                .mapToObj(i -> Holiday.builder()
+                        .countryCode(i % 2 == 0 ? "KR" : "US")
+                        .countryName(i % 2 == 0 ? "South Korea" : "United States")
+                        .date(LocalDate.of(2024, 1, 1).plusDays(i / 3))
+                        .name("Holiday " + (i % 4))
+                        .localName("휴일")
+                        .global(true)
+                        .build())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("✅ 커서로 끝까지 순회하면 (정렬 컬럼, id) 순서로 모든 행을 한 번씩 조회")
+    void searchHolidaySlice_IteratingAllSlices_ShouldMatchOffsetOrder() {
+        for (String sortBy : new String[]{null, "date", "name", "countryName"}) {
+            for (String direction : new String[]{"asc", "desc"}) {
+                HolidaySearchCondition condition = new HolidaySearchCondition();
+                condition.setSortBy(sortBy);
+                condition.setSortDirection(direction);
+
+                HolidayCursor.SortKey sortKey = HolidayCursor.SortKey.from(sortBy);
+                Comparator<HolidayResponse> order = Comparator.comparing((HolidayResponse holiday) -> sortKey.valueFrom(holiday).toString())
+                        .thenComparing(HolidayResponse::getId);
+                List<Long> expected = holidayRepository.searchHolidayListWithSearchCondition(condition, PageRequest.of(0, 100))
+                        .getContent().stream()
+                        .sorted(HolidayCursor.isDescending(condition) ? order.reversed() : order)
+                        .map(HolidayResponse::getId)
+                        .toList();
+
+                assertEquals(expected, iterateAll(condition, 5), "sortBy=" + sortBy + ", direction=" + direction);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("🔍 검색 조건과 커서 조건을 함께 적용")
+    void searchHolidaySlice_WithCondition_ShouldApplyBoth() {
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        condition.setCountryName("Korea");
+        condition.setSortBy("date");
+
+        List<Long> ids = iterateAll(condition, 4);
+
+        assertEquals(12, ids.size());
+        assertEquals(12L, holidayRepository.countHolidayListWithSearchCondition(condition));
+    }
+
+    @Test
+    @DisplayName("🔤 포함 검색은 값 사전의 값 목록 IN 조건으로 LIKE 와 같은 결과")
+    void search_WithContainsConditions_ShouldMatchLike() {
+        assertEquals(6L, countWith(condition -> condition.setName("Holiday 1")));
+        assertEquals(23L, countWith(condition -> condition.setName("liday")));
+        assertEquals(23L, countWith(condition -> condition.setLocalName("휴")));
+        assertEquals(11L, countWith(condition -> condition.setCountryName("United")));
+        assertEquals(0L, countWith(condition -> condition.setCountryName("Atlantis")));
+    }
+
+    @Test
+    @DisplayName("📉 첫 페이지가 다 차지 않거나 마지막 페이지면 COUNT 생략")
+    void searchHolidayList_WithComputableTotal_ShouldNotCount() {
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        AtomicInteger counts = new AtomicInteger();
+        LongSupplier counter = () -> {
+            counts.incrementAndGet();
+            return holidayRepository.countHolidayListWithSearchCondition(condition);
+        };
+
+        Page<HolidayResponse> firstPage = holidayRepository.searchHolidayListWithSearchCondition(condition, PageRequest.of(0, 50), counter);
+        Page<HolidayResponse> lastPage = holidayRepository.searchHolidayListWithSearchCondition(condition, PageRequest.of(2, 10), counter);
+        assertEquals(0, counts.get());
+
+        Page<HolidayResponse> middlePage = holidayRepository.searchHolidayListWithSearchCondition(condition, PageRequest.of(1, 10), counter);
+        assertEquals(1, counts.get());
+
+        assertEquals(23, firstPage.getTotalElements());
+        assertEquals(23, lastPage.getTotalElements());
+        assertEquals(23, middlePage.getTotalElements());
+    }
+
+    private long countWith(Consumer<HolidaySearchCondition> predicate) {
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        predicate.accept(condition);
+        return holidayRepository.searchHolidayListWithSearchCondition(condition, PageRequest.of(0, 50)).getTotalElements();
+    }
+
+    private List<Long> iterateAll(HolidaySearchCondition condition, int size) {
+        List<Long> ids = new ArrayList<>();
+        HolidayCursor cursor = null;
+
+        while (true) {
+            Slice<HolidayResponse> slice = holidayRepository.searchHolidaySliceWithSearchCondition(condition, cursor, size);
+            slice.getContent().forEach(holiday -> ids.add(holiday.getId()));
+            if (!slice.hasNext()) {
+                return ids;
+            }
+            cursor = HolidayCursor.after(condition, slice.getContent().get(slice.getNumberOfElements() - 1));
+        }
+    }
+}
@@ -17,6 +17,8 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -219,6 +221,28 @@ class YearlyDataSyncSchedulerAsyncTest {
         verify(holidayService, times(6)).updateHolidayList(any(HolidayUpdateForm.class));
     }
 
+    @Test
+    @DisplayName("🧵 가상 스레드 모드 동기화 테스트")
+    void syncYearlyDataAsync_VirtualThreads() {
+        // Given: 가상 스레드 모드 활성화
+        ReflectionTestUtils.setField(scheduler, "virtualThreads", true);
+        when(nagerDateApiClient.getAvailableCountries())
+                .thenReturn(Mono.just(mockCountries));
+
+        Set<Boolean> virtualFlags = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            virtualFlags.add(Thread.currentThread().isVirtual());
+            return null;
+        }).when(holidayService).updateHolidayList(any(HolidayUpdateForm.class));
+
+        // When
+        scheduler.syncYearlyDataAsync();
+
+        // Then: 국가 수 × 2년 = 6번, 모두 가상 스레드에서 실행
+        verify(holidayService, times(6)).updateHolidayList(any(HolidayUpdateForm.class));
+        assertEquals(Set.of(true), virtualFlags);
+    }
+
     // 🛠️ 헬퍼 메서드들
 
     private CountryDto createCountryDto(String countryCode, String name) {
@@ -0,0 +1,188 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayRow;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayColumnarIndex 테스트")
+class HolidayColumnarIndexTest {
+
+    @Mock
+    private HolidayRowRepository holidayRowRepository;
+
+    @InjectMocks
+    private HolidayColumnarIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "patchThreshold", 2);
+    }
+
+    @Test
+    @DisplayName("✅ 날짜 범위, 포함 검색, 전국 여부 조건을 함께 적용")
+    void search_WithCombinedCondition_ShouldFilterRows() {
+        // Given
+        when(holidayRowRepository.findAll()).thenReturn(List.of(
+                row(1, "KR", "South Korea", "2024-01-01", "신정", "New Year's Day", true, null),
+                row(2, "KR", "South Korea", "2024-03-01", "삼일절", "Independence Movement Day", true, null),
+                row(3, "US", "United States", "2024-01-01", "New Year's Day", "New Year's Day", true, null),
+                row(4, "US", "United States", "2024-01-15", null, "Martin Luther King, Jr. Day", false, 1986),
+                row(5, "KR", "South Korea", "2023-01-01", "신정", "New Year's Day", null, null)
+        ));
+
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        condition.setStartDate(LocalDate.of(2024, 1, 1));
+        condition.setEndDate(LocalDate.of(2024, 12, 31));
+        condition.setName("Day");
+        condition.setGlobal(true);
+        condition.setCountryName("Korea");
+
+        // When
+        Page<HolidayResponse> result = index.search(condition, PageRequest.of(0, 10));
+
+        // Then: 기본 정렬은 날짜 내림차순
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(HolidayResponse::getId).toList());
+        assertEquals("South Korea", result.getContent().get(0).getCountryName());
+    }
+
+    @Test
+    @DisplayName("🛠️ null 현지명은 포함 검색에서 제외되고, null 전국 여부는 true/false 어디에도 포함되지 않음")
+    void search_WithNullColumns_ShouldBehaveLikeSql() {
+        // Given
+        when(holidayRowRepository.findAll()).thenReturn(List.of(
+                row(1, "US", "United States", "2024-01-15", null, "Martin Luther King, Jr. Day", null, 1986),
+                row(2, "US", "United States", "2024-07-04", "Independence Day", "Independence Day", false, 1776)
+        ));
+
+        HolidaySearchCondition byLocalName = new HolidaySearchCondition();
+        byLocalName.setLocalName("Day");
+        HolidaySearchCondition byGlobal = new HolidaySearchCondition();
+        byGlobal.setGlobal(false);
+        HolidaySearchCondition byLaunchYear = new HolidaySearchCondition();
+        byLaunchYear.setLaunchYear(1986);
+
+        // When & Then
+        assertEquals(List.of(2L), ids(index.search(byLocalName, PageRequest.of(0, 10))));
+        assertEquals(List.of(2L), ids(index.search(byGlobal, PageRequest.of(0, 10))));
+        assertEquals(List.of(1L), ids(index.search(byLaunchYear, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    @DisplayName("📌 고정 공휴일 여부 조건은 전국 여부와 별도 비트셋으로 적용")
+    void search_WithFixed_ShouldFilterRows() {
+        // Given
+        when(holidayRowRepository.findAll()).thenReturn(List.of(
+                new HolidayRow(1, "KR", "South Korea", LocalDate.of(2024, 1, 1), "신정", "New Year's Day", true, true, null),
+                new HolidayRow(2, "KR", "South Korea", LocalDate.of(2024, 2, 10), "설날", "Lunar New Year", false, true, null),
+                new HolidayRow(3, "KR", "South Korea", LocalDate.of(2024, 5, 15), "부처님오신날", "Buddha's Birthday", null, true, null)
+        ));
+
+        HolidaySearchCondition fixed = new HolidaySearchCondition();
+        fixed.setFixed(true);
+        HolidaySearchCondition movable = new HolidaySearchCondition();
+        movable.setFixed(false);
+        movable.setGlobal(true);
+
+        // When & Then
+        assertEquals(List.of(1L), ids(index.search(fixed, PageRequest.of(0, 10))));
+        assertEquals(List.of(2L), ids(index.search(movable, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    @DisplayName("📊 이름 정렬과 페이지 단위 조회")
+    void search_WithSortAndPaging_ShouldReturnRequestedPage() {
+        // Given
+        List<String> names = List.of("Easter", "Christmas", "Boxing Day", "Anzac Day", "Diwali");
+        when(holidayRowRepository.findAll()).thenReturn(IntStream.range(0, names.size())
+                .mapToObj(i -> row(i + 1, "AU", "Australia", "2024-01-0" + (i + 1), null, names.get(i), true, null))
+                .toList());
+
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        condition.setSortBy("name");
+        condition.setSortDirection("desc");
+
+        // When
+        Page<HolidayResponse> result = index.search(condition, PageRequest.of(1, 2));
+
+        // Then: Easter, Diwali | Christmas, Boxing Day | Anzac Day
+        assertEquals(5, result.getTotalElements());
+        assertEquals(List.of("Christmas", "Boxing Day"), result.getContent().stream().map(HolidayResponse::getName).toList());
+    }
+
+    @Test
+    @DisplayName("🔄 변경 이벤트는 해당 국가/연도만 다시 읽어 교체")
+    void onHolidayChanged_ShouldPatchOnlyChangedCountryYear() {
+        // Given
+        when(holidayRowRepository.findAll()).thenReturn(List.of(
+                row(1, "KR", "South Korea", "2024-01-01", "신정", "New Year's Day", true, null),
+                row(2, "US", "United States", "2024-01-01", null, "New Year's Day", true, null)
+        ));
+        when(holidayRowRepository.findByCountryCodeAndDateBetween("KR", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                .thenReturn(List.of(row(10, "KR", "South Korea", "2024-01-01", "신정", "New Year's Day (updated)", true, null)));
+
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        index.search(condition, PageRequest.of(0, 10));
+
+        // When
+        index.onHolidayChanged(HolidayChangedEvent.of("KR", 2024));
+
+        // Then
+        Page<HolidayResponse> result = index.search(condition, PageRequest.of(0, 10));
+        assertEquals(2, result.getTotalElements());
+        assertTrue(ids(result).containsAll(List.of(10L, 2L)));
+        verify(holidayRowRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("📦 변경 범위가 크면 다음 검색에서 전체 재적재")
+    void onHolidayChanged_WithManyCountryYears_ShouldReloadLazily() {
+        // Given
+        when(holidayRowRepository.findAll()).thenReturn(List.of());
+        index.search(new HolidaySearchCondition(), PageRequest.of(0, 10));
+
+        // When
+        index.onHolidayChanged(HolidayChangedEvent.from(List.of()));
+        index.onHolidayChanged(new HolidayChangedEvent(Set.of(
+                new HolidayChangedEvent.CountryYear("KR", 2023),
+                new HolidayChangedEvent.CountryYear("KR", 2024),
+                new HolidayChangedEvent.CountryYear("US", 2024))));
+        index.search(new HolidaySearchCondition(), PageRequest.of(0, 10));
+
+        // Then
+        verify(holidayRowRepository, times(2)).findAll();
+        verify(holidayRowRepository, never()).findByCountryCodeAndDateBetween(anyString(), any(), any());
+    }
+
+    private List<Long> ids(Page<HolidayResponse> page) {
+        return page.getContent().stream().map(HolidayResponse::getId).toList();
+    }
+
+    private HolidayRow row(long id, String countryCode, String countryName, String date, String localName,
+                           String name, Boolean global, Integer launchYear) {
+        return new HolidayRow(id, countryCode, countryName, LocalDate.parse(date), localName, name, null, global, launchYear);
+    }
+}
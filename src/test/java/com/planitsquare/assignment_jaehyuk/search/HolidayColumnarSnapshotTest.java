@@ -0,0 +1,96 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayRow;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent.CountryYear;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HolidayColumnarSnapshot 테스트")
+class HolidayColumnarSnapshotTest {
+
+    @Test
+    @DisplayName("🧩 교체는 기존 행에 삭제 표시를 하고 새 행을 세그먼트로 덧붙임")
+    void patch_ShouldTombstoneOldRowsAndAppendSegment() {
+        // Given
+        HolidayColumnarSnapshot snapshot = HolidayColumnarSnapshot.build(countries(10));
+
+        // When: 새 이름은 사전에 추가되고, 날짜 정렬은 세그먼트를 넘어 병합된다
+        HolidayColumnarSnapshot patched = snapshot.patch(Set.of(new CountryYear("C3", 2024)), List.of(
+                row(100, "C3", "2024-01-01", "Aardvark Day"),
+                row(101, "C3", "2024-12-31", "Zebra Day")));
+
+        // Then
+        assertEquals(2, patched.segmentCount());
+        assertEquals(11, patched.size());
+        assertEquals(10, snapshot.size());
+
+        HolidaySearchCondition byCountry = new HolidaySearchCondition();
+        byCountry.setCountryName("Country 3");
+        assertEquals(List.of(100L, 101L), ids(search(patched, byCountry, "date", "asc")));
+
+        HolidaySearchCondition byName = new HolidaySearchCondition();
+        byName.setName("Day");
+        assertEquals(List.of(101L, 100L), ids(search(patched, byName, "name", "desc")));
+        assertTrue(ids(search(snapshot, new HolidaySearchCondition(), "date", "asc")).contains(3L));
+        assertFalse(ids(search(patched, new HolidaySearchCondition(), "date", "asc")).contains(3L));
+    }
+
+    @Test
+    @DisplayName("🗜️ 세그먼트가 많아지면 살아 있는 행으로 한 세그먼트로 다시 만듦")
+    void patch_WithManySegments_ShouldCompact() {
+        // Given
+        HolidayColumnarSnapshot snapshot = HolidayColumnarSnapshot.build(countries(100));
+
+        // When
+        for (int i = 0; i < HolidayColumnarSnapshot.MAX_SEGMENTS - 1; i++) {
+            snapshot = snapshot.patch(Set.of(new CountryYear("C" + i, 2024)),
+                    List.of(row(1_000 + i, "C" + i, "2024-02-01", "Patched " + i)));
+        }
+        int segmentsBeforeCompaction = snapshot.segmentCount();
+        snapshot = snapshot.patch(Set.of(new CountryYear("C99", 2024)),
+                List.of(row(2_000, "C99", "2024-02-01", "Patched 99")));
+
+        // Then
+        assertEquals(HolidayColumnarSnapshot.MAX_SEGMENTS, segmentsBeforeCompaction);
+        assertEquals(1, snapshot.segmentCount());
+        assertEquals(100, snapshot.size());
+
+        HolidaySearchCondition condition = new HolidaySearchCondition();
+        condition.setName("Patched");
+        assertEquals(HolidayColumnarSnapshot.MAX_SEGMENTS, search(snapshot, condition, "date", "asc").size());
+    }
+
+    private static List<HolidayRow> countries(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> row(i, "C" + i, "2024-01-" + String.format("%02d", i % 28 + 1), "Holiday " + i))
+                .toList();
+    }
+
+    private static HolidayRow row(long id, String countryCode, String date, String name) {
+        return new HolidayRow(id, countryCode, "Country " + countryCode.substring(1), LocalDate.parse(date),
+                null, name, true, true, null);
+    }
+
+    private static List<Long> ids(List<HolidayResponse> responses) {
+        return responses.stream().map(HolidayResponse::getId).toList();
+    }
+
+    private static List<HolidayResponse> search(HolidayColumnarSnapshot snapshot, HolidaySearchCondition condition,
+                                                String sortBy, String sortDirection) {
+        condition.setSortBy(sortBy);
+        condition.setSortDirection(sortDirection);
+        Page<HolidayResponse> page = snapshot.search(condition, PageRequest.of(0, 200));
+        return page.getContent();
+    }
+}
@@ -0,0 +1,93 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.TextColumn;
+import com.planitsquare.assignment_jaehyuk.service.HolidayChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayTextIndex 테스트")
+class HolidayTextIndexTest {
+
+    @Mock
+    private HolidayRowRepository holidayRowRepository;
+
+    private HolidayTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HolidayTextIndex(holidayRowRepository, true, 3, 2);
+        lenient().when(holidayRowRepository.findDistinctValues(any(TextColumn.class))).thenReturn(List.of());
+        lenient().when(holidayRowRepository.findDistinctValues(TextColumn.NAME)).thenReturn(List.of(
+                "New Year's Day", "Independence Day", "Lunar New Year", "Christmas Day"));
+    }
+
+    @Test
+    @DisplayName("✅ 검색어를 포함하는 값만 반환하고, 없으면 빈 목록")
+    void valuesContaining_ShouldReturnMatchingValues() {
+        assertEquals(List.of("New Year's Day", "Lunar New Year"), index.valuesContaining(TextColumn.NAME, "New Year"));
+        assertEquals(List.of("Christmas Day"), index.valuesContaining(TextColumn.NAME, "Chr"));
+        assertEquals(List.of(), index.valuesContaining(TextColumn.NAME, "Easter"));
+        assertEquals(List.of(), index.valuesContaining(TextColumn.LOCAL_NAME, "설날"));
+    }
+
+    @Test
+    @DisplayName("🛠️ 일치하는 값이 max-values 보다 많으면 LIKE 로 검색하도록 null")
+    void valuesContaining_WithTooManyMatches_ShouldFallBackToLike() {
+        // 일치 4개 > max-values 3개 (3글자 미만 검색어는 사전 전체 확인)
+        assertNull(index.valuesContaining(TextColumn.NAME, "a"));
+        assertEquals(3, index.valuesContaining(TextColumn.NAME, "Day").size());
+    }
+
+    @Test
+    @DisplayName("🔄 변경된 국가/연도의 새 값만 이어 붙이고 전체를 다시 읽지 않음")
+    void onHolidayChanged_ShouldAppendNewValuesOfChangedCountryYears() {
+        // Given
+        index.valuesContaining(TextColumn.NAME, "Day");
+        when(holidayRowRepository.findDistinctValues(any(TextColumn.class), eq("KR"),
+                eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 12, 31)))).thenReturn(List.of());
+        when(holidayRowRepository.findDistinctValues(eq(TextColumn.NAME), eq("KR"),
+                eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 12, 31))))
+                .thenReturn(List.of("Christmas Day", "Harvest Moon Day"));
+
+        // When
+        index.onHolidayChanged(HolidayChangedEvent.of("KR", 2024));
+
+        // Then
+        assertEquals(List.of("Harvest Moon Day"), index.valuesContaining(TextColumn.NAME, "Moon"));
+        verify(holidayRowRepository, times(1)).findDistinctValues(TextColumn.NAME);
+    }
+
+    @Test
+    @DisplayName("♻️ 변경 범위가 크면 사전을 버리고 다음 검색에서 다시 적재")
+    void onHolidayChanged_WithManyCountryYears_ShouldReload() {
+        // Given
+        index.valuesContaining(TextColumn.NAME, "Day");
+        Set<HolidayChangedEvent.CountryYear> countryYears = IntStream.range(0, 3)
+                .mapToObj(i -> new HolidayChangedEvent.CountryYear("KR", 2020 + i))
+                .collect(Collectors.toSet());
+
+        // When
+        index.onHolidayChanged(new HolidayChangedEvent(countryYears));
+        index.valuesContaining(TextColumn.NAME, "Day");
+
+        // Then
+        verify(holidayRowRepository, times(2)).findDistinctValues(TextColumn.NAME);
+        verify(holidayRowRepository, never()).findDistinctValues(any(TextColumn.class), anyString(), any(), any());
+    }
+}
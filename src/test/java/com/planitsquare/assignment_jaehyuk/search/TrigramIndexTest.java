@@ -0,0 +1,56 @@
+package com.planitsquare.assignment_jaehyuk.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrigramIndex 테스트")
+class TrigramIndexTest {
+
+    private final String[] values = {
+            "New Year's Day",
+            "Independence Day",
+            "설날 연휴",
+            "추석 연휴",
+            "Lunar New Year",
+            "🎉 Festival"
+    };
+
+    private final TrigramIndex index = TrigramIndex.build(values);
+
+    @Test
+    @DisplayName("✅ 모든 trigram을 포함하는 값만 후보로 반환")
+    void candidates_ShouldNarrowToValuesContainingAllTrigrams() {
+        assertArrayEquals(new int[]{0, 4}, index.candidates("New Year"));
+        assertArrayEquals(new int[]{0, 1}, index.candidates("Day"));
+        assertArrayEquals(new int[0], index.candidates("Christmas"));
+    }
+
+    @Test
+    @DisplayName("🇰🇷 한글과 보조 평면 문자는 코드 포인트 단위로 색인")
+    void candidates_WithNonLatinText_ShouldUseCodePoints() {
+        assertArrayEquals(new int[]{2, 3}, index.candidates(" 연휴"));
+        assertArrayEquals(new int[]{2}, index.candidates("설날 "));
+        assertArrayEquals(new int[]{5}, index.candidates("🎉 F"));
+    }
+
+    @Test
+    @DisplayName("🛠️ 3글자 미만 검색어는 후보를 좁히지 않음")
+    void candidates_WithShortKeyword_ShouldReturnNull() {
+        assertNull(index.candidates("연휴"));
+        assertNull(index.candidates("🎉 "));
+    }
+
+    @Test
+    @DisplayName("➕ 값을 추가한 색인은 기존 id를 유지하고 새 id를 이어서 부여")
+    void append_ShouldKeepExistingIdsAndAddNewOnes() {
+        // When
+        TrigramIndex appended = index.append(new String[]{"New Year's Eve", "Harvest Moon"}, values.length);
+
+        // Then
+        assertArrayEquals(new int[]{0, 4, 6}, appended.candidates("New Year"));
+        assertArrayEquals(new int[]{7}, appended.candidates("Moon"));
+        assertArrayEquals(new int[]{0, 4}, index.candidates("New Year"));
+    }
+}
@@ -0,0 +1,193 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.calendar.HolidayCalendar;
+import com.planitsquare.assignment_jaehyuk.dto.response.BusinessDayResponse;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayRowRepository.HolidayCalendarRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BusinessDayService 영업일 계산 테스트")
+class BusinessDayServiceTest {
+
+    @Mock
+    private HolidayRowRepository holidayRowRepository;
+
+    private HolidayCalendar holidayCalendar;
+    private BusinessDayService businessDayService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(holidayRowRepository.findCalendarRows(anyString(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+        lenient().when(holidayRowRepository.findCalendarRows(eq("KR"), eq(LocalDate.of(2024, 1, 1)), any(LocalDate.class)))
+                .thenReturn(List.of(
+                        row("2024-01-01", true, "Public", null),
+                        row("2024-02-09", true, "Public", null),
+                        row("2024-02-10", true, "Public", null),
+                        row("2024-02-12", true, "Public", null),
+                        row("2024-05-08", true, "Observance", null)
+                ));
+        lenient().when(holidayRowRepository.findCalendarRows(eq("KR"), eq(LocalDate.of(2025, 1, 1)), any(LocalDate.class)))
+                .thenReturn(List.of(row("2025-01-01", true, "Public", null)));
+        lenient().when(holidayRowRepository.findCalendarRows(eq("US"), eq(LocalDate.of(2024, 1, 1)), any(LocalDate.class)))
+                .thenReturn(List.of(
+                        row("2024-01-01", true, "Public", null),
+                        row("2024-03-29", false, "Public", "US-CA,US-TX")
+                ));
+
+        holidayCalendar = new HolidayCalendar(holidayRowRepository, 100);
+        businessDayService = new BusinessDayService(holidayCalendar, "SATURDAY,SUNDAY", "");
+    }
+
+    @Test
+    @DisplayName("✅ 공휴일과 주말은 영업일이 아니고, 기념일(Observance)은 영업일")
+    void isBusinessDay_ShouldExcludePublicHolidaysAndWeekends() {
+        // When
+        BusinessDayResponse newYear = businessDayService.isBusinessDay("KR", LocalDate.of(2024, 1, 1), null, null);
+        BusinessDayResponse saturday = businessDayService.isBusinessDay("kr", LocalDate.of(2024, 1, 6), null, null);
+        BusinessDayResponse weekday = businessDayService.isBusinessDay("KR", LocalDate.of(2024, 1, 2), null, null);
+        BusinessDayResponse observance = businessDayService.isBusinessDay("KR", LocalDate.of(2024, 5, 8), null, null);
+
+        // Then
+        assertFalse(newYear.isBusinessDay());
+        assertTrue(newYear.isHoliday());
+        assertFalse(saturday.isBusinessDay());
+        assertTrue(saturday.isWeekendDay());
+        assertEquals("KR", saturday.getCountryCode());
+        assertTrue(weekday.isBusinessDay());
+        assertTrue(observance.isBusinessDay());
+        assertFalse(observance.isHoliday());
+    }
+
+    @Test
+    @DisplayName("✅ 지역 공휴일은 해당 지역을 지정한 경우만 반영")
+    void isBusinessDay_WithCounty_ShouldApplyRegionalHolidays() {
+        // Given
+        LocalDate goodFriday = LocalDate.of(2024, 3, 29);
+
+        // When & Then
+        assertTrue(businessDayService.isBusinessDay("US", goodFriday, null, null).isBusinessDay());
+        assertFalse(businessDayService.isBusinessDay("US", goodFriday, "us-ca", null).isBusinessDay());
+        assertTrue(businessDayService.isBusinessDay("US", goodFriday, "US-NY", null).isBusinessDay());
+        assertFalse(businessDayService.isBusinessDay("US", LocalDate.of(2024, 1, 1), "US-NY", null).isBusinessDay());
+    }
+
+    @Test
+    @DisplayName("✅ 연휴(공휴일 + 주말)를 건너뛰어 영업일을 더함")
+    void addBusinessDays_ShouldSkipHolidaysAndWeekends() {
+        // When: 설 연휴 2/9(금) ~ 2/12(월 대체공휴일)
+        LocalDate result = businessDayService.addBusinessDays("KR", LocalDate.of(2024, 2, 8), 3, null, null).getResult();
+        LocalDate zero = businessDayService.addBusinessDays("KR", LocalDate.of(2024, 2, 10), 0, null, null).getResult();
+
+        // Then
+        assertEquals(LocalDate.of(2024, 2, 15), result);
+        assertEquals(LocalDate.of(2024, 2, 10), zero);
+    }
+
+    @Test
+    @DisplayName("✅ 연도를 넘겨 앞뒤로 더하고, 기간 영업일 수는 더한 영업일 수와 같음")
+    void addBusinessDays_AcrossYears_ShouldMatchBusinessDaysBetween() {
+        // Given
+        LocalDate friday = LocalDate.of(2024, 12, 27);
+
+        // When: 12/30(1), 12/31(2), 1/1 신정, 1/2(3)
+        LocalDate forward = businessDayService.addBusinessDays("KR", friday, 3, null, null).getResult();
+        LocalDate backward = businessDayService.addBusinessDays("KR", forward, -3, null, null).getResult();
+
+        // Then
+        assertEquals(LocalDate.of(2025, 1, 2), forward);
+        assertEquals(friday, backward);
+        assertEquals(3, businessDayService.businessDaysBetween("KR", friday, forward, null, null).getBusinessDays());
+        assertEquals(-3, businessDayService.businessDaysBetween("KR", forward, friday, null, null).getBusinessDays());
+        assertEquals(0, businessDayService.businessDaysBetween("KR", friday, friday, null, null).getBusinessDays());
+    }
+
+    @Test
+    @DisplayName("🛠️ 주말은 요청 값 > 국가별 설정 > 기본 설정 순서로 적용")
+    void isBusinessDay_ShouldResolveWeekendByPriority() {
+        // Given
+        BusinessDayService service = new BusinessDayService(holidayCalendar, "SATURDAY,SUNDAY", "KR=FRIDAY|SATURDAY");
+        LocalDate sunday = LocalDate.of(2024, 1, 7);
+
+        // When & Then
+        assertTrue(service.isBusinessDay("KR", sunday, null, null).isBusinessDay());
+        assertFalse(service.isBusinessDay("KR", LocalDate.of(2024, 1, 5), null, null).isBusinessDay());
+        assertFalse(service.isBusinessDay("KR", sunday, null, "SATURDAY,SUNDAY").isBusinessDay());
+        assertEquals("FRIDAY,SATURDAY", service.isBusinessDay("KR", sunday, null, null).getWeekend());
+        assertFalse(service.isBusinessDay("US", sunday, null, null).isBusinessDay());
+    }
+
+    @Test
+    @DisplayName("❌ 공휴일 데이터가 없는 연도나 모든 요일이 주말인 설정은 예외")
+    void businessDay_WithoutDataOrInvalidWeekend_ShouldThrow() {
+        // When
+        BusinessException noData = assertThrows(BusinessException.class,
+                () -> businessDayService.isBusinessDay("KR", LocalDate.of(2019, 6, 3), null, null));
+        BusinessException beyondData = assertThrows(BusinessException.class,
+                () -> businessDayService.addBusinessDays("KR", LocalDate.of(2025, 12, 1), 30, null, null));
+        BusinessException allWeekend = assertThrows(BusinessException.class,
+                () -> businessDayService.isBusinessDay("KR", LocalDate.of(2024, 1, 2), null,
+                        "MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY,SATURDAY,SUNDAY"));
+        BusinessException unknownDay = assertThrows(BusinessException.class,
+                () -> businessDayService.isBusinessDay("KR", LocalDate.of(2024, 1, 2), null, "HOLIDAY"));
+
+        // Then
+        assertEquals(ErrorCode.HOLIDAY_CALENDAR_NOT_FOUND, noData.getErrorCode());
+        assertEquals(ErrorCode.HOLIDAY_CALENDAR_NOT_FOUND, beyondData.getErrorCode());
+        assertEquals(ErrorCode.INVALID_WEEKEND, allWeekend.getErrorCode());
+        assertEquals(ErrorCode.INVALID_WEEKEND, unknownDay.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("❌ 더할 영업일 수가 허용 범위를 벗어나면 예외 (Integer.MIN_VALUE 부호 반전 방지)")
+    void addBusinessDays_WithOutOfRangeDays_ShouldThrow() {
+        // When
+        BusinessException minValue = assertThrows(BusinessException.class,
+                () -> businessDayService.addBusinessDays("KR", LocalDate.of(2024, 2, 8), Integer.MIN_VALUE, null, null));
+        BusinessException tooMany = assertThrows(BusinessException.class,
+                () -> businessDayService.addBusinessDays("KR", LocalDate.of(2024, 2, 8),
+                        BusinessDayService.MAX_BUSINESS_DAYS + 1, null, null));
+
+        // Then
+        assertEquals(ErrorCode.INVALID_BUSINESS_DAYS, minValue.getErrorCode());
+        assertEquals(ErrorCode.INVALID_BUSINESS_DAYS, tooMany.getErrorCode());
+        verifyNoInteractions(holidayRowRepository);
+    }
+
+    @Test
+    @DisplayName("🛠️ 비트맵은 캐시하고, 변경 이벤트를 받은 국가/연도만 다시 만듦")
+    void holidayCalendar_ShouldReloadOnlyChangedCountryYear() {
+        // Given
+        businessDayService.isBusinessDay("KR", LocalDate.of(2024, 1, 2), null, null);
+        businessDayService.isBusinessDay("KR", LocalDate.of(2025, 1, 2), null, null);
+        businessDayService.isBusinessDay("KR", LocalDate.of(2024, 1, 3), null, null);
+
+        // When
+        holidayCalendar.onHolidayChanged(HolidayChangedEvent.of("KR", 2024));
+        businessDayService.isBusinessDay("KR", LocalDate.of(2024, 1, 2), null, null);
+        businessDayService.isBusinessDay("KR", LocalDate.of(2025, 1, 2), null, null);
+
+        // Then
+        verify(holidayRowRepository, times(2)).findCalendarRows(eq("KR"), eq(LocalDate.of(2024, 1, 1)), any(LocalDate.class));
+        verify(holidayRowRepository, times(1)).findCalendarRows(eq("KR"), eq(LocalDate.of(2025, 1, 1)), any(LocalDate.class));
+    }
+
+    private static HolidayCalendarRow row(String date, Boolean global, String types, String counties) {
+        return new HolidayCalendarRow(LocalDate.parse(date), global, types, counties);
+    }
+}
@@ -0,0 +1,162 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HolidayRefreshCoalescer 테스트")
+class HolidayRefreshCoalescerTest {
+
+    private final HolidayRefreshCoalescer coalescer = new HolidayRefreshCoalescer(Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("✅ 같은 국가/연도 동시 요청은 한 번만 실행하고 결과를 함께 받음")
+    void refresh_ConcurrentSameKey_ShouldExecuteOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        Runnable task = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> leader = executor.submit(() -> coalescer.refresh("KR", 2024, task));
+            started.await(5, TimeUnit.SECONDS);
+
+            Future<?> follower = executor.submit(() -> coalescer.refresh("KR", 2024, task));
+            waitUntilCoalesced(1);
+
+            // 앞 요청이 끝나기 전에는 합류한 요청도 반환되지 않음
+            assertFalse(follower.isDone());
+
+            release.countDown();
+            leader.get(5, TimeUnit.SECONDS);
+            follower.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(1, coalescer.getExecutedCount());
+        assertEquals(1, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("🚨 먼저 실행한 요청의 예외를 합류한 요청도 그대로 받음")
+    void refresh_LeaderFails_ShouldPropagateToFollowers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Runnable failingTask = () -> {
+            started.countDown();
+            await(release);
+            throw new BusinessException(ErrorCode.HOLIDAY_UPDATE_FAILED);
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> leader = executor.submit(() -> coalescer.refresh("KR", 2024, failingTask));
+            started.await(5, TimeUnit.SECONDS);
+
+            Future<?> follower = executor.submit(() -> coalescer.refresh("KR", 2024, () -> fail("실행되면 안 됨")));
+            waitUntilCoalesced(1);
+            release.countDown();
+
+            ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(BusinessException.class, leaderError.getCause());
+            assertSame(leaderError.getCause(), followerError.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("⏱️ 먼저 실행한 요청이 끝나지 않으면 합류한 요청은 대기 한도 후 타임아웃으로 실패")
+    void refresh_LeaderHangs_ShouldTimeOutFollowers() throws Exception {
+        HolidayRefreshCoalescer shortWait = new HolidayRefreshCoalescer(Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Runnable hangingTask = () -> {
+            started.countDown();
+            await(release);
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> leader = executor.submit(() -> shortWait.refresh("KR", 2024, hangingTask));
+            started.await(5, TimeUnit.SECONDS);
+
+            Future<?> follower = executor.submit(() -> shortWait.refresh("KR", 2024, () -> fail("실행되면 안 됨")));
+            ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+
+            // 합류한 요청이 포기해도 먼저 실행한 요청은 계속 진행
+            assertFalse(leader.isDone());
+            release.countDown();
+            leader.get(5, TimeUnit.SECONDS);
+
+            BusinessException cause = assertInstanceOf(BusinessException.class, followerError.getCause());
+            assertEquals(ErrorCode.EXTERNAL_API_TIMEOUT, cause.getErrorCode());
+            assertEquals(1, shortWait.getTimedOutCount());
+        }
+    }
+
+    @Test
+    @DisplayName("🛠️ 대기 한도는 Nager 호출의 시도별 (허가 대기 + 타임아웃)과 재시도 대기를 모두 더한 값")
+    void maxWait_ShouldCoverNagerTimeoutAndRetries() {
+        // 3번 시도 x (30s + 3s) + 재시도 2번 x max(10s, 30s) + 저장 여유 10s
+        HolidayRefreshCoalescer configured = new HolidayRefreshCoalescer(Duration.ofSeconds(3), Duration.ofSeconds(30),
+                2, Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofSeconds(10));
+
+        assertEquals(Duration.ofSeconds(169), configured.getMaxWait());
+    }
+
+    @Test
+    @DisplayName("🔄 끝난 작업 이후의 요청과 다른 국가/연도 요청은 새로 실행")
+    void refresh_SequentialOrDifferentKey_ShouldExecuteEach() {
+        AtomicInteger executions = new AtomicInteger();
+
+        coalescer.refresh("KR", 2024, executions::incrementAndGet);
+        coalescer.refresh("KR", 2024, executions::incrementAndGet);
+        coalescer.refresh("KR", 2025, executions::incrementAndGet);
+        coalescer.refresh("US", 2024, executions::incrementAndGet);
+
+        assertEquals(4, executions.get());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("📊 실행/합류 수를 메트릭으로 노출")
+    void bindTo_ShouldRegisterCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+
+        coalescer.refresh("KR", 2024, () -> { });
+
+        assertEquals(1.0, registry.get(HolidayRefreshCoalescer.METRIC_NAME).tag("result", "executed").functionCounter().count());
+        assertEquals(0.0, registry.get(HolidayRefreshCoalescer.METRIC_NAME).tag("result", "coalesced").functionCounter().count());
+        assertEquals(0.0, registry.get("holiday.refresh.in-flight").gauge().value());
+    }
+
+    private void waitUntilCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, coalescer.getCoalescedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.cache.HolidayCountCache;
+import com.planitsquare.assignment_jaehyuk.cache.HolidayListCache;
+import com.planitsquare.assignment_jaehyuk.client.NagerDateApiClient;
+import com.planitsquare.assignment_jaehyuk.config.QueryDslConfig;
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidayUpdateForm;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayChunkedWriter;
+import com.planitsquare.assignment_jaehyuk.search.HolidayColumnarIndex;
+import com.planitsquare.assignment_jaehyuk.search.HolidayTextIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * updateHolidayList가 외부 API 응답을 기다리는 동안, searchHolidayList가 캐시 적중 시 DB 커넥션과 트랜잭션을 잡지 않는지 검증
+ * DataSource를 프록시로 감싸 빌려간 커넥션 수와 아직 닫지 않은 커넥션 수를 센다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({HolidayService.class, HolidayRefreshCoalescer.class, HolidayMetrics.class, HolidayBulkRepository.class, QueryDslConfig.class,
+        HolidayServiceConnectionHoldTest.ConnectionTrackingConfig.class})
+@DisplayName("HolidayService 커넥션 점유 테스트")
+class HolidayServiceConnectionHoldTest {
+
+    private static final AtomicInteger openConnections = new AtomicInteger();
+    private static final AtomicInteger acquiredConnections = new AtomicInteger();
+
+    @Autowired
+    private HolidayService holidayService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private NagerDateApiClient nagerDateApiClient;
+
+    @MockitoBean
+    private HolidayChunkedWriter holidayChunkedWriter;
+
+    @MockitoBean
+    private HolidayListCache holidayListCache;
+
+    @MockitoBean
+    private HolidayCountCache holidayCountCache;
+
+    @MockitoBean
+    private HolidayColumnarIndex holidayColumnarIndex;
+
+    @MockitoBean
+    private HolidayTextIndex holidayTextIndex;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM holiday");
+        jdbcTemplate.update("DELETE FROM holiday_fingerprint");
+    }
+
+    @Test
+    @DisplayName("✅ 외부 API 조회 중에는 커넥션/트랜잭션 없이 대기하고, 응답 반영은 별도 트랜잭션으로 저장")
+    void updateHolidayList_WhileFetching_ShouldNotHoldConnection() {
+        // Given
+        AtomicInteger connectionsDuringFetch = new AtomicInteger(-1);
+        AtomicBoolean transactionDuringFetch = new AtomicBoolean(true);
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenAnswer(invocation -> {
+            connectionsDuringFetch.set(openConnections.get());
+            transactionDuringFetch.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return holidays();
+        });
+
+        // When
+        holidayService.updateHolidayList(updateForm());
+
+        // Then
+        assertEquals(0, connectionsDuringFetch.get());
+        assertFalse(transactionDuringFetch.get());
+        assertEquals(0, openConnections.get());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday_fingerprint", Integer.class));
+    }
+
+    @Test
+    @DisplayName("🔁 조건부 조회(지문 있음)도 커넥션을 반환한 뒤 외부 API를 호출")
+    void updateHolidayList_ConditionalFetch_ShouldNotHoldConnection() {
+        // Given: 첫 동기화로 지문 저장
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(holidays());
+        holidayService.updateHolidayList(updateForm());
+
+        AtomicInteger connectionsDuringFetch = new AtomicInteger(-1);
+        when(nagerDateApiClient.getPublicHolidaysIfModified("KR", 2024)).thenAnswer(invocation -> {
+            connectionsDuringFetch.set(openConnections.get());
+            return Optional.empty();
+        });
+
+        // When
+        holidayService.updateHolidayList(updateForm());
+
+        // Then
+        assertEquals(0, connectionsDuringFetch.get());
+        assertEquals(0, openConnections.get());
+    }
+
+    @Test
+    @DisplayName("⚡ 기본 검색 캐시 적중 시 트랜잭션을 시작하지 않고 커넥션도 빌리지 않음")
+    void searchHolidayList_OnCacheHit_ShouldNotOpenTransaction() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        AtomicBoolean transactionDuringLookup = new AtomicBoolean(true);
+        when(holidayListCache.get(eq("KR"), eq(2024), eq(pageable), any())).thenAnswer(invocation -> {
+            transactionDuringLookup.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return Page.<HolidayResponse>empty(pageable);
+        });
+        acquiredConnections.set(0);
+
+        // When
+        holidayService.searchHolidayList("KR", 2024, pageable);
+
+        // Then
+        assertFalse(transactionDuringLookup.get());
+        assertEquals(0, acquiredConnections.get());
+    }
+
+    @Test
+    @DisplayName("🔁 기본 검색 캐시 미스 시 조회하는 동안만 읽기 전용 트랜잭션을 사용")
+    void searchHolidayList_OnCacheMiss_ShouldLoadInReadOnlyTransaction() {
+        // Given
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(holidays());
+        holidayService.updateHolidayList(updateForm());
+
+        Pageable pageable = PageRequest.of(0, 10);
+        AtomicBoolean transactionBeforeLoad = new AtomicBoolean(true);
+        when(holidayListCache.get(eq("KR"), eq(2024), eq(pageable), any())).thenAnswer(invocation -> {
+            transactionBeforeLoad.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.<Supplier<Page<HolidayResponse>>>getArgument(3).get();
+        });
+        acquiredConnections.set(0);
+
+        // When
+        Page<HolidayResponse> result = holidayService.searchHolidayList("KR", 2024, pageable);
+
+        // Then
+        assertFalse(transactionBeforeLoad.get());
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, acquiredConnections.get());
+        assertEquals(0, openConnections.get());
+    }
+
+    private HolidayUpdateForm updateForm() {
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+        return updateForm;
+    }
+
+    private List<HolidayDto> holidays() {
+        return List.of(
+                HolidayDto.builder().countryCode("KR").date(LocalDate.of(2024, 1, 1)).name("New Year's Day").build(),
+                HolidayDto.builder().countryCode("KR").date(LocalDate.of(2024, 3, 1)).name("Independence Movement Day").build()
+        );
+    }
+
+    @TestConfiguration
+    static class ConnectionTrackingConfig {
+
+        @Bean
+        static BeanPostProcessor connectionTrackingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? trackingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource trackingDataSource(DataSource target) {
+            return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        if (result instanceof Connection connection) {
+                            openConnections.incrementAndGet();
+                            acquiredConnections.incrementAndGet();
+                            return trackingConnection(connection);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Connection trackingConnection(Connection target) {
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                            openConnections.decrementAndGet();
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.planitsquare.assignment_jaehyuk.service;
+
+import com.planitsquare.assignment_jaehyuk.cache.HolidayCountCache;
+import com.planitsquare.assignment_jaehyuk.cache.HolidayListCache;
+import com.planitsquare.assignment_jaehyuk.client.NagerDateApiClient;
+import com.planitsquare.assignment_jaehyuk.config.QueryDslConfig;
+import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayChunkedWriter;
+import com.planitsquare.assignment_jaehyuk.search.HolidayColumnarIndex;
+import com.planitsquare.assignment_jaehyuk.search.HolidayTextIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * saveHolidayList가 실행하는 JDBC 문장 수가 저장 건수와 무관하게 국가 수에만 비례하는지 검증
+ * DataSource를 프록시로 감싸 Statement 실행(execute*, executeBatch) 횟수를 센다.
+ */
+@DataJpaTest
+@Import({HolidayService.class, HolidayRefreshCoalescer.class, HolidayMetrics.class, HolidayBulkRepository.class, QueryDslConfig.class,
+        HolidayServiceStatementCountTest.StatementCountingConfig.class})
+@DisplayName("HolidayService 저장 쿼리 수 테스트")
+class HolidayServiceStatementCountTest {
+
+    private static final AtomicInteger executedStatements = new AtomicInteger();
+
+    @Autowired
+    private HolidayService holidayService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private NagerDateApiClient nagerDateApiClient;
+
+    @MockitoBean
+    private HolidayChunkedWriter holidayChunkedWriter;
+
+    @MockitoBean
+    private HolidayListCache holidayListCache;
+
+    @MockitoBean
+    private HolidayCountCache holidayCountCache;
+
+    @MockitoBean
+    private HolidayColumnarIndex holidayColumnarIndex;
+
+    @MockitoBean
+    private HolidayTextIndex holidayTextIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 국가별 첫 해 1월 1일은 이미 저장된 상태
+        for (String countryCode : List.of("KR", "US")) {
+            jdbcTemplate.update("""
+                    INSERT INTO holiday (id, country_code, country_name, date, name)
+                    VALUES (NEXT VALUE FOR holiday_seq, ?, ?, DATE '2020-01-01', 'New Year''s Day')
+                    """, countryCode, countryCode);
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 1년치와 6년치 저장 시 실행 문장 수가 같음 (국가당 조회 1번 + id 예약 1번 + 배치 INSERT 1번)")
+    void saveHolidayList_StatementCount_ShouldNotGrowWithRows() {
+        int oneYearStatements = countStatements(() -> holidayService.saveHolidayList("Mixed", holidays(2020, 2020)));
+        int sixYearStatements = countStatements(() -> holidayService.saveHolidayList("Mixed", holidays(2021, 2026)));
+
+        assertEquals(oneYearStatements, sixYearStatements);
+        // 국가별 기존 날짜 조회 2 + id 예약 1 + 배치 INSERT 1 + 지문 무효화 조회 1
+        assertEquals(5, sixYearStatements);
+
+        Integer savedCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday", Integer.class);
+        // 기존 2건 + 2020년(1월 1일 중복 제외) + 2021~2026년
+        assertEquals(2 + (2 * 20 - 2) + 2 * 6 * 20, savedCount);
+    }
+
+    private List<HolidayDto> holidays(int startYear, int endYear) {
+        return IntStream.rangeClosed(startYear, endYear)
+                .boxed()
+                .flatMap(year -> List.of("KR", "US").stream()
+                        .flatMap(countryCode -> IntStream.range(0, 20)
+                                .mapToObj(i -> HolidayDto.builder()
+                                        .countryCode(countryCode)
+                                        .date(LocalDate.of(year, 1, 1).plusDays(i * 7L))
+                                        .name(i == 0 ? "New Year's Day" : "Holiday " + i)
+                                        .build())))
+                .toList();
+    }
+
+    private int countStatements(Runnable action) {
+        executedStatements.set(0);
+        action.run();
+        return executedStatements.get();
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? countingProxy(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T countingProxy(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    executedStatements.incrementAndGet();
+                }
+
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+                if (result instanceof Connection connection) {
+                    return countingProxy(connection, Connection.class);
+                }
+                if (result instanceof Statement statement && !(target instanceof Statement)) {
+                    return countingProxy(statement, statementType(statement));
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Class<Statement> statementType(Statement statement) {
+            if (statement instanceof CallableStatement) {
+                return (Class<Statement>) (Class<?>) CallableStatement.class;
+            }
+            if (statement instanceof PreparedStatement) {
+                return (Class<Statement>) (Class<?>) PreparedStatement.class;
+            }
+            return Statement.class;
+        }
+    }
+}
@@ -1,33 +1,64 @@
 package com.planitsquare.assignment_jaehyuk.service;
 
+import com.planitsquare.assignment_jaehyuk.cache.HolidayCountCache;
+import com.planitsquare.assignment_jaehyuk.cache.HolidayListCache;
 import com.planitsquare.assignment_jaehyuk.client.NagerDateApiClient;
 import com.planitsquare.assignment_jaehyuk.dto.external.HolidayDto;
+import com.planitsquare.assignment_jaehyuk.dto.request.HolidayCursor;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidayDeleteForm;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidaySearchCondition;
 import com.planitsquare.assignment_jaehyuk.dto.request.HolidayUpdateForm;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayDetailResponse;
 import com.planitsquare.assignment_jaehyuk.dto.response.HolidayResponse;
+import com.planitsquare.assignment_jaehyuk.dto.response.HolidaySliceResponse;
+import com.planitsquare.assignment_jaehyuk.error.ErrorCode;
+import com.planitsquare.assignment_jaehyuk.error.exception.BusinessException;
+import com.planitsquare.assignment_jaehyuk.error.exception.ExternalApiRejectedException;
 import com.planitsquare.assignment_jaehyuk.entity.Holiday;
+import com.planitsquare.assignment_jaehyuk.entity.HolidayFingerprint;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayBulkRepository.UpsertResult;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayChunkedWriter;
+import com.planitsquare.assignment_jaehyuk.repository.HolidayFingerprintRepository;
 import com.planitsquare.assignment_jaehyuk.repository.HolidayRepository;
+import com.planitsquare.assignment_jaehyuk.search.HolidayColumnarIndex;
+import com.planitsquare.assignment_jaehyuk.util.DateUtils;
+import com.planitsquare.assignment_jaehyuk.util.EpochDaySet;
+import com.planitsquare.assignment_jaehyuk.util.HolidayHashUtils;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -45,10 +76,47 @@ class HolidayServiceTest {
     @Mock
     private NagerDateApiClient nagerDateApiClient;
 
+    @Mock
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Mock
+    private HolidayChunkedWriter holidayChunkedWriter;
+
+    @Mock
+    private HolidayFingerprintRepository holidayFingerprintRepository;
+
+    @Spy
+    private HolidayListCache holidayListCache = new HolidayListCache(1000, Duration.ofHours(1));
+
+    @Spy
+    private HolidayCountCache holidayCountCache = new HolidayCountCache(100, Duration.ofSeconds(30));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HolidayColumnarIndex holidayColumnarIndex;
+
+    @Spy
+    private HolidayRefreshCoalescer holidayRefreshCoalescer = new HolidayRefreshCoalescer(Duration.ofSeconds(30));
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private HolidayMetrics holidayMetrics = new HolidayMetrics();
+
+    @Captor
+    private ArgumentCaptor<List<Holiday>> holidayListCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private HolidayDto testHolidayDto;
 
     @BeforeEach
     void setUp() {
+        holidayMetrics.bindTo(meterRegistry);
+
         testHolidayDto = HolidayDto.builder()
                 .countryCode("KR")
                 .date(LocalDate.of(2024, 1, 1))
@@ -60,6 +128,10 @@ class HolidayServiceTest {
                 .types(Arrays.asList("Public"))
                 .counties(Collections.emptyList())
                 .build();
+
+        // 키 기준 저장은 전달된 공휴일을 모두 추가한 것으로 응답
+        lenient().when(holidayBulkRepository.bulkUpsert(anyList()))
+                .thenAnswer(invocation -> new UpsertResult(invocation.<List<Holiday>>getArgument(0).size(), 0, 0));
     }
 
     @Test
@@ -69,7 +141,8 @@ class HolidayServiceTest {
         holidayService.saveHolidayList("Korea", null);
 
         // then
-        verify(holidayRepository, never()).saveAll(any());
+        verify(holidayBulkRepository, never()).findExistingDates(any(), any());
+        verify(holidayBulkRepository, never()).bulkInsert(any());
     }
 
     @Test
@@ -79,7 +152,8 @@ class HolidayServiceTest {
         holidayService.saveHolidayList("Korea", Collections.emptyList());
 
         // then
-        verify(holidayRepository, never()).saveAll(any());
+        verify(holidayBulkRepository, never()).findExistingDates(any(), any());
+        verify(holidayBulkRepository, never()).bulkInsert(any());
     }
 
     @Test
@@ -87,15 +161,16 @@ class HolidayServiceTest {
     void saveHolidayList_WithValidData_ShouldSaveSuccessfully() {
         // given
         List<HolidayDto> holidayDtoList = Collections.singletonList(testHolidayDto);
-        when(holidayRepository.existsByCountryCodeAndDate("KR", LocalDate.of(2024, 1, 1)))
-                .thenReturn(false);
+        when(holidayBulkRepository.findExistingDates(eq("KR"), any()))
+                .thenReturn(existingDates());
 
         // when
         holidayService.saveHolidayList("Korea", holidayDtoList);
 
         // then
-        verify(holidayRepository).existsByCountryCodeAndDate("KR", LocalDate.of(2024, 1, 1));
-        verify(holidayRepository).saveAll(anyList());
+        verify(holidayBulkRepository).findExistingDates("KR",
+                new DateUtils.DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1)));
+        verify(holidayBulkRepository).bulkInsert(anyList());
     }
 
     @Test
@@ -103,15 +178,15 @@ class HolidayServiceTest {
     void saveHolidayList_WithDuplicateData_ShouldFilterDuplicates() {
         // given
         List<HolidayDto> holidayDtoList = Arrays.asList(testHolidayDto);
-        when(holidayRepository.existsByCountryCodeAndDate("KR", LocalDate.of(2024, 1, 1)))
-                .thenReturn(true);
+        when(holidayBulkRepository.findExistingDates(eq("KR"), any()))
+                .thenReturn(existingDates(LocalDate.of(2024, 1, 1)));
 
         // when
         holidayService.saveHolidayList("Korea", holidayDtoList);
 
         // then
-        verify(holidayRepository).existsByCountryCodeAndDate("KR", LocalDate.of(2024, 1, 1));
-        verify(holidayRepository, never()).saveAll(any());
+        verify(holidayBulkRepository).findExistingDates(eq("KR"), any());
+        verify(holidayBulkRepository, never()).bulkInsert(any());
     }
 
     @Test
@@ -127,23 +202,90 @@ class HolidayServiceTest {
 
         List<HolidayDto> holidayDtoList = Arrays.asList(testHolidayDto, newHolidayDto);
 
-        when(holidayRepository.existsByCountryCodeAndDate("KR", LocalDate.of(2024, 1, 1)))
-                .thenReturn(true);  // 중복
-        when(holidayRepository.existsByCountryCodeAndDate("KR", LocalDate.of(2024, 3, 1)))
-                .thenReturn(false); // 새로운 데이터
+        when(holidayBulkRepository.findExistingDates(eq("KR"), any()))
+                .thenReturn(existingDates(LocalDate.of(2024, 1, 1)));  // 1월 1일만 중복
 
         // when
         holidayService.saveHolidayList("Korea", holidayDtoList);
 
         // then
-        ArgumentCaptor<List<Holiday>> captor = ArgumentCaptor.forClass(List.class);
-        verify(holidayRepository).saveAll(captor.capture());
+        verify(holidayBulkRepository).findExistingDates("KR",
+                new DateUtils.DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1)));
+
+        verify(holidayBulkRepository).bulkInsert(holidayListCaptor.capture());
 
-        List<Holiday> savedHolidays = captor.getValue();
+        List<Holiday> savedHolidays = holidayListCaptor.getValue();
         assertEquals(1, savedHolidays.size());
         assertEquals("삼일절", savedHolidays.get(0).getLocalName());
     }
 
+    @Test
+    @DisplayName("국가/날짜/이름이 같은 지역 공휴일은 하나로 병합해 저장")
+    void saveHolidayList_WithSameKeyRegionalHolidays_ShouldMergeBeforeSave() {
+        // given
+        HolidayDto northRegion = HolidayDto.builder()
+                .countryCode("KR")
+                .date(LocalDate.of(2024, 3, 1))
+                .name("Regional Day")
+                .global(false)
+                .types(List.of("Public"))
+                .counties(List.of("KR-11"))
+                .build();
+        HolidayDto southRegion = HolidayDto.builder()
+                .countryCode("KR")
+                .date(LocalDate.of(2024, 3, 1))
+                .name("Regional Day")
+                .global(false)
+                .types(List.of("Optional"))
+                .counties(List.of("KR-26"))
+                .build();
+
+        when(holidayBulkRepository.findExistingDates(eq("KR"), any()))
+                .thenReturn(existingDates());
+
+        // when
+        holidayService.saveHolidayList("Korea", List.of(northRegion, southRegion));
+
+        // then
+        verify(holidayBulkRepository).bulkInsert(holidayListCaptor.capture());
+
+        List<Holiday> savedHolidays = holidayListCaptor.getValue();
+        assertEquals(1, savedHolidays.size());
+        assertEquals("Public,Optional", savedHolidays.get(0).getTypes());
+        assertEquals("KR-11,KR-26", savedHolidays.get(0).getCounties());
+    }
+
+    @Test
+    @DisplayName("여러 해 데이터도 국가별 기존 날짜 조회 한 번, 배치 INSERT 한 번으로 저장")
+    void saveHolidayList_WithMultiYearData_ShouldQueryOncePerCountry() {
+        // given
+        List<HolidayDto> holidayDtoList = IntStream.rangeClosed(2020, 2025)
+                .boxed()
+                .flatMap(year -> Stream.of(
+                        HolidayDto.builder().countryCode("KR").date(LocalDate.of(year, 1, 1)).name("New Year's Day").build(),
+                        HolidayDto.builder().countryCode("KR").date(LocalDate.of(year, 3, 1)).name("Independence Movement Day").build(),
+                        HolidayDto.builder().countryCode("US").date(LocalDate.of(year, 7, 4)).name("Independence Day").build()))
+                .toList();
+
+        when(holidayBulkRepository.findExistingDates(eq("KR"), any()))
+                .thenReturn(existingDates(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 3, 1)));
+        when(holidayBulkRepository.findExistingDates(eq("US"), any()))
+                .thenReturn(existingDates());
+
+        // when
+        holidayService.saveHolidayList("Korea", holidayDtoList);
+
+        // then
+        verify(holidayBulkRepository).findExistingDates("KR",
+                new DateUtils.DateRange(LocalDate.of(2020, 1, 1), LocalDate.of(2025, 3, 1)));
+        verify(holidayBulkRepository).findExistingDates("US",
+                new DateUtils.DateRange(LocalDate.of(2020, 7, 4), LocalDate.of(2025, 7, 4)));
+
+        verify(holidayBulkRepository, times(1)).bulkInsert(holidayListCaptor.capture());
+        assertEquals(16, holidayListCaptor.getValue().size());
+        verifyNoInteractions(holidayRepository);
+    }
+
     @Test
     @DisplayName("국가코드와 연도로 공휴일 검색 - 정상 케이스")
     void searchHolidayList_WithValidParams_ShouldReturnPagedResults() {
@@ -193,6 +335,26 @@ class HolidayServiceTest {
         assertEquals(LocalDate.of(2024, 1, 1), response.getDate());
     }
 
+    @Test
+    @DisplayName("같은 국가/연도/페이지 재조회시 캐시 사용, 변경 이벤트 후 다시 조회")
+    void searchHolidayList_ShouldServeFromCacheUntilChanged() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(holidayRepository.findByCountryCodeAndDateBetween(eq("KR"), any(), any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+
+        // when
+        holidayService.searchHolidayList("KR", 2024, pageable);
+        holidayService.searchHolidayList("KR", 2024, pageable);
+        holidayListCache.onHolidayChanged(HolidayChangedEvent.of("US", 2024));
+        holidayService.searchHolidayList("KR", 2024, pageable);
+        holidayListCache.onHolidayChanged(HolidayChangedEvent.of("KR", 2024));
+        holidayService.searchHolidayList("KR", 2024, pageable);
+
+        // then
+        verify(holidayRepository, times(2)).findByCountryCodeAndDateBetween(eq("KR"), any(), any(), eq(pageable));
+    }
+
     @Test
     @DisplayName("검색 결과가 없는 경우 빈 페이지 반환")
     void searchHolidayList_WithNoResults_ShouldReturnEmptyPage() {
@@ -380,8 +542,8 @@ class HolidayServiceTest {
         holidayService.updateHolidayList(updateForm);
 
         // then
-        verify(holidayRepository).save(any(Holiday.class));
-        verify(holidayRepository, never()).deleteAllByIdInBatch(anyList()); // 삭제할 데이터가 없으므로 호출되지 않음
+        verify(holidayBulkRepository).bulkUpsert(argThat(list -> list.size() == 1));
+        verify(holidayBulkRepository).bulkDelete(argThat(List::isEmpty)); // 삭제할 데이터 없음
     }
 
     @Test
@@ -406,15 +568,56 @@ class HolidayServiceTest {
                 eq(LocalDate.of(2024, 12, 31))
         )).thenReturn(Arrays.asList(existingHoliday));
 
-        // API에서는 해당 공휴일이 없음 (삭제됨)
-        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(Collections.emptyList());
+        // API에서는 해당 공휴일이 없음 (삭제됨) - 응답 전체가 비면 삭제하지 않으므로 다른 공휴일은 남아 있다
+        HolidayDto remainingHoliday = HolidayDto.builder()
+                .date(LocalDate.of(2024, 3, 1))
+                .localName("삼일절")
+                .name("Independence Movement Day")
+                .countryCode("KR")
+                .fixed(true)
+                .global(true)
+                .types(List.of("Public"))
+                .build();
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(List.of(remainingHoliday));
 
         // when
         holidayService.updateHolidayList(updateForm);
 
         // then
-        verify(holidayRepository).deleteAllByIdInBatch(Arrays.asList(1L));
-        verify(holidayRepository, never()).save(any(Holiday.class));
+        verify(holidayBulkRepository).bulkDelete(Arrays.asList(1L));
+        verify(holidayBulkRepository).bulkUpsert(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    @DisplayName("📊 재동기화로 반영한 행 수를 작업별로 집계")
+    void updateHolidayList_ShouldCountAppliedRows() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        Holiday removedHoliday = new Holiday(
+                "KR", "Korea", LocalDate.of(2024, 3, 1),
+                "삼일절", "Independence Movement Day", true, true, 1949, "Public", null
+        );
+        removedHoliday.setId(1L);
+
+        when(holidayRepository.findByCountryCodeAndCountryNameAndDateBetween(
+                eq("KR"), eq("Korea"), any(LocalDate.class), any(LocalDate.class)
+        )).thenReturn(List.of(removedHoliday));
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(List.of(testHolidayDto));
+        when(holidayBulkRepository.bulkDelete(List.of(1L))).thenReturn(1);
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        assertEquals(1.0, meterRegistry.get(HolidayMetrics.ROWS_COUNTER)
+                .tags("path", "refresh", "operation", "inserted").counter().count());
+        assertEquals(1.0, meterRegistry.get(HolidayMetrics.ROWS_COUNTER)
+                .tags("path", "refresh", "operation", "deleted").counter().count());
+        assertNull(meterRegistry.find(HolidayMetrics.ROWS_COUNTER).tags("operation", "updated").counter());
     }
 
     @Test
@@ -445,9 +648,6 @@ class HolidayServiceTest {
                 eq(LocalDate.of(2024, 12, 31))
         )).thenReturn(Arrays.asList(existingHoliday1, existingHoliday2));
 
-        // 업데이트할 공휴일 findById Mock 추가
-        when(holidayRepository.findById(1L)).thenReturn(Optional.of(existingHoliday1));
-
         // API 데이터 (1개는 업데이트, 1개는 새로 추가, 크리스마스는 삭제)
         List<HolidayDto> apiHolidays = Arrays.asList(
                 // 기존 신정 업데이트
@@ -483,14 +683,238 @@ class HolidayServiceTest {
         holidayService.updateHolidayList(updateForm);
 
         // then
-        verify(holidayRepository).findById(1L); // 업데이트 대상 조회 확인
-        verify(holidayRepository).save(any(Holiday.class)); // 새 공휴일 추가
-        verify(holidayRepository).deleteAllByIdInBatch(Arrays.asList(2L)); // 크리스마스 삭제
+        verify(holidayRepository, never()).findById(anyLong()); // 이미 조회한 엔티티를 재조회하지 않음
+        verify(holidayBulkRepository).bulkUpdate(argThat(list -> list.size() == 1 && list.get(0).getId() == 1L)); // 신정 업데이트
+        verify(holidayBulkRepository).bulkUpsert(argThat(list -> list.size() == 1)); // 새 공휴일 추가
+        verify(holidayBulkRepository).bulkDelete(Arrays.asList(2L)); // 크리스마스 삭제
+    }
+
+    @Test
+    @DisplayName("내용이 같은 공휴일만 있으면 쓰기 작업을 하지 않음")
+    void updateHolidayList_WithUnchangedHolidays_ShouldNotWrite() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        Holiday existingHoliday = new Holiday(
+                "KR", "Korea", LocalDate.of(2024, 1, 1),
+                "신정", "New Year's Day", true, true, 1949, "Public", null
+        );
+        existingHoliday.setId(1L);
+
+        when(holidayRepository.findByCountryCodeAndCountryNameAndDateBetween(
+                eq("KR"), eq("Korea"),
+                eq(LocalDate.of(2024, 1, 1)),
+                eq(LocalDate.of(2024, 12, 31))
+        )).thenReturn(Arrays.asList(existingHoliday));
+
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(List.of(testHolidayDto));
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        verifyNoInteractions(holidayBulkRepository);
+    }
+
+    @Test
+    @DisplayName("같은 날짜에 여러 공휴일이 있어도 이름 기준으로 짝지어 비교")
+    void updateHolidayList_WithSameDateHolidays_ShouldMatchByName() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        Holiday existingHoliday1 = new Holiday(
+                "KR", "Korea", LocalDate.of(2024, 1, 1),
+                "신정", "New Year's Day", true, true, 1949, "Public", null
+        );
+        existingHoliday1.setId(1L);
+
+        Holiday existingHoliday2 = new Holiday(
+                "KR", "Korea", LocalDate.of(2024, 1, 1),
+                "지역 공휴일", "Local Day", false, false, null, "Optional", "KR-11"
+        );
+        existingHoliday2.setId(2L);
+
+        when(holidayRepository.findByCountryCodeAndCountryNameAndDateBetween(
+                eq("KR"), eq("Korea"),
+                eq(LocalDate.of(2024, 1, 1)),
+                eq(LocalDate.of(2024, 12, 31))
+        )).thenReturn(Arrays.asList(existingHoliday1, existingHoliday2));
+
+        HolidayDto localDay = HolidayDto.builder()
+                .countryCode("KR")
+                .date(LocalDate.of(2024, 1, 1))
+                .localName("지역 공휴일")
+                .name("Local Day")
+                .fixed(false)
+                .global(false)
+                .types(List.of("Optional"))
+                .counties(List.of("KR-11", "KR-26"))  // 지역 추가
+                .build();
+
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(List.of(localDay, testHolidayDto));
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        verify(holidayBulkRepository).bulkUpdate(argThat(list -> list.size() == 1 && list.get(0).getId() == 2L));
+        verify(holidayBulkRepository).bulkUpsert(argThat(List::isEmpty));
+        verify(holidayBulkRepository).bulkDelete(argThat(List::isEmpty));
+    }
+
+    @Test
+    @DisplayName("응답 지문이 같으면 기존 데이터를 조회하지 않고 종료")
+    void updateHolidayList_WithSamePayloadHash_ShouldSkipRefresh() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        List<HolidayDto> apiHolidays = List.of(testHolidayDto);
+        when(nagerDateApiClient.getPublicHolidaysIfModified("KR", 2024)).thenReturn(Optional.of(apiHolidays));
+        when(holidayFingerprintRepository.findByCountryCodeAndYear("KR", 2024))
+                .thenReturn(Optional.of(HolidayFingerprint.builder()
+                        .countryCode("KR")
+                        .year(2024)
+                        .payloadHash(HolidayHashUtils.payloadHash(apiHolidays))
+                        .build()));
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        verify(holidayRepository, never()).findByCountryCodeAndCountryNameAndDateBetween(any(), any(), any(), any());
+        verifyNoInteractions(holidayBulkRepository);
+    }
+
+    @Test
+    @DisplayName("응답 지문이 다르면 반영 후 지문 갱신")
+    void updateHolidayList_WithChangedPayloadHash_ShouldUpdateFingerprint() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        HolidayFingerprint fingerprint = HolidayFingerprint.builder()
+                .countryCode("KR")
+                .year(2024)
+                .payloadHash("previous")
+                .build();
+
+        List<HolidayDto> apiHolidays = List.of(testHolidayDto);
+        when(nagerDateApiClient.getPublicHolidaysIfModified("KR", 2024)).thenReturn(Optional.of(apiHolidays));
+        when(holidayFingerprintRepository.findByCountryCodeAndYear("KR", 2024)).thenReturn(Optional.of(fingerprint));
+        when(holidayRepository.findByCountryCodeAndCountryNameAndDateBetween(
+                eq("KR"), eq("Korea"),
+                eq(LocalDate.of(2024, 1, 1)),
+                eq(LocalDate.of(2024, 12, 31))
+        )).thenReturn(Collections.emptyList());
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        verify(holidayBulkRepository).bulkUpsert(argThat(list -> list.size() == 1));
+        assertTrue(fingerprint.matches(HolidayHashUtils.payloadHash(apiHolidays)));
+    }
+
+    @Test
+    @DisplayName("변경된 공휴일이 있을 때만 변경 이벤트 발행")
+    void updateHolidayList_ShouldPublishChangedEventOnlyWhenChanged() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(List.of(testHolidayDto));
+        when(holidayBulkRepository.bulkUpsert(anyList())).thenReturn(new UpsertResult(1, 0, 0));
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        verify(eventPublisher).publishEvent(HolidayChangedEvent.of("KR", 2024));
+    }
+
+    @Test
+    @DisplayName("조건부 요청이 304를 받으면 DB 작업 없이 종료")
+    void updateHolidayList_WithNotModifiedResponse_ShouldSkipRefresh() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        when(holidayFingerprintRepository.findByCountryCodeAndYear("KR", 2024))
+                .thenReturn(Optional.of(HolidayFingerprint.builder()
+                        .countryCode("KR")
+                        .year(2024)
+                        .payloadHash("previous")
+                        .build()));
+        when(nagerDateApiClient.getPublicHolidaysIfModified("KR", 2024)).thenReturn(Optional.empty());
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        verify(nagerDateApiClient, never()).getPublicHolidays(anyString(), anyInt());
+        verify(holidayRepository, never()).findByCountryCodeAndCountryNameAndDateBetween(any(), any(), any(), any());
+        verifyNoInteractions(holidayBulkRepository);
+    }
+
+    @Test
+    @DisplayName("지문이 없으면 조건부 요청을 보내지 않음")
+    void updateHolidayList_WithoutFingerprint_ShouldFetchUnconditionally() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(List.of(testHolidayDto));
+
+        // when
+        holidayService.updateHolidayList(updateForm);
+
+        // then
+        verify(nagerDateApiClient, never()).getPublicHolidaysIfModified(anyString(), anyInt());
+        verify(holidayFingerprintRepository).save(any(HolidayFingerprint.class));
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 호출이 거절되면 에러 코드를 바꾸지 않고 전달")
+    void updateHolidayList_WhenCircuitOpen_ShouldRethrowRejection() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024))
+                .thenThrow(new ExternalApiRejectedException(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> holidayService.updateHolidayList(updateForm));
+
+        // then
+        assertInstanceOf(ExternalApiRejectedException.class, exception);
+        assertEquals(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN, exception.getErrorCode());
+        verifyNoInteractions(holidayBulkRepository);
     }
 
     @Test
-    @DisplayName("API에서 빈 데이터 반환시 모든 기존 공휴일 삭제")
-    void updateHolidayList_WithEmptyApiData_ShouldDeleteAllExisting() {
+    @DisplayName("API에서 빈 데이터 반환시 기존 공휴일을 삭제하지 않고 실패")
+    void updateHolidayList_WithEmptyApiData_ShouldKeepExisting() {
         // given
         HolidayUpdateForm updateForm = new HolidayUpdateForm();
         updateForm.setCountryCode("KR");
@@ -510,15 +934,78 @@ class HolidayServiceTest {
                 eq(LocalDate.of(2024, 12, 31))
         )).thenReturn(Arrays.asList(existingHoliday));
 
-        // API에서 빈 데이터 반환
+        // API에서 빈 데이터 반환 (404도 클라이언트에서 빈 목록으로 바뀐다)
+        when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(Collections.emptyList());
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> holidayService.updateHolidayList(updateForm));
+
+        // then
+        assertEquals(ErrorCode.HOLIDAY_API_EMPTY_RESPONSE, exception.getErrorCode());
+        verifyNoInteractions(holidayBulkRepository);
+        verify(holidayFingerprintRepository, never()).save(any(HolidayFingerprint.class));
+        verify(nagerDateApiClient).forgetPublicHolidaysValidator("KR", 2024);
+    }
+
+    @Test
+    @DisplayName("지문이 있는 재동기화에서 빈 응답을 받아도 기존 공휴일과 지문을 유지")
+    void updateHolidayList_WithEmptyModifiedResponse_ShouldKeepExistingAndFingerprint() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        HolidayFingerprint fingerprint = HolidayFingerprint.builder()
+                .countryCode("KR")
+                .year(2024)
+                .payloadHash("previous")
+                .build();
+        when(holidayFingerprintRepository.findByCountryCodeAndYear("KR", 2024)).thenReturn(Optional.of(fingerprint));
+        when(nagerDateApiClient.getPublicHolidaysIfModified("KR", 2024)).thenReturn(Optional.of(List.of()));
+
+        Holiday existingHoliday = new Holiday(
+                "KR", "Korea", LocalDate.of(2024, 1, 1),
+                "신정", "New Year's Day", true, true, 1949, "Public", null
+        );
+        existingHoliday.setId(1L);
+        when(holidayRepository.findByCountryCodeAndCountryNameAndDateBetween(
+                eq("KR"), eq("Korea"),
+                eq(LocalDate.of(2024, 1, 1)),
+                eq(LocalDate.of(2024, 12, 31))
+        )).thenReturn(List.of(existingHoliday));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> holidayService.updateHolidayList(updateForm));
+
+        // then
+        assertEquals(ErrorCode.HOLIDAY_API_EMPTY_RESPONSE, exception.getErrorCode());
+        assertTrue(fingerprint.matches("previous"));
+        verifyNoInteractions(holidayBulkRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("기존 공휴일이 없으면 빈 응답도 정상 반영")
+    void updateHolidayList_WithEmptyApiDataAndNoExisting_ShouldSucceed() {
+        // given
+        HolidayUpdateForm updateForm = new HolidayUpdateForm();
+        updateForm.setCountryCode("KR");
+        updateForm.setCountryName("Korea");
+        updateForm.setYear(2024);
+
+        when(holidayRepository.findByCountryCodeAndCountryNameAndDateBetween(any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
         when(nagerDateApiClient.getPublicHolidays("KR", 2024)).thenReturn(Collections.emptyList());
 
         // when
         holidayService.updateHolidayList(updateForm);
 
         // then
-        verify(holidayRepository).deleteAllByIdInBatch(Arrays.asList(1L));
-        verify(holidayRepository, never()).save(any(Holiday.class));
+        verify(holidayBulkRepository, never()).bulkDelete(anyList());
+        verify(holidayFingerprintRepository).save(any(HolidayFingerprint.class));
     }
 
     @Test
@@ -549,7 +1036,7 @@ class HolidayServiceTest {
 
         Page<HolidayResponse> expectedPage = new PageImpl<>(responseList, pageable, 1);
 
-        when(holidayRepository.searchHolidayListWithSearchCondition(searchCondition, pageable))
+        when(holidayRepository.searchHolidayListWithSearchCondition(eq(searchCondition), eq(pageable), any(LongSupplier.class)))
                 .thenReturn(expectedPage);
 
         // when
@@ -564,7 +1051,194 @@ class HolidayServiceTest {
         assertEquals("KR", response.getCountryCode());
         assertEquals("신정", response.getLocalName());
 
-        verify(holidayRepository).searchHolidayListWithSearchCondition(searchCondition, pageable);
+        verify(holidayRepository).searchHolidayListWithSearchCondition(eq(searchCondition), eq(pageable), any(LongSupplier.class));
+    }
+
+    @Test
+    @DisplayName("📊 고급 검색 시간을 조건 조합 태그로 기록")
+    void searchHolidayListWithSearchCondition_ShouldRecordPredicateShape() {
+        // given
+        HolidaySearchCondition searchCondition = new HolidaySearchCondition();
+        searchCondition.setLaunchYear(2024);
+        searchCondition.setCountryName("Korea");
+        searchCondition.setEndDate(LocalDate.of(2024, 12, 31));
+
+        Pageable pageable = PageRequest.of(0, 10);
+        when(holidayRepository.searchHolidayListWithSearchCondition(eq(searchCondition), eq(pageable), any(LongSupplier.class)))
+                .thenReturn(Page.empty(pageable));
+
+        // when
+        holidayService.searchHolidayListWithSearchCondition(searchCondition, pageable);
+
+        // then
+        Timer timer = meterRegistry.get(HolidayMetrics.SEARCH_TIMER)
+                .tags("endpoint", "advanced", "predicates", "countryName,dateRange,launchYear")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals("none", HolidayMetrics.predicateShape(new HolidaySearchCondition()));
+    }
+
+    @Test
+    @DisplayName("고급 검색 - 같은 검색 조건의 전체 건수는 정렬/페이지가 달라도 캐시 사용")
+    void searchHolidayListWithSearchCondition_WithSameCondition_ShouldReuseCachedCount() {
+        // given
+        HolidaySearchCondition firstCondition = new HolidaySearchCondition();
+        firstCondition.setName("Day");
+        firstCondition.setSortBy("date");
+        HolidaySearchCondition secondCondition = new HolidaySearchCondition();
+        secondCondition.setName("Day");
+        secondCondition.setCountryName("");
+        secondCondition.setSortBy("name");
+
+        when(holidayRepository.searchHolidayListWithSearchCondition(any(), any(), any(LongSupplier.class)))
+                .thenAnswer(invocation -> new PageImpl<HolidayResponse>(List.of(), invocation.getArgument(1),
+                        invocation.<LongSupplier>getArgument(2).getAsLong()));
+        when(holidayRepository.countHolidayListWithSearchCondition(any())).thenReturn(120L);
+
+        // when
+        Page<HolidayResponse> first = holidayService.searchHolidayListWithSearchCondition(firstCondition, PageRequest.of(3, 10));
+        Page<HolidayResponse> second = holidayService.searchHolidayListWithSearchCondition(secondCondition, PageRequest.of(5, 20));
+
+        // then
+        assertEquals(120L, first.getTotalElements());
+        assertEquals(120L, second.getTotalElements());
+        verify(holidayRepository, times(1)).countHolidayListWithSearchCondition(any());
+    }
+
+    @Test
+    @DisplayName("고급 검색 - includeTotal=false 이면 COUNT 없이 전체 건수 없는 Slice 반환")
+    void searchHolidayListWithSearchCondition_WithoutTotal_ShouldSkipCount() {
+        // given
+        HolidaySearchCondition searchCondition = new HolidaySearchCondition();
+        Pageable pageable = PageRequest.of(2, 2);
+        List<HolidayResponse> content = List.of(
+                HolidayResponse.builder().id(1L).build(),
+                HolidayResponse.builder().id(2L).build()
+        );
+        when(holidayRepository.searchHolidayListWithoutCount(searchCondition, pageable))
+                .thenReturn(new SliceImpl<>(content, pageable, true));
+
+        // when
+        Slice<HolidayResponse> result = holidayService.searchHolidayListWithSearchCondition(searchCondition, pageable, false);
+
+        // then: 추정한 전체 건수를 담은 Page 가 아니어야 함
+        assertFalse(result instanceof Page);
+        assertEquals(2, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        verify(holidayRepository, never()).countHolidayListWithSearchCondition(any());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 다음 데이터가 있으면 마지막 행 기준 커서 반환, 전체 건수는 조회하지 않음")
+    void searchHolidaySliceWithSearchCondition_WithNext_ShouldReturnCursorOfLastRow() {
+        // given
+        HolidaySearchCondition searchCondition = new HolidaySearchCondition();
+        searchCondition.setSortBy("name");
+        searchCondition.setSortDirection("asc");
+
+        List<HolidayResponse> content = List.of(
+                HolidayResponse.builder().id(3L).name("Christmas").date(LocalDate.of(2024, 12, 25)).build(),
+                HolidayResponse.builder().id(7L).name("New Year's Day").date(LocalDate.of(2024, 1, 1)).build()
+        );
+        when(holidayRepository.searchHolidaySliceWithSearchCondition(searchCondition, null, 2))
+                .thenReturn(new SliceImpl<>(content, Pageable.ofSize(2), true));
+
+        // when
+        HolidaySliceResponse result = holidayService.searchHolidaySliceWithSearchCondition(searchCondition, null, 2, false);
+
+        // then
+        assertTrue(result.isHasNext());
+        assertNull(result.getTotalCount());
+        HolidayCursor cursor = HolidayCursor.decode(result.getNextCursor());
+        assertEquals(HolidayCursor.SortKey.NAME, cursor.sortKey());
+        assertFalse(cursor.descending());
+        assertEquals("New Year's Day", cursor.value());
+        assertEquals(7L, cursor.lastId());
+        verify(holidayRepository, never()).countHolidayListWithSearchCondition(any());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 마지막 데이터면 커서 없음, 요청 시 전체 건수 포함")
+    void searchHolidaySliceWithSearchCondition_WithLastSliceAndTotal_ShouldReturnTotalWithoutCursor() {
+        // given
+        HolidaySearchCondition searchCondition = new HolidaySearchCondition();
+        HolidayCursor cursor = HolidayCursor.after(searchCondition,
+                HolidayResponse.builder().id(10L).date(LocalDate.of(2024, 6, 1)).build());
+
+        when(holidayRepository.searchHolidaySliceWithSearchCondition(eq(searchCondition), eq(cursor), eq(100)))
+                .thenReturn(new SliceImpl<>(List.of(), Pageable.ofSize(100), false));
+        when(holidayRepository.countHolidayListWithSearchCondition(searchCondition)).thenReturn(42L);
+
+        // when
+        HolidaySliceResponse result = holidayService.searchHolidaySliceWithSearchCondition(
+                searchCondition, cursor.encode(), 100, true);
+
+        // then
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(42L, result.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 정렬이 다른 요청의 커서나 손상된 커서는 거부")
+    void searchHolidaySliceWithSearchCondition_WithInvalidCursor_ShouldThrowException() {
+        // given
+        HolidaySearchCondition searchCondition = new HolidaySearchCondition();
+        searchCondition.setSortBy("countryName");
+        String dateCursor = HolidayCursor.after(new HolidaySearchCondition(),
+                HolidayResponse.builder().id(10L).date(LocalDate.of(2024, 6, 1)).build()).encode();
+
+        // when & then
+        BusinessException mismatch = assertThrows(BusinessException.class, () ->
+                holidayService.searchHolidaySliceWithSearchCondition(searchCondition, dateCursor, 10, false));
+        BusinessException broken = assertThrows(BusinessException.class, () ->
+                holidayService.searchHolidaySliceWithSearchCondition(searchCondition, "not-a-cursor", 10, false));
+
+        assertEquals(ErrorCode.INVALID_CURSOR, mismatch.getErrorCode());
+        assertEquals(ErrorCode.INVALID_CURSOR, broken.getErrorCode());
+        verifyNoInteractions(holidayRepository);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 날짜 커서의 정렬 값이 날짜가 아니면 INVALID_CURSOR로 거부")
+    void searchHolidaySliceWithSearchCondition_WithTamperedDateCursor_ShouldThrowInvalidCursor() {
+        // given: 형식은 맞지만 정렬 값이 날짜가 아닌 토큰
+        HolidaySearchCondition searchCondition = new HolidaySearchCondition();
+        String validCursor = HolidayCursor.after(searchCondition,
+                HolidayResponse.builder().id(5L).date(LocalDate.of(2024, 6, 1)).build()).encode();
+        String raw = new String(Base64.getUrlDecoder().decode(validCursor), StandardCharsets.UTF_8);
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.replace("2024-06-01", "x").getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                holidayService.searchHolidaySliceWithSearchCondition(searchCondition, tampered, 10, false));
+
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+        verifyNoInteractions(holidayRepository);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 정렬이 같아도 필터 조건이 다른 요청의 커서는 거부")
+    void searchHolidaySliceWithSearchCondition_WithCursorFromOtherFilter_ShouldThrowInvalidCursor() {
+        // given: 국가명 Korea 조건으로 발급한 커서
+        HolidaySearchCondition issuedCondition = new HolidaySearchCondition();
+        issuedCondition.setCountryName("Korea");
+        String cursor = HolidayCursor.after(issuedCondition,
+                HolidayResponse.builder().id(5L).date(LocalDate.of(2024, 6, 1)).build()).encode();
+
+        HolidaySearchCondition otherCondition = new HolidaySearchCondition();
+        otherCondition.setCountryName("Japan");
+        HolidaySearchCondition sameCondition = new HolidaySearchCondition();
+        sameCondition.setCountryName("Korea");
+        when(holidayRepository.searchHolidaySliceWithSearchCondition(eq(sameCondition), any(HolidayCursor.class), eq(10)))
+                .thenReturn(new SliceImpl<>(List.of(), Pageable.ofSize(10), false));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                holidayService.searchHolidaySliceWithSearchCondition(otherCondition, cursor, 10, false));
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+        assertDoesNotThrow(() -> holidayService.searchHolidaySliceWithSearchCondition(sameCondition, cursor, 10, false));
     }
 
     @Test
@@ -578,7 +1252,7 @@ class HolidayServiceTest {
 
         Page<HolidayResponse> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-        when(holidayRepository.searchHolidayListWithSearchCondition(searchCondition, pageable))
+        when(holidayRepository.searchHolidayListWithSearchCondition(eq(searchCondition), eq(pageable), any(LongSupplier.class)))
                 .thenReturn(emptyPage);
 
         // when
@@ -589,7 +1263,7 @@ class HolidayServiceTest {
         assertEquals(0, result.getTotalElements());
         assertTrue(result.getContent().isEmpty());
 
-        verify(holidayRepository).searchHolidayListWithSearchCondition(searchCondition, pageable);
+        verify(holidayRepository).searchHolidayListWithSearchCondition(eq(searchCondition), eq(pageable), any(LongSupplier.class));
     }
 
 // ========== deleteHoliday 테스트 ==========
@@ -613,6 +1287,8 @@ class HolidayServiceTest {
 
         // then
         verify(holidayRepository).deleteByCountryCodeAndYear("KR", 2024);
+        verify(holidayFingerprintRepository).deleteByCountryCodeAndYear("KR", 2024);
+        verify(eventPublisher).publishEvent(HolidayChangedEvent.of("KR", 2024));
     }
 
     @Test
@@ -634,6 +1310,7 @@ class HolidayServiceTest {
 
         // then
         verify(holidayRepository).deleteByCountryCodeAndYear("KR", 2024);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -656,4 +1333,12 @@ class HolidayServiceTest {
         // then
         verify(holidayRepository).deleteByCountryCodeAndYear("US", 2023);
     }
-}
\ No newline at end of file
+
+    private EpochDaySet existingDates(LocalDate... dates) {
+        EpochDaySet existingDates = new EpochDaySet(new DateUtils.DateRange(LocalDate.of(2000, 1, 1), LocalDate.of(2100, 12, 31)));
+        for (LocalDate date : dates) {
+            existingDates.add(date);
+        }
+        return existingDates;
+    }
+}